@@ -37,9 +37,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-jackson")
+    implementation("org.springframework.boot:spring-boot-starter-mail")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:3.0.0")
     implementation("org.springframework.modulith:spring-modulith-starter-core")
     implementation("org.springframework.modulith:spring-modulith-starter-jpa")
+    // EventSerializer SPI, implemented by ProtobufEventSerializer
+    implementation("org.springframework.modulith:spring-modulith-events-core")
 
     // Database
     implementation("org.springframework.boot:spring-boot-starter-flyway")
@@ -66,6 +69,7 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:postgresql")
     testImplementation("org.springframework.modulith:spring-modulith-starter-test")
+    testImplementation("com.icegreen:greenmail-junit5:2.1.5")
 
     // gRPC and Protobuf
     implementation("io.grpc:grpc-netty-shaded:1.77.0")
@@ -170,6 +174,71 @@ sourceSets {
     }
 }
 
+// JMH microbenchmarks (src/jmh/java) for hot code: run all with `./gradlew jmh`,
+// or a subset with `./gradlew jmh -Pjmh.includes=Bcrypt`
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Run the JMH microbenchmarks with the GC profiler (allocation rate per operation)"
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    args(providers.gradleProperty("jmh.includes").getOrElse(".*"))
+    args("-prof", "gc", "-rf", "json", "-rff", results.get().asFile.absolutePath)
+    outputs.upToDateWhen { false }
+    doFirst { results.get().asFile.parentFile.mkdirs() }
+}
+
+// End-to-end load tests (src/loadTest/java) against the app and a Testcontainers PostgreSQL:
+// `./gradlew loadTest -Pload.scenarios=login-storm,read-me -Pload.users=10000 -Pload.duration=2m`
+// and the refresh-token rotation harness: `./gradlew rotationHarness -Protation.strategy=<label>`
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "loadTestImplementation"("org.testcontainers:postgresql")
+    "loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Run the end-to-end load test; writes HDR histograms and results.json to build/reports/loadtest"
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("org.nkcoder.loadtest.LoadTestRunner")
+    jvmArgs("-Xms1g", "-Xmx1g", "-XX:+UseG1GC")
+    systemProperty("load.output", layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath)
+    systemProperties(providers.gradlePropertiesPrefixedBy("load.").get())
+    outputs.upToDateWhen { false }
+}
+
+tasks.register<JavaExec>("rotationHarness") {
+    description = "Measure refresh-token rotation under contention and check that tokens stay single-use"
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("org.nkcoder.loadtest.RotationContentionHarness")
+    jvmArgs("-Xms1g", "-Xmx1g", "-XX:+UseG1GC")
+    systemProperty("rotation.output", layout.buildDirectory.dir("reports/rotation").get().asFile.absolutePath)
+    systemProperties(providers.gradlePropertiesPrefixedBy("rotation.").get())
+    outputs.upToDateWhen { false }
+}
+
 tasks.test {
     maxParallelForks = Runtime.getRuntime().availableProcessors()
     failFast = true
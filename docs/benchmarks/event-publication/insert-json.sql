@@ -0,0 +1,9 @@
+-- pgbench script: one UserRegisteredEvent publication as written with event-publication.serialization.format=json
+\set n random(1, 1000000000)
+INSERT INTO event_publication (id, listener_id, event_type, serialized_event, publication_date, status, completion_attempts)
+VALUES (gen_random_uuid(),
+        'org.nkcoder.notification.application.UserEventListener.onUserRegistered(org.nkcoder.shared.kernel.domain.event.UserRegisteredEvent)',
+        'org.nkcoder.shared.kernel.domain.event.UserRegisteredEvent',
+        '{"userId":"' || gen_random_uuid() || '","email":"user' || :n || '@example.com","userName":"User ' || :n
+            || '","occurredOn":"2026-03-14T15:09:26.535897"}',
+        now(), 'PUBLISHED', 0);
@@ -0,0 +1,14 @@
+-- pgbench script: the same publication as written with event-publication.serialization.format=protobuf
+-- (EventsProto.UserRegistered, Base64-encoded; the payload is assembled byte by byte to match UserRegisteredEventCodec)
+\set n random(1, 1000000000)
+INSERT INTO event_publication (id, listener_id, event_type, serialized_event, publication_date, status, completion_attempts)
+SELECT gen_random_uuid(),
+       'org.nkcoder.notification.application.UserEventListener.onUserRegistered(org.nkcoder.shared.kernel.domain.event.UserRegisteredEvent)',
+       'org.nkcoder.shared.kernel.domain.event.UserRegisteredEvent',
+       encode('\x0a10'::bytea || uuid_send(gen_random_uuid())
+                  || '\x12'::bytea || set_byte('\x00'::bytea, 0, octet_length(email)) || convert_to(email, 'UTF8')
+                  || '\x1a'::bytea || set_byte('\x00'::bytea, 0, octet_length(name)) || convert_to(name, 'UTF8')
+                  || '\x220c08a6f4d5cd0610a8c7c4ff01'::bytea,
+              'base64'),
+       now(), 'PUBLISHED', 0
+FROM (SELECT 'user' || :n || '@example.com' AS email, 'User ' || :n AS name) AS payload;
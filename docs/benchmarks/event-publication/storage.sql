@@ -0,0 +1,12 @@
+-- Storage per event after a benchmark run (psql -f storage.sql)
+SELECT count(*)                                                           AS publications,
+       round(avg(pg_column_size(serialized_event)))                        AS payload_bytes,
+       pg_size_pretty(pg_table_size('event_publication'))                 AS table_size,
+       pg_size_pretty(pg_indexes_size('event_publication'))               AS indexes_size,
+       round(pg_total_relation_size('event_publication') / greatest(count(*), 1)::numeric) AS total_bytes_per_event
+FROM event_publication;
+
+SELECT indexrelname AS index, pg_size_pretty(pg_relation_size(indexrelid)) AS size
+FROM pg_stat_user_indexes
+WHERE relname = 'event_publication'
+ORDER BY pg_relation_size(indexrelid) DESC;
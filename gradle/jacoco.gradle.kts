@@ -20,6 +20,7 @@ val jacocoExclusions = listOf(
     "**/request/**",
     "**/response/**",
     "**/entity/**",
+    "**/projection/**",
     // Mappers (simple transformations)
     "**/mapper/**",
     // Domain value objects (simple wrappers with no business logic)
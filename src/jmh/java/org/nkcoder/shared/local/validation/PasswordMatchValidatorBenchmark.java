@@ -0,0 +1,47 @@
+package org.nkcoder.shared.local.validation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The reflective record lookup {@link PasswordMatchValidator} does for each validated request. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordMatchValidatorBenchmark {
+
+    @PasswordMatch
+    public record Request(String currentPassword, String newPassword, String confirmPassword) {}
+
+    private final PasswordMatchValidator validator = new PasswordMatchValidator();
+    private Request matching;
+    private Request mismatching;
+
+    @Setup
+    public void setUp() {
+        validator.initialize(Request.class.getAnnotation(PasswordMatch.class));
+        matching = new Request("OldPassword1", "NewPassword1", "NewPassword1");
+        mismatching = new Request("OldPassword1", "NewPassword1", "NewPassword2");
+    }
+
+    @Benchmark
+    public boolean matching() {
+        return validator.isValid(matching, null);
+    }
+
+    @Benchmark
+    public boolean mismatching() {
+        return validator.isValid(mismatching, null);
+    }
+}
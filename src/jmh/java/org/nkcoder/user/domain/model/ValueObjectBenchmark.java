@@ -0,0 +1,36 @@
+package org.nkcoder.user.domain.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Creating the value objects built for every request and every loaded user (validation, normalization). */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueObjectBenchmark {
+
+    // Fields rather than constants, so the JIT cannot fold the inputs
+    public String email = "Some.User-Name@Example.com";
+    public String name = "  Some User Name  ";
+
+    @Benchmark
+    public Email email() {
+        return Email.of(email);
+    }
+
+    @Benchmark
+    public UserName userName() {
+        return UserName.of(name);
+    }
+}
@@ -0,0 +1,66 @@
+package org.nkcoder.user.infrastructure.persistence.mapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.nkcoder.user.application.dto.response.UserDto;
+import org.nkcoder.user.domain.model.User;
+import org.nkcoder.user.domain.model.UserRole;
+import org.nkcoder.user.infrastructure.persistence.entity.UserJpaEntity;
+import org.nkcoder.user.infrastructure.persistence.projection.UserView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Mapping between the JPA entity, the domain model and the read projection, as done on every user load and save. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserPersistenceMapperBenchmark {
+
+    private final UserPersistenceMapper mapper = new UserPersistenceMapper();
+    private UserJpaEntity entity;
+    private User user;
+    private UserView view;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID id = UUID.randomUUID();
+        String hash = "$2a$12$R9h/cIPz0gi.URNNX3kh2OPST9/PgBkqquzi.Ss7KIUgO2t0jWMUW";
+        entity = new UserJpaEntity(
+                id, "user@example.com", hash, "Some User", UserRole.MEMBER, true, now, now.minusDays(30), now);
+        user = mapper.toDomain(entity);
+        view = new UserView(id, "user@example.com", "Some User", UserRole.MEMBER, true, now, now.minusDays(30), now);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public UserJpaEntity toEntity() {
+        return mapper.toEntity(user);
+    }
+
+    @Benchmark
+    public UserJpaEntity roundTrip() {
+        return mapper.toEntity(mapper.toDomain(entity));
+    }
+
+    @Benchmark
+    public UserDto toDto() {
+        return mapper.toDto(view);
+    }
+}
@@ -0,0 +1,54 @@
+package org.nkcoder.user.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.domain.model.HashedPassword;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hashing and verifying a password at the production cost (12) and one step either side, to show what changing the cost
+ * does to login and registration latency. Each step doubles the work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BcryptPasswordEncoderAdapterBenchmark {
+
+    private static final String PASSWORD = "Password123";
+
+    @Param({"10", "12", "13"})
+    public int cost;
+
+    private BcryptPasswordEncoderAdapter passwordEncoder;
+    private HashedPassword hashedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BcryptPasswordEncoderAdapter(cost, new AuthMetrics(new SimpleMeterRegistry()));
+        hashedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public HashedPassword encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, hashedPassword);
+    }
+}
@@ -0,0 +1,70 @@
+package org.nkcoder.user.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.nkcoder.infrastructure.config.JwtProperties;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.domain.model.Email;
+import org.nkcoder.user.domain.model.TokenFamily;
+import org.nkcoder.user.domain.model.TokenPair;
+import org.nkcoder.user.domain.model.UserId;
+import org.nkcoder.user.domain.model.UserRole;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+import org.nkcoder.user.domain.service.TokenGenerator.RefreshTokenClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Signing a token pair (one access and one refresh token) and verifying each token type. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenGeneratorAdapterBenchmark {
+
+    private JwtTokenGeneratorAdapter tokenGenerator;
+    private UserId userId;
+    private Email email;
+    private TokenFamily tokenFamily;
+    private TokenPair tokenPair;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties(
+                new JwtProperties.Secret(
+                        "benchmark-access-secret-key-of-at-least-64-bytes-for-hs512-signing-0123456789",
+                        "benchmark-refresh-secret-key-of-at-least-64-bytes-for-hs512-signing-0123456789"),
+                new JwtProperties.Expiration("15m", "7d"),
+                "user-service");
+        tokenGenerator = new JwtTokenGeneratorAdapter(properties, new AuthMetrics(new SimpleMeterRegistry()));
+        tokenGenerator.validateKeyStrength();
+        userId = UserId.generate();
+        email = Email.of("benchmark@example.com");
+        tokenFamily = TokenFamily.generate();
+        tokenPair = tokenGenerator.generateTokenPair(userId, email, UserRole.MEMBER, tokenFamily);
+    }
+
+    @Benchmark
+    public TokenPair generateTokenPair() {
+        return tokenGenerator.generateTokenPair(userId, email, UserRole.MEMBER, tokenFamily);
+    }
+
+    @Benchmark
+    public AccessTokenClaims validateAccessToken() {
+        return tokenGenerator.validateAccessToken(tokenPair.accessToken());
+    }
+
+    @Benchmark
+    public RefreshTokenClaims validateRefreshToken() {
+        return tokenGenerator.validateRefreshToken(tokenPair.refreshToken());
+    }
+}
@@ -0,0 +1,91 @@
+package org.nkcoder.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/** Blocking REST client for the load generator; meant to be called from virtual threads. */
+public final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public Response login(String email, String password) {
+        return post("/api/auth/login", "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, password));
+    }
+
+    public Response refresh(String refreshToken) {
+        return post("/api/auth/refresh", "{\"refreshToken\":\"%s\"}".formatted(refreshToken));
+    }
+
+    public Response get(String path, String accessToken) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + accessToken)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build());
+    }
+
+    public Response post(String path, String json) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    /** Token pair of a successful login or refresh response. */
+    public Tokens tokens(Response response) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("HTTP " + response.status() + ": " + response.body());
+        }
+        JsonNode tokens = jsonMapper.readTree(response.body()).path("data").path("tokens");
+        return new Tokens(
+                tokens.path("accessToken").asString(),
+                tokens.path("refreshToken").asString());
+    }
+
+    private Response send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            return new Response(Response.IO_ERROR, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(Response.IO_ERROR, "interrupted");
+        }
+    }
+
+    /**
+     * Status and body of one call.
+     *
+     * @param status HTTP status, or {@link #IO_ERROR} when no response arrived (connection failure, timeout)
+     */
+    public record Response(int status, String body) {
+
+        public static final int IO_ERROR = 0;
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    public record Tokens(String accessToken, String refreshToken) {}
+}
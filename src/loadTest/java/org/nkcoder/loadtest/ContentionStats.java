@@ -0,0 +1,94 @@
+package org.nkcoder.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Contention counters of the refresh use case, summed over all application instances, read from their meter registries
+ * and from PostgreSQL. {@link #minus} turns two readings into the numbers of one phase.
+ *
+ * @param retries transactions of the {@code refresh} use case rolled back and retried, by reason (serialization
+ *     failure, deadlock)
+ * @param retriesExhausted refreshes that failed after the last retry
+ * @param tokenLookups executions of the locking token lookup ({@code SELECT ... FOR UPDATE})
+ * @param tokenLookupMillis total time spent in that lookup; the query is a unique-index probe, so under contention this
+ *     is essentially time spent waiting for the row lock
+ * @param coalesced refreshes answered by the single-flight group without their own rotation (joined or replayed)
+ * @param deadlocks deadlocks PostgreSQL detected in the database
+ */
+public record ContentionStats(
+        Map<String, Long> retries,
+        long retriesExhausted,
+        long tokenLookups,
+        double tokenLookupMillis,
+        long coalesced,
+        long deadlocks) {
+
+    private static final String USE_CASE = "refresh";
+
+    public static ContentionStats read(List<? extends ApplicationContext> contexts) {
+        Map<String, Long> retries = new TreeMap<>();
+        long exhausted = 0;
+        long lookups = 0;
+        double lookupMillis = 0;
+        long coalesced = 0;
+        for (ApplicationContext context : contexts) {
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            for (Counter counter : registry.find(TransactionRunner.RETRY_METRIC)
+                    .tag("use_case", USE_CASE)
+                    .counters()) {
+                retries.merge(counter.getId().getTag("reason"), (long) counter.count(), Long::sum);
+            }
+            exhausted += sum(registry.find(TransactionRunner.EXHAUSTED_METRIC)
+                    .tag("use_case", USE_CASE)
+                    .counters());
+            for (Timer timer : registry.find(AuthMetrics.STAGE_METRIC)
+                    .tag("operation", "refresh")
+                    .tag("stage", "token_lookup")
+                    .timers()) {
+                lookups += timer.count();
+                lookupMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+            }
+            coalesced += sum(registry.find("single_flight.calls")
+                    .tag("name", USE_CASE)
+                    .tag("result", "joined")
+                    .counters());
+            coalesced += sum(registry.find("single_flight.calls")
+                    .tag("name", USE_CASE)
+                    .tag("result", "replayed")
+                    .counters());
+        }
+        long deadlocks = contexts.getFirst()
+                .getBean(JdbcClient.class)
+                .sql("SELECT deadlocks FROM pg_stat_database WHERE datname = current_database()")
+                .query(Long.class)
+                .single();
+        return new ContentionStats(retries, exhausted, lookups, lookupMillis, coalesced, deadlocks);
+    }
+
+    public ContentionStats minus(ContentionStats before) {
+        Map<String, Long> retryDelta = new TreeMap<>(retries);
+        before.retries.forEach((reason, count) -> retryDelta.merge(reason, -count, Long::sum));
+        return new ContentionStats(
+                retryDelta,
+                retriesExhausted - before.retriesExhausted,
+                tokenLookups - before.tokenLookups,
+                tokenLookupMillis - before.tokenLookupMillis,
+                coalesced - before.coalesced,
+                deadlocks - before.deadlocks);
+    }
+
+    private static long sum(Collection<Counter> counters) {
+        return (long) counters.stream().mapToDouble(Counter::count).sum();
+    }
+}
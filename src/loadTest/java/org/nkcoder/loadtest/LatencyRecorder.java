@@ -0,0 +1,38 @@
+package org.nkcoder.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies (nanoseconds, 3 significant digits) and outcome counts of one scenario, safe to record from any number of
+ * threads. Every request is recorded, failed ones included, so a fast error path cannot make the percentiles look
+ * better; the outcome counts tell how many failed.
+ */
+public final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public void record(String outcome, long nanos) {
+        recorder.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /** Everything recorded so far; call once, after recording has stopped. */
+    public Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public Map<String, Long> outcomes() {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,112 @@
+package org.nkcoder.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.nkcoder.loadtest.Scenario.VirtualUser;
+import org.nkcoder.loadtest.UserSeeder.SeededUsers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * End-to-end load test: starts {@link LoadTestStack}, seeds users and runs each configured {@link Scenario} as a closed
+ * loop of virtual users, one virtual thread each. Run it with {@code ./gradlew loadTest}; see {@link LoadTestSettings}
+ * for the knobs.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final long CREATE_RETRY_NANOS = 100_000_000L;
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ResultWriter writer = new ResultWriter(settings.output());
+        List<ScenarioResult> results = new ArrayList<>();
+        try (LoadTestStack stack = LoadTestStack.start(Map.of())) {
+            SeededUsers users = UserSeeder.seed(stack.context(), settings.users());
+            ApiClient client = new ApiClient(stack.baseUrl());
+            for (Scenario scenario : settings.scenarios()) {
+                logger.info(
+                        "Running {} with {} virtual users ({} warm-up, {} measured)",
+                        scenario.tag(),
+                        settings.concurrency(),
+                        settings.warmup(),
+                        settings.duration());
+                LatencyRecorder recorder = run(scenario, client, users, settings);
+                Histogram histogram = recorder.histogram();
+                writer.writeHistogram(scenario.tag(), histogram);
+                ScenarioResult result = ScenarioResult.of(
+                        scenario.tag(), settings.concurrency(), settings.duration(), histogram, recorder.outcomes());
+                logger.info(
+                        "{}: {} req/s, latency {} ms, outcomes {}",
+                        scenario.tag(),
+                        Math.round(result.throughputPerSecond()),
+                        result.latencyMillis(),
+                        result.outcomes());
+                results.add(result);
+            }
+        }
+        Path summary = writer.writeSummary(settings, results);
+        logger.info("Results written to {}", summary.toAbsolutePath());
+    }
+
+    private static LatencyRecorder run(
+            Scenario scenario, ApiClient client, SeededUsers users, LoadTestSettings settings) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        long thinkNanos = settings.thinkTime().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                executor.submit(() -> {
+                    VirtualUser user = create(scenario, client, users, end);
+                    if (user != null) {
+                        drive(user, recorder, measureFrom, end, thinkNanos);
+                    }
+                });
+            }
+        }
+        return recorder;
+    }
+
+    /** Creating a virtual user logs in, which the bulkhead may reject while all of them start at once: retry. */
+    private static VirtualUser create(Scenario scenario, ApiClient client, SeededUsers users, long end) {
+        while (System.nanoTime() < end) {
+            try {
+                return scenario.create(client, users);
+            } catch (RuntimeException e) {
+                logger.debug("Could not create a virtual user of {}: {}", scenario.tag(), e.getMessage());
+                LockSupport.parkNanos(CREATE_RETRY_NANOS);
+            }
+        }
+        return null;
+    }
+
+    private static void drive(VirtualUser user, LatencyRecorder recorder, long measureFrom, long end, long thinkNanos) {
+        long start;
+        while ((start = System.nanoTime()) < end) {
+            ApiClient.Response response = user.call();
+            if (start >= measureFrom) {
+                recorder.record(String.valueOf(response.status()), System.nanoTime() - start);
+            }
+            if (!response.isSuccess()) {
+                try {
+                    user.afterFailure();
+                } catch (RuntimeException e) {
+                    // Recovery is attempted again after the next failed request
+                }
+            }
+            if (thinkNanos > 0) {
+                LockSupport.parkNanos(thinkNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.nkcoder.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of a load-test run, read from {@code load.*} system properties (the {@code loadTest} Gradle task passes
+ * {@code -Pload.*} project properties through).
+ *
+ * @param scenarios scenarios to run, one after the other ({@code load.scenarios}, comma separated, default all)
+ * @param users number of users seeded before the run ({@code load.users})
+ * @param concurrency virtual users per scenario, each sending one request at a time ({@code load.concurrency})
+ * @param warmup time each scenario runs before latencies are recorded ({@code load.warmup})
+ * @param duration measured time per scenario ({@code load.duration})
+ * @param thinkTime pause of a virtual user between two requests; zero for closed-loop maximum throughput
+ *     ({@code load.think-time})
+ * @param output directory the results are written to ({@code load.output})
+ */
+public record LoadTestSettings(
+        List<Scenario> scenarios,
+        int users,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Path output) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        String scenarios = System.getProperty("load.scenarios", "");
+        return new LoadTestSettings(
+                scenarios.isBlank()
+                        ? List.of(Scenario.values())
+                        : Arrays.stream(scenarios.split(","))
+                                .map(name -> Scenario.valueOf(
+                                        name.trim().toUpperCase(Locale.ROOT).replace('-', '_')))
+                                .toList(),
+                Integer.getInteger("load.users", 1000),
+                Integer.getInteger("load.concurrency", 64),
+                duration("load.warmup", "10s"),
+                duration("load.duration", "60s"),
+                duration("load.think-time", "0s"),
+                Path.of(System.getProperty("load.output", "build/reports/loadtest")));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
@@ -0,0 +1,77 @@
+package org.nkcoder.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.nkcoder.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * The service under load: a PostgreSQL container and one or more application instances started in-process against it,
+ * with the {@code loadtest} profile on random ports. Same image as the integration tests. Several instances share the
+ * database like a multi-instance deployment, but nothing in-process (single-flight groups, bulkheads, caches).
+ */
+public final class LoadTestStack implements AutoCloseable {
+
+    private static final String POSTGRES_IMAGE = "postgres:17-alpine";
+
+    private final PostgreSQLContainer<?> postgres;
+    private final List<ConfigurableApplicationContext> contexts;
+
+    private LoadTestStack(PostgreSQLContainer<?> postgres, List<ConfigurableApplicationContext> contexts) {
+        this.postgres = postgres;
+        this.contexts = contexts;
+    }
+
+    public static LoadTestStack start(Map<String, Object> properties) {
+        return start(1, properties);
+    }
+
+    public static LoadTestStack start(int instances, Map<String, Object> properties) {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE)
+                .withDatabaseName("loadtest")
+                .withUsername("loadtest")
+                .withPassword("loadtest");
+        postgres.start();
+        List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        try {
+            for (int i = 0; i < instances; i++) {
+                contexts.add(new SpringApplicationBuilder(Application.class)
+                        .profiles("loadtest")
+                        .properties(Map.of(
+                                "spring.datasource.url", postgres.getJdbcUrl(),
+                                "spring.datasource.username", postgres.getUsername(),
+                                "spring.datasource.password", postgres.getPassword()))
+                        .properties(properties)
+                        .run());
+            }
+            return new LoadTestStack(postgres, List.copyOf(contexts));
+        } catch (RuntimeException e) {
+            contexts.forEach(ConfigurableApplicationContext::close);
+            postgres.stop();
+            throw e;
+        }
+    }
+
+    /** The first instance. */
+    public ConfigurableApplicationContext context() {
+        return contexts.getFirst();
+    }
+
+    public List<ConfigurableApplicationContext> contexts() {
+        return contexts;
+    }
+
+    /** Base URL of the first instance. */
+    public String baseUrl() {
+        return "http://localhost:" + context().getEnvironment().getRequiredProperty("local.server.port");
+    }
+
+    @Override
+    public void close() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+        postgres.stop();
+    }
+}
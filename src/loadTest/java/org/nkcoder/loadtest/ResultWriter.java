@@ -0,0 +1,71 @@
+package org.nkcoder.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes the results of a run to one directory:
+ *
+ * <ul>
+ *   <li>{@code <name>.hlog} - the latency histogram in HdrHistogram log format (nanoseconds), for
+ *       {@code HistogramLogProcessor} or merging runs
+ *   <li>{@code <name>.hgrm} - the percentile distribution in milliseconds, for the HdrHistogram plotter
+ *   <li>{@code results.json} - settings and the result ({@link ScenarioResult} or a harness-specific report) of every
+ *       scenario
+ * </ul>
+ */
+public final class ResultWriter {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Path directory;
+    private final JsonMapper jsonMapper =
+            JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+    public ResultWriter(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeHistogram(String name, Histogram histogram) {
+        try (PrintStream log = new PrintStream(directory.resolve(name + ".hlog").toFile());
+                PrintStream distribution =
+                        new PrintStream(directory.resolve(name + ".hgrm").toFile())) {
+            HistogramLogWriter writer = new HistogramLogWriter(log);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(histogram.getStartTimeStamp());
+            writer.outputLegend();
+            writer.outputIntervalHistogram(histogram);
+            histogram.outputPercentileDistribution(distribution, NANOS_PER_MILLI);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path writeSummary(Object settings, List<?> results) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("finishedAt", Instant.now().toString());
+        summary.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        summary.put("javaVersion", Runtime.version().toString());
+        summary.put("settings", settings);
+        summary.put("results", results);
+        Path file = directory.resolve("results.json");
+        jsonMapper.writeValue(file.toFile(), summary);
+        return file;
+    }
+}
@@ -0,0 +1,260 @@
+package org.nkcoder.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.HdrHistogram.Histogram;
+import org.nkcoder.loadtest.UserSeeder.SeededUsers;
+import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.user.application.dto.command.LoginCommand;
+import org.nkcoder.user.application.dto.command.RefreshTokenCommand;
+import org.nkcoder.user.application.service.AuthApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Measures what refresh-token rotation costs under contention and checks that a refresh token is still single-use.
+ *
+ * <p>Calls {@link AuthApplicationService#refreshTokens} directly on {@link RotationHarnessSettings#instances()}
+ * application instances sharing one PostgreSQL database, so the numbers are the rotation itself, without HTTP or
+ * bulkheads. With one instance, same-token refreshes are mostly coalesced in-process before they reach the row lock;
+ * with two or more (the default), concurrent refreshes of one token also meet in the database, as in a multi-instance
+ * deployment.
+ *
+ * <ol>
+ *   <li><b>distinct</b>: refreshers each rotate their own token chain for a fixed time, alternating between instances.
+ *       Nothing should be rejected; the cost is the rotation plus any serialization failures between unrelated rows.
+ *   <li><b>collisions</b>: in each round, every one of {@code collisionTokens} tokens is refreshed
+ *       {@code collisionFanout} times at the same moment, spread over the instances.
+ * </ol>
+ *
+ * <p>Invariant: every token is rotated exactly once. All successful refreshes of one token must return the same new
+ * token (in-process duplicates share the winner's result), every other one must be rejected, and at the end each token
+ * family has at most one live refresh token. Violations are listed in {@code results.json} and fail the run.
+ *
+ * <p>The output has the same shape for every strategy: run the harness once per strategy, with its settings as
+ * {@code rotation.property.*} overrides and a {@code rotation.strategy} label, and compare the files.
+ */
+public final class RotationContentionHarness {
+
+    private static final Logger logger = LoggerFactory.getLogger(RotationContentionHarness.class);
+
+    static final String ROTATED = "rotated";
+    static final String REJECTED = "rejected";
+    static final String ERROR = "error";
+
+    private RotationContentionHarness() {}
+
+    /**
+     * Result of one phase.
+     *
+     * @param latency latency and throughput of the refresh calls, by outcome
+     * @param contention lock and retry counters during the phase
+     * @param violations broken single-use guarantees, empty when the invariant held
+     */
+    public record PhaseReport(ScenarioResult latency, ContentionStats contention, List<String> violations) {}
+
+    public static void main(String[] args) {
+        RotationHarnessSettings settings = RotationHarnessSettings.fromSystemProperties();
+        ResultWriter writer = new ResultWriter(settings.output());
+        List<PhaseReport> reports = new ArrayList<>();
+        try (LoadTestStack stack = LoadTestStack.start(settings.instances(), settings.properties())) {
+            SeededUsers users =
+                    UserSeeder.seed(stack.context(), Math.max(settings.refreshers(), settings.collisionTokens()));
+            List<AuthApplicationService> services = stack.contexts().stream()
+                    .map(context -> context.getBean(AuthApplicationService.class))
+                    .toList();
+
+            ContentionStats before = ContentionStats.read(stack.contexts());
+            reports.add(distinct(services, users, settings, writer, stack, before));
+
+            before = ContentionStats.read(stack.contexts());
+            PhaseReport collisions = collisions(services, users, settings, writer, stack, before);
+            List<String> violations = new ArrayList<>(collisions.violations());
+            violations.addAll(liveTokensPerFamily(stack.context().getBean(JdbcClient.class)));
+            reports.add(new PhaseReport(collisions.latency(), collisions.contention(), violations));
+        }
+        Path summary = writer.writeSummary(settings, reports);
+        logger.info("Results written to {}", summary.toAbsolutePath());
+
+        long violations =
+                reports.stream().mapToLong(report -> report.violations().size()).sum();
+        if (violations > 0) {
+            throw new IllegalStateException(
+                    "Single-use invariant violated " + violations + " times, see " + summary.toAbsolutePath());
+        }
+    }
+
+    private static PhaseReport distinct(
+            List<AuthApplicationService> services,
+            SeededUsers users,
+            RotationHarnessSettings settings,
+            ResultWriter writer,
+            LoadTestStack stack,
+            ContentionStats before) {
+        logger.info("Distinct tokens: {} refreshers for {}", settings.refreshers(), settings.duration());
+        LatencyRecorder recorder = new LatencyRecorder();
+        Queue<String> violations = new ConcurrentLinkedQueue<>();
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.refreshers(); i++) {
+                int refresher = i;
+                executor.submit(() -> {
+                    String email = users.email(refresher);
+                    String token = login(services.getFirst(), email);
+                    long start;
+                    for (int call = 0; (start = System.nanoTime()) < end; call++) {
+                        AuthApplicationService service = services.get((refresher + call) % services.size());
+                        String outcome;
+                        String rotated = null;
+                        try {
+                            rotated = service.refreshTokens(new RefreshTokenCommand(token))
+                                    .refreshToken();
+                            outcome = ROTATED;
+                        } catch (AuthenticationException e) {
+                            outcome = REJECTED;
+                            violations.add("Refresher " + refresher + ": own token rejected (" + e.getMessage() + ")");
+                        } catch (RuntimeException e) {
+                            outcome = ERROR;
+                            logger.warn("Refresher {} failed: {}", refresher, e.toString());
+                        }
+                        if (start >= measureFrom) {
+                            recorder.record(outcome, System.nanoTime() - start);
+                        }
+                        token = rotated != null ? rotated : login(service, email);
+                    }
+                });
+            }
+        }
+        ContentionStats contention = ContentionStats.read(stack.contexts()).minus(before);
+        return report("distinct", settings.refreshers(), settings.duration(), recorder, writer, contention, violations);
+    }
+
+    private static PhaseReport collisions(
+            List<AuthApplicationService> services,
+            SeededUsers users,
+            RotationHarnessSettings settings,
+            ResultWriter writer,
+            LoadTestStack stack,
+            ContentionStats before) {
+        int tokens = settings.collisionTokens();
+        int fanout = settings.collisionFanout();
+        logger.info(
+                "Collisions: {} rounds of {} tokens refreshed {} times each",
+                settings.collisionRounds(),
+                tokens,
+                fanout);
+        String[] current = new String[tokens];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < tokens; t++) {
+                int token = t;
+                executor.submit(() -> current[token] = login(services.getFirst(), users.email(token)));
+            }
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<String> violations = new ArrayList<>();
+        long started = System.nanoTime();
+        for (int round = 0; round < settings.collisionRounds(); round++) {
+            List<Queue<String>> issued = new ArrayList<>(tokens);
+            for (int t = 0; t < tokens; t++) {
+                issued.add(new ConcurrentLinkedQueue<>());
+            }
+            CountDownLatch gate = new CountDownLatch(1);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int t = 0; t < tokens; t++) {
+                    for (int request = 0; request < fanout; request++) {
+                        AuthApplicationService service = services.get(request % services.size());
+                        String token = current[t];
+                        Queue<String> results = issued.get(t);
+                        executor.submit(() -> {
+                            awaitQuietly(gate);
+                            long start = System.nanoTime();
+                            String outcome;
+                            try {
+                                results.add(service.refreshTokens(new RefreshTokenCommand(token))
+                                        .refreshToken());
+                                outcome = ROTATED;
+                            } catch (AuthenticationException e) {
+                                outcome = REJECTED;
+                            } catch (RuntimeException e) {
+                                outcome = ERROR;
+                                logger.warn("Colliding refresh failed: {}", e.toString());
+                            }
+                            recorder.record(outcome, System.nanoTime() - start);
+                        });
+                    }
+                }
+                gate.countDown();
+            }
+            for (int t = 0; t < tokens; t++) {
+                Set<String> rotations = new HashSet<>(issued.get(t));
+                if (rotations.size() > 1) {
+                    violations.add("Round " + round + ", token " + t + ": rotated " + rotations.size() + " times");
+                } else if (rotations.isEmpty()) {
+                    violations.add("Round " + round + ", token " + t + ": every refresh was rejected");
+                }
+                current[t] = rotations.isEmpty()
+                        ? login(services.getFirst(), users.email(t))
+                        : rotations.iterator().next();
+            }
+        }
+        Duration measured = Duration.ofNanos(System.nanoTime() - started);
+        ContentionStats contention = ContentionStats.read(stack.contexts()).minus(before);
+        return report("collisions", tokens * fanout, measured, recorder, writer, contention, violations);
+    }
+
+    /** After rotation the old token is gone, so a family (one login) never has more than one live token. */
+    private static List<String> liveTokensPerFamily(JdbcClient jdbcClient) {
+        return jdbcClient
+                .sql("SELECT token_family, count(*) FROM refresh_tokens GROUP BY token_family HAVING count(*) > 1")
+                .query((rs, rowNum) -> "Token family " + rs.getString(1) + " has " + rs.getLong(2) + " live tokens")
+                .list();
+    }
+
+    private static PhaseReport report(
+            String name,
+            int concurrency,
+            Duration measured,
+            LatencyRecorder recorder,
+            ResultWriter writer,
+            ContentionStats contention,
+            Iterable<String> violations) {
+        Histogram histogram = recorder.histogram();
+        writer.writeHistogram(name, histogram);
+        ScenarioResult latency = ScenarioResult.of(name, concurrency, measured, histogram, recorder.outcomes());
+        List<String> found = new ArrayList<>();
+        violations.forEach(found::add);
+        logger.info(
+                "{}: {} refreshes/s, latency {} ms, outcomes {}, {}, {} violations",
+                name,
+                Math.round(latency.throughputPerSecond()),
+                latency.latencyMillis(),
+                latency.outcomes(),
+                contention,
+                found.size());
+        return new PhaseReport(latency, contention, found);
+    }
+
+    private static String login(AuthApplicationService service, String email) {
+        return service.login(new LoginCommand(email, UserSeeder.PASSWORD)).refreshToken();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
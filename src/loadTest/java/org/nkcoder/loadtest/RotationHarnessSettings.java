@@ -0,0 +1,62 @@
+package org.nkcoder.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of a {@link RotationContentionHarness} run, read from {@code rotation.*} system properties (passed through
+ * from {@code -Protation.*} by the {@code rotationHarness} Gradle task).
+ *
+ * @param strategy label of the rotation strategy under test, copied into the results so runs can be compared
+ *     ({@code rotation.strategy})
+ * @param instances application instances sharing the database ({@code rotation.instances})
+ * @param refreshers concurrent refreshers in the distinct-token phase ({@code rotation.refreshers})
+ * @param warmup unrecorded start of the distinct-token phase ({@code rotation.warmup})
+ * @param duration measured length of the distinct-token phase ({@code rotation.duration})
+ * @param collisionRounds rounds of the collision phase ({@code rotation.collision-rounds})
+ * @param collisionTokens tokens refreshed concurrently in each round ({@code rotation.collision-tokens})
+ * @param collisionFanout simultaneous refreshes of each of those tokens, spread over the instances
+ *     ({@code rotation.collision-fanout})
+ * @param properties application properties for every instance, from {@code rotation.property.<name>=<value>}; this is
+ *     how a strategy's settings are applied
+ * @param output directory the results are written to ({@code rotation.output})
+ */
+public record RotationHarnessSettings(
+        String strategy,
+        int instances,
+        int refreshers,
+        Duration warmup,
+        Duration duration,
+        int collisionRounds,
+        int collisionTokens,
+        int collisionFanout,
+        Map<String, Object> properties,
+        Path output) {
+
+    private static final String PROPERTY_PREFIX = "rotation.property.";
+
+    public static RotationHarnessSettings fromSystemProperties() {
+        Map<String, Object> properties = new TreeMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PROPERTY_PREFIX))
+                .forEach(name -> properties.put(name.substring(PROPERTY_PREFIX.length()), System.getProperty(name)));
+        return new RotationHarnessSettings(
+                System.getProperty("rotation.strategy", "pessimistic-serializable"),
+                Integer.getInteger("rotation.instances", 2),
+                Integer.getInteger("rotation.refreshers", 64),
+                duration("rotation.warmup", "5s"),
+                duration("rotation.duration", "30s"),
+                Integer.getInteger("rotation.collision-rounds", 50),
+                Integer.getInteger("rotation.collision-tokens", 16),
+                Integer.getInteger("rotation.collision-fanout", 8),
+                properties,
+                Path.of(System.getProperty("rotation.output", "build/reports/rotation")));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
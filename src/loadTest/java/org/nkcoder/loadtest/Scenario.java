@@ -0,0 +1,86 @@
+package org.nkcoder.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.nkcoder.loadtest.UserSeeder.SeededUsers;
+
+/**
+ * What a virtual user does in a loop. Logins a scenario needs before its first request (to get tokens) happen when the
+ * virtual user is created, during warm-up, and are not part of the recorded latencies.
+ */
+public enum Scenario {
+
+    /** Logins of random seeded users: bcrypt-bound, limited by the {@code auth-write} bulkhead. */
+    LOGIN_STORM {
+        @Override
+        VirtualUser create(ApiClient client, SeededUsers users) {
+            return () -> client.login(randomUser(users), UserSeeder.PASSWORD);
+        }
+    },
+
+    /** Each virtual user rotates its own refresh token over and over (row lock plus SERIALIZABLE transaction). */
+    STEADY_REFRESH {
+        @Override
+        VirtualUser create(ApiClient client, SeededUsers users) {
+            String email = randomUser(users);
+            return new VirtualUser() {
+                private String refreshToken =
+                        client.tokens(client.login(email, UserSeeder.PASSWORD)).refreshToken();
+
+                @Override
+                public ApiClient.Response call() {
+                    ApiClient.Response response = client.refresh(refreshToken);
+                    if (response.isSuccess()) {
+                        refreshToken = client.tokens(response).refreshToken();
+                    }
+                    return response;
+                }
+
+                @Override
+                public void afterFailure() {
+                    refreshToken = client.tokens(client.login(email, UserSeeder.PASSWORD))
+                            .refreshToken();
+                }
+            };
+        }
+    },
+
+    /** Authenticated {@code GET /api/users/me}: JWT validation plus one primary-key lookup. */
+    READ_ME {
+        @Override
+        VirtualUser create(ApiClient client, SeededUsers users) {
+            String accessToken = client.tokens(client.login(randomUser(users), UserSeeder.PASSWORD))
+                    .accessToken();
+            return () -> client.get("/api/users/me", accessToken);
+        }
+    },
+
+    /** {@code GET /api/admin/users} as the admin; the response grows with the number of seeded users. */
+    ADMIN_LIST {
+        @Override
+        VirtualUser create(ApiClient client, SeededUsers users) {
+            String accessToken = client.tokens(client.login(users.adminEmail(), UserSeeder.PASSWORD))
+                    .accessToken();
+            return () -> client.get("/api/admin/users", accessToken);
+        }
+    };
+
+    abstract VirtualUser create(ApiClient client, SeededUsers users);
+
+    public String tag() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    private static String randomUser(SeededUsers users) {
+        return users.email(ThreadLocalRandom.current().nextInt(users.count()));
+    }
+
+    /** One simulated client; used by a single thread. */
+    interface VirtualUser {
+
+        /** Sends one request; this is what gets timed. */
+        ApiClient.Response call();
+
+        /** Called, untimed, after a request that did not succeed, e.g. to log in again. */
+        default void afterFailure() {}
+    }
+}
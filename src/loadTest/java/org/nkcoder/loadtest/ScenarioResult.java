@@ -0,0 +1,48 @@
+package org.nkcoder.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Summary of one measured run, as written to {@code results.json}. Latencies are in milliseconds; the full distribution
+ * is in the scenario's {@code .hlog} and {@code .hgrm} files.
+ *
+ * @param name scenario (or harness case) name
+ * @param concurrency virtual users sending requests at the same time
+ * @param measuredSeconds length of the measured window, warm-up excluded
+ * @param requests requests recorded in the window
+ * @param throughputPerSecond recorded requests per second
+ * @param latencyMillis p50, p90, p99, p99.9 and max
+ * @param outcomes requests per outcome (HTTP status, or a harness-specific outcome)
+ */
+public record ScenarioResult(
+        String name,
+        int concurrency,
+        double measuredSeconds,
+        long requests,
+        double throughputPerSecond,
+        Map<String, Double> latencyMillis,
+        Map<String, Long> outcomes) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static ScenarioResult of(
+            String name, int concurrency, Duration measured, Histogram histogram, Map<String, Long> outcomes) {
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("p99.9", millis(histogram.getValueAtPercentile(99.9)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        long requests = histogram.getTotalCount();
+        return new ScenarioResult(
+                name, concurrency, seconds, requests, seconds > 0 ? requests / seconds : 0, latency, outcomes);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,57 @@
+package org.nkcoder.loadtest;
+
+import org.nkcoder.user.domain.service.PasswordEncoder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Inserts load-test users straight into {@code users} with one statement instead of going through registration: all of
+ * them share one password, hashed once with the application's encoder, so seeding a hundred thousand users takes
+ * seconds instead of hours of bcrypt.
+ */
+public final class UserSeeder {
+
+    public static final String PASSWORD = "LoadTest123";
+
+    private static final String INSERT = """
+            INSERT INTO users (id, email, password, name, role, is_email_verified, created_at, updated_at)
+            SELECT gen_random_uuid(), 'load-' || n || '@example.com', :password, 'Load User ' || n, :role, true,
+                   now(), now()
+            FROM generate_series(:first, :last) AS n
+            """;
+
+    private UserSeeder() {}
+
+    /** Seeds {@code count} members ({@code load-0@example.com} ...) and one admin. */
+    public static SeededUsers seed(ApplicationContext context, int count) {
+        JdbcClient jdbcClient = context.getBean(JdbcClient.class);
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD).value();
+        jdbcClient
+                .sql(INSERT)
+                .param("password", hash)
+                .param("role", "MEMBER")
+                .param("first", 0)
+                .param("last", count - 1)
+                .update();
+        jdbcClient
+                .sql(INSERT)
+                .param("password", hash)
+                .param("role", "ADMIN")
+                .param("first", count)
+                .param("last", count)
+                .update();
+        return new SeededUsers(count);
+    }
+
+    /** The seeded users: members {@code 0 .. count - 1} and the admin. */
+    public record SeededUsers(int count) {
+
+        public String email(int index) {
+            return "load-" + index + "@example.com";
+        }
+
+        public String adminEmail() {
+            return email(count);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.nkcoder.audit.application;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.nkcoder.audit.log.AuditLogWriter;
+import org.nkcoder.audit.log.AuditRecord;
+import org.nkcoder.shared.kernel.domain.event.LoginFailedEvent;
+import org.nkcoder.shared.kernel.domain.event.UserLoggedInEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns login events into audit records.
+ *
+ * <p>A plain {@link EventListener} rather than {@code @ApplicationModuleListener}: the record is only queued, so there
+ * is nothing worth an {@code event_publication} row per login, and a failed login has no transaction to wait for.
+ */
+@Component
+public class LoginAuditListener {
+
+    private final AuditLogWriter writer;
+
+    public LoginAuditListener(AuditLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @EventListener
+    public void onUserLoggedIn(UserLoggedInEvent event) {
+        writer.record(new AuditRecord(
+                toInstant(event.occurredOn()),
+                AuditRecord.Outcome.SUCCEEDED,
+                event.userId(),
+                event.email(),
+                event.ipAddress(),
+                event.userAgent(),
+                null));
+    }
+
+    @EventListener
+    public void onLoginFailed(LoginFailedEvent event) {
+        writer.record(new AuditRecord(
+                toInstant(event.occurredOn()),
+                AuditRecord.Outcome.FAILED,
+                null,
+                event.email(),
+                event.ipAddress(),
+                event.userAgent(),
+                event.reason()));
+    }
+
+    private static Instant toInstant(LocalDateTime occurredOn) {
+        return occurredOn.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
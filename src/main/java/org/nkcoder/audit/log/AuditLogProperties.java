@@ -0,0 +1,62 @@
+package org.nkcoder.audit.log;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Login audit log.
+ *
+ * @param enabled whether records are written; when disabled they are dropped without being counted
+ * @param queueCapacity records buffered in memory; further records are dropped (and counted) until the writer catches
+ *     up
+ * @param batchSize maximum rows per multi-row {@code INSERT}
+ * @param flushInterval maximum time a record waits for its batch to fill up
+ * @param retention how long records are kept; partitions entirely older than this are dropped
+ * @param premakeDays number of future daily partitions kept ready
+ * @param maintenanceInterval how often partitions are created and dropped
+ * @param shutdownTimeout how long the writer keeps flushing the queue on shutdown
+ */
+@ConfigurationProperties(prefix = "audit.log")
+@Validated
+public record AuditLogProperties(
+        Boolean enabled,
+        @Min(1) int queueCapacity,
+        // 7 parameters per row, PostgreSQL allows 32767 per statement
+        @Min(1) @Max(4000) int batchSize,
+        Duration flushInterval,
+        Duration retention,
+        @Min(1) @Max(60) int premakeDays,
+        Duration maintenanceInterval,
+        Duration shutdownTimeout) {
+
+    public AuditLogProperties {
+        // Compact constructor with default values
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 10_000;
+        }
+        if (batchSize <= 0) {
+            batchSize = 500;
+        }
+        if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+            flushInterval = Duration.ofSeconds(1);
+        }
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            retention = Duration.ofDays(90);
+        }
+        if (premakeDays <= 0) {
+            premakeDays = 7;
+        }
+        if (maintenanceInterval == null || maintenanceInterval.isNegative() || maintenanceInterval.isZero()) {
+            maintenanceInterval = Duration.ofHours(1);
+        }
+        if (shutdownTimeout == null || shutdownTimeout.isNegative()) {
+            shutdownTimeout = Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.nkcoder.audit.log;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/** JDBC access to the partitioned {@code login_audit} table. */
+@Component
+public class AuditLogStore {
+
+    static final String TABLE = "login_audit";
+
+    private static final String COLUMNS = "occurred_at, outcome, user_id, email, ip_address, user_agent, reason";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern PARTITION_NAME = Pattern.compile("^" + TABLE + "_p(\\d{8})$");
+
+    private final JdbcClient jdbcClient;
+    private final Map<Integer, String> insertStatements = new ConcurrentHashMap<>();
+
+    public AuditLogStore(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /** Inserts the records with one multi-row {@code INSERT} (auto-commit, no transaction needed for one statement). */
+    public void insert(List<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>(records.size() * 7);
+        for (AuditRecord record : records) {
+            params.add(OffsetDateTime.ofInstant(record.occurredAt(), ZoneOffset.UTC));
+            params.add(record.outcome().name().toLowerCase());
+            params.add(record.userId());
+            params.add(record.email());
+            params.add(record.ipAddress());
+            params.add(record.userAgent());
+            params.add(record.reason());
+        }
+        jdbcClient.sql(insertStatement(records.size())).params(params).update();
+    }
+
+    /** Creates the partition holding records of {@code day} (UTC) unless it exists. */
+    public void createPartition(LocalDate day) {
+        jdbcClient
+                .sql("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(partitionName(day), TABLE, startOf(day), startOf(day.plusDays(1))))
+                .update();
+    }
+
+    /** Drops the partition of {@code day}; its records are gone. */
+    public void dropPartition(LocalDate day) {
+        jdbcClient.sql("DROP TABLE IF EXISTS " + partitionName(day)).update();
+    }
+
+    /** Days that currently have a partition. */
+    public List<LocalDate> partitionDays() {
+        return jdbcClient.sql("""
+                        SELECT child.relname
+                        FROM pg_inherits
+                        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                        WHERE parent.relname = :table
+                        """).param("table", TABLE).query(String.class).list().stream()
+                .map(AuditLogStore::partitionDay)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    static String partitionName(LocalDate day) {
+        return TABLE + "_p" + day.format(PARTITION_SUFFIX);
+    }
+
+    static Optional<LocalDate> partitionDay(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        return matcher.matches() ? Optional.of(LocalDate.parse(matcher.group(1), PARTITION_SUFFIX)) : Optional.empty();
+    }
+
+    private static String startOf(LocalDate day) {
+        return day.atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+    }
+
+    private String insertStatement(int rows) {
+        return insertStatements.computeIfAbsent(
+                rows,
+                count -> "INSERT INTO " + TABLE + " (" + COLUMNS + ") VALUES "
+                        + String.join(", ", Collections.nCopies(count, ROW)));
+    }
+}
@@ -0,0 +1,210 @@
+package org.nkcoder.audit.log;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes login audit records in the background so that logging in never waits for the audit table.
+ *
+ * <p>{@link #record} only offers the record to a bounded queue and never throws: when the queue is full the record is
+ * dropped and counted, because losing an analytics row is better than slowing down or failing a login. A single worker
+ * collects up to {@code batchSize} records, waiting at most {@code flushInterval} for a batch to fill up, and writes
+ * them with one multi-row {@code INSERT}. A batch that fails is not retried; its records are counted as failed.
+ *
+ * <p>On shutdown the worker keeps flushing until the queue is empty or {@code shutdownTimeout} has passed.
+ *
+ * <p>Metrics:
+ *
+ * <ul>
+ *   <li>{@code audit.log.queue.size} - records waiting to be written
+ *   <li>{@code audit.log.batch} - duration of one {@code INSERT}, tagged with {@code outcome}
+ *   <li>{@code audit.log.records} - records by {@code result} ({@code written}, {@code dropped}, {@code failed})
+ * </ul>
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final Duration DROP_LOG_INTERVAL = Duration.ofMinutes(1);
+
+    private final AuditLogStore store;
+    private final AuditPartitionMaintenance partitionMaintenance;
+    private final AuditLogProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<AuditRecord> queue;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong droppedSinceLastLog = new AtomicLong();
+
+    private volatile Thread worker;
+    private volatile boolean running;
+    private long lastDropLog = System.nanoTime();
+
+    public AuditLogWriter(
+            AuditLogStore store,
+            AuditPartitionMaintenance partitionMaintenance,
+            AuditLogProperties properties,
+            MeterRegistry meterRegistry) {
+        this.store = store;
+        this.partitionMaintenance = partitionMaintenance;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("audit.log.queue.size", queue, Collection::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = recordCounter("written");
+        this.droppedCounter = recordCounter("dropped");
+        this.failedCounter = recordCounter("failed");
+    }
+
+    /** Queues a record; drops it if the queue is full or the audit log is disabled. */
+    public void record(AuditRecord record) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!queue.offer(record)) {
+            droppedCounter.increment();
+            droppedSinceLastLog.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        // Make sure today's partition exists before the first insert
+        partitionMaintenance.maintain();
+        running = true;
+        worker = Thread.ofVirtual().name("audit-log-writer").start(this::work);
+        logger.info("Started login audit writer (batch size {})", properties.batchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            try {
+                if (!current.join(properties.shutdownTimeout())) {
+                    current.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                current.interrupt();
+            }
+            worker = null;
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Dropping {} queued audit records on shutdown", queue.size());
+            droppedCounter.increment(queue.size());
+            queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        List<AuditRecord> batch = new ArrayList<>(properties.batchSize());
+        // Keep flushing after stop() until the queue is empty or the worker is interrupted
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                logDrops();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** Fills {@code batch} until it has {@code batchSize} records or {@code flushInterval} has passed. */
+    private void collect(List<AuditRecord> batch) throws InterruptedException {
+        AuditRecord first = queue.poll(properties.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.flushInterval().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.batchSize() || remaining <= 0 || !running) {
+                return;
+            }
+            AuditRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            store.insert(batch);
+            sample.stop(batchTimer("success"));
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            sample.stop(batchTimer("failure"));
+            failedCounter.increment(batch.size());
+            logger.warn("Failed to write {} audit records: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /** Logs dropped records at most once per interval instead of once per record. */
+    private void logDrops() {
+        long now = System.nanoTime();
+        if (now - lastDropLog < DROP_LOG_INTERVAL.toNanos()) {
+            return;
+        }
+        lastDropLog = now;
+        long dropped = droppedSinceLastLog.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn(
+                    "Dropped {} audit records in the last {} because the queue was full", dropped, DROP_LOG_INTERVAL);
+        }
+    }
+
+    private Counter recordCounter(String result) {
+        return Counter.builder("audit.log.records").tag("result", result).register(meterRegistry);
+    }
+
+    private Timer batchTimer(String outcome) {
+        return Timer.builder("audit.log.batch")
+                .description("Time to write one batch of audit records with a multi-row INSERT")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
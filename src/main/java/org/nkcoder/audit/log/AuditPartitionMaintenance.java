@@ -0,0 +1,64 @@
+package org.nkcoder.audit.log;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the daily partitions of {@code login_audit} in place: yesterday through
+ * {@link AuditLogProperties#premakeDays()} days ahead are created ahead of time, so an insert never hits a missing
+ * partition, and partitions whose whole day is older than {@link AuditLogProperties#retention()} are dropped. Dropping
+ * a partition is a catalog operation, so retention never deletes rows one by one, and the table stays append-only.
+ */
+@Component
+public class AuditPartitionMaintenance implements SchedulingConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionMaintenance.class);
+
+    private final AuditLogStore store;
+    private final AuditLogProperties properties;
+
+    public AuditPartitionMaintenance(AuditLogStore store, AuditLogProperties properties) {
+        this.store = store;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.enabled()) {
+            registrar.addFixedDelayTask(new FixedDelayTask(
+                    this::maintain, properties.maintenanceInterval(), properties.maintenanceInterval()));
+        }
+    }
+
+    /** Creates missing partitions and drops expired ones; failures are logged and retried on the next run. */
+    public void maintain() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            for (LocalDate day = today.minusDays(1);
+                    !day.isAfter(today.plusDays(properties.premakeDays()));
+                    day = day.plusDays(1)) {
+                store.createPartition(day);
+            }
+            Instant cutoff = Instant.now().minus(properties.retention());
+            for (LocalDate day : store.partitionDays()) {
+                if (!endOf(day).isAfter(cutoff)) {
+                    store.dropPartition(day);
+                    logger.info("Dropped login audit partition {}", AuditLogStore.partitionName(day));
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Login audit partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private static Instant endOf(LocalDate day) {
+        return day.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+}
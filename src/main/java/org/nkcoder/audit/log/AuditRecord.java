@@ -0,0 +1,29 @@
+package org.nkcoder.audit.log;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** One row of the {@code login_audit} table. */
+public record AuditRecord(
+        Instant occurredAt,
+        Outcome outcome,
+        UUID userId,
+        String email,
+        String ipAddress,
+        String userAgent,
+        String reason) {
+
+    /** Longer user agents are cut, so a client cannot make audit rows arbitrarily large. */
+    static final int MAX_USER_AGENT_LENGTH = 512;
+
+    public AuditRecord {
+        if (userAgent != null && userAgent.length() > MAX_USER_AGENT_LENGTH) {
+            userAgent = userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+        }
+    }
+
+    public enum Outcome {
+        SUCCEEDED,
+        FAILED
+    }
+}
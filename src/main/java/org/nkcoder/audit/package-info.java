@@ -0,0 +1,22 @@
+/**
+ * The Audit module keeps an append-only log of security-relevant events for analytics.
+ *
+ * <p>This module provides:
+ *
+ * <ul>
+ *   <li>Login audit records (user, IP address, user agent, outcome), written asynchronously in multi-row batches (see
+ *       {@code AuditLogWriter})
+ *   <li>Daily partitions of the {@code login_audit} table, with retention by dropping partitions
+ * </ul>
+ *
+ * <p>Listens to events:
+ *
+ * <ul>
+ *   <li>{@code UserLoggedInEvent} - records a successful login
+ *   <li>{@code LoginFailedEvent} - records a rejected login
+ * </ul>
+ */
+@ApplicationModule(allowedDependencies = {"shared", "infrastructure"})
+package org.nkcoder.audit;
+
+import org.springframework.modulith.ApplicationModule;
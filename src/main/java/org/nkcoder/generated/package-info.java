@@ -0,0 +1,10 @@
+/**
+ * Protobuf messages and gRPC stubs generated from {@code src/main/proto} (only this file is hand-written).
+ *
+ * <p>This is an open module so that the gRPC adapters of other modules can use the generated types, which live in
+ * sub-packages.
+ */
+@ApplicationModule(type = ApplicationModule.Type.OPEN)
+package org.nkcoder.generated;
+
+import org.springframework.modulith.ApplicationModule;
@@ -0,0 +1,142 @@
+package org.nkcoder.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key into a single execution.
+ *
+ * <p>The first caller for a key (the leader) runs the work on its own thread. Callers that arrive while it is running
+ * wait for and share its result instead of running the work again. A successful result is also replayed to callers that
+ * arrive within {@code replayWindow} after it completed; failures are shared with the callers already waiting but never
+ * replayed. Coalescing is in-process only, so duplicates that land on different instances still run separately.
+ *
+ * <p>A completed entry is removed once its replay window has passed, by a task scheduled on the JDK's shared delay
+ * thread, so the map only holds keys in flight or still replayable. At most {@code maxEntries} keys are tracked; when
+ * that many are, further keys run without coalescing.
+ *
+ * <p>Metric: {@code single_flight.calls} tagged with {@code name} and {@code result} ({@code leader}, {@code joined},
+ * {@code replayed}, {@code bypassed}).
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final long replayWindowNanos;
+    private final int maxEntries;
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final Executor evictor;
+
+    private final Counter leaderCounter;
+    private final Counter joinedCounter;
+    private final Counter replayedCounter;
+    private final Counter bypassedCounter;
+
+    public SingleFlight(String name, SingleFlightProperties.Settings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.replayWindowNanos = settings.replayWindow().toNanos();
+        this.maxEntries = settings.maxEntries();
+        // The removal is a map operation, cheap enough to run on the delay thread itself
+        this.evictor = CompletableFuture.delayedExecutor(replayWindowNanos, TimeUnit.NANOSECONDS, Runnable::run);
+        this.leaderCounter = callCounter(meterRegistry, "leader");
+        this.joinedCounter = callCounter(meterRegistry, "joined");
+        this.replayedCounter = callCounter(meterRegistry, "replayed");
+        this.bypassedCounter = callCounter(meterRegistry, "bypassed");
+        Gauge.builder("single_flight.entries", flights, Map::size)
+                .description("Keys currently tracked by the single-flight group")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Runs {@code work} for {@code key}, or returns the result of an identical call in flight or just completed. */
+    public V execute(K key, Supplier<V> work) {
+        while (true) {
+            Flight<V> existing = flights.get(key);
+            if (existing != null) {
+                if (!existing.result.isDone()) {
+                    joinedCounter.increment();
+                    return await(existing);
+                }
+                if (existing.isReplayable(System.nanoTime(), replayWindowNanos)) {
+                    replayedCounter.increment();
+                    return await(existing);
+                }
+                flights.remove(key, existing);
+                continue;
+            }
+
+            if (flights.size() >= maxEntries) {
+                bypassedCounter.increment();
+                return work.get();
+            }
+
+            Flight<V> flight = new Flight<>();
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            leaderCounter.increment();
+            return lead(key, flight, work);
+        }
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> work) {
+        try {
+            V value = work.get();
+            flight.completedAt = System.nanoTime();
+            flight.result.complete(value);
+            if (replayWindowNanos == 0) {
+                flights.remove(key, flight);
+            } else {
+                evictor.execute(() -> flights.remove(key, flight));
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private V await(Flight<V> flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("single_flight.calls")
+                .description("Calls handled by the single-flight group")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        boolean isReplayable(long now, long replayWindowNanos) {
+            return !result.isCompletedExceptionally() && now - completedAt < replayWindowNanos;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.nkcoder.infrastructure.concurrency;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for named {@link SingleFlight} groups. Groups without an entry in {@code instances} use {@code defaults}.
+ */
+@ConfigurationProperties(prefix = "single-flight")
+@Validated
+public record SingleFlightProperties(@Valid Settings defaults, Map<String, @Valid Settings> instances) {
+
+    public SingleFlightProperties {
+        // Compact constructor with default values
+        if (defaults == null) {
+            defaults = new Settings(null, 0);
+        }
+        if (instances == null) {
+            instances = Map.of();
+        }
+    }
+
+    /** Returns the settings configured for {@code name}, falling back to {@link #defaults()}. */
+    public Settings settingsFor(String name) {
+        return instances.getOrDefault(name, defaults);
+    }
+
+    /**
+     * @param replayWindow how long a successful result is handed to late duplicates after the call completed
+     * @param maxEntries upper bound on tracked keys; when reached, new keys run without coalescing
+     */
+    public record Settings(Duration replayWindow, @Min(1) int maxEntries) {
+
+        public Settings {
+            // Compact constructor with default values
+            if (replayWindow == null || replayWindow.isNegative()) {
+                replayWindow = Duration.ofSeconds(5);
+            }
+            if (maxEntries <= 0) {
+                maxEntries = 10_000;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.nkcoder.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/** Creates {@link SingleFlight} groups using the settings from {@link SingleFlightProperties}. */
+@Component
+public class SingleFlightRegistry {
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightRegistry(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Creates a new group; callers keep the returned instance, one per name. */
+    public <K, V> SingleFlight<K, V> create(String name) {
+        return new SingleFlight<>(name, properties.settingsFor(name), meterRegistry);
+    }
+}
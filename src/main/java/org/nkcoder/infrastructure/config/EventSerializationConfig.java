@@ -0,0 +1,35 @@
+package org.nkcoder.infrastructure.config;
+
+import org.nkcoder.infrastructure.events.EventCodec;
+import org.nkcoder.infrastructure.events.EventSerializationProperties;
+import org.nkcoder.infrastructure.events.JsonEventSerializer;
+import org.nkcoder.infrastructure.events.ProtobufEventSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.modulith.events.core.EventSerializer;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Replaces Spring Modulith's JSON-only event serializer with {@link ProtobufEventSerializer}, which writes the format
+ * selected by {@code event-publication.serialization.format} and reads both.
+ */
+@Configuration
+public class EventSerializationConfig {
+
+    @Bean
+    public EventSerializer eventSerializer(
+            EventSerializationProperties properties,
+            ObjectProvider<JsonMapper> jsonMapper,
+            ObjectProvider<EventCodec<?>> codecs) {
+        // Same mapper Spring Modulith would use
+        EventSerializer json = new JsonEventSerializer(() -> jsonMapper.getIfAvailable(() -> JsonMapper.builder()
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .build()));
+        return new ProtobufEventSerializer(
+                codecs.orderedStream().toList(),
+                json,
+                properties.format() == EventSerializationProperties.Format.PROTOBUF);
+    }
+}
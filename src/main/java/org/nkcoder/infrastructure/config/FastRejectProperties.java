@@ -0,0 +1,27 @@
+package org.nkcoder.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Cheap rejection of bearer tokens that cannot be JWTs.
+ *
+ * @param maxTokenLength longest bearer token accepted; longer ones are malformed without being parsed
+ * @param logInterval at most one rejected-token log line is written per interval, with the number held back
+ */
+@ConfigurationProperties(prefix = "security.fast-reject")
+@Validated
+public record FastRejectProperties(@Min(16) int maxTokenLength, Duration logInterval) {
+
+    public FastRejectProperties {
+        // Compact constructor with default values
+        if (maxTokenLength <= 0) {
+            maxTokenLength = 4096;
+        }
+        if (logInterval == null || logInterval.isNegative()) {
+            logInterval = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.nkcoder.infrastructure.config;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerExecutorProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs gRPC service calls on virtual threads, matching {@code spring.threads.virtual.enabled} on the servlet side. The
+ * default gRPC executor is a cached pool of platform threads, so every call blocked on JDBC or bcrypt would hold an OS
+ * thread.
+ *
+ * <p>The executor is deliberately not exposed as a bean: an {@code Executor} bean would replace Spring Boot's
+ * {@code applicationTaskExecutor}.
+ */
+@Configuration
+public class GrpcServerConfig {
+
+    private final ExecutorService grpcExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("grpc-", 0).factory());
+
+    @Bean
+    public GrpcServerExecutorProvider grpcServerExecutorProvider() {
+        return () -> grpcExecutor;
+    }
+
+    @PreDestroy
+    void shutdownGrpcExecutor() {
+        grpcExecutor.shutdown();
+    }
+}
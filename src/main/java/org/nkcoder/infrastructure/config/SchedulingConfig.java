@@ -0,0 +1,12 @@
+package org.nkcoder.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (e.g. the event publication purge). Spring Boot's task scheduler runs them on
+ * virtual threads because {@code spring.threads.virtual.enabled} is set.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
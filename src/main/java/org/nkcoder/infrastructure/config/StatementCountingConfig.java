@@ -0,0 +1,31 @@
+package org.nkcoder.infrastructure.config;
+
+import javax.sql.DataSource;
+import org.nkcoder.infrastructure.jdbc.StatementCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the application's {@link DataSource} in a {@link StatementCountingDataSource}, unless
+ * {@code sql.statements.enabled} is {@code false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql.statements", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StatementCountingConfig {
+
+    // Static, so the post-processor does not force early initialization of this configuration class
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
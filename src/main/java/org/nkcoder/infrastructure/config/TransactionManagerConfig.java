@@ -0,0 +1,25 @@
+package org.nkcoder.infrastructure.config;
+
+import org.nkcoder.infrastructure.transaction.DeadlineAwareJpaTransactionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Replaces Spring Boot's {@code JpaTransactionManager} with one that honours request deadlines, see
+ * {@link DeadlineAwareJpaTransactionManager}. Configured the same way as the auto-configured one.
+ */
+@Configuration
+public class TransactionManagerConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,19 @@
+package org.nkcoder.infrastructure.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/** Limits for batch user lookups (REST multi-get and the {@code GetUsers} RPC). */
+@ConfigurationProperties(prefix = "user-lookup")
+@Validated
+public record UserLookupProperties(@Min(1) @Max(10_000) int maxBatchSize) {
+
+    public UserLookupProperties {
+        // Compact constructor with default values
+        if (maxBatchSize <= 0) {
+            maxBatchSize = 100;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/contention}: the top virtual-thread pinning and lock contention sites seen by
+ * {@link ContentionMonitor} since startup (or the last reset), by total time.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/contention} - top sites of every type
+ *   <li>{@code GET /actuator/contention/{type}} - top sites of one type ({@code pinned}, {@code monitor_enter},
+ *       {@code park})
+ *   <li>{@code DELETE /actuator/contention} - forget the aggregated sites, e.g. before a load test
+ * </ul>
+ */
+@Component
+@Endpoint(id = "contention")
+public class ContentionEndpoint {
+
+    static final int TOP_SITES = 20;
+
+    private final ContentionMonitor monitor;
+
+    public ContentionEndpoint(ContentionMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public Map<String, List<ContentionSite>> sites() {
+        Map<String, List<ContentionSite>> sites = new LinkedHashMap<>();
+        for (ContentionMonitor.Type type : ContentionMonitor.Type.values()) {
+            sites.put(type.tag(), monitor.topSites(type, TOP_SITES));
+        }
+        return sites;
+    }
+
+    @ReadOperation
+    public List<ContentionSite> sitesOfType(@Selector String type) {
+        for (ContentionMonitor.Type candidate : ContentionMonitor.Type.values()) {
+            if (candidate.tag().equals(type)) {
+                return monitor.topSites(candidate, TOP_SITES);
+            }
+        }
+        throw new InvalidEndpointRequestException("Unknown contention type: " + type, "Unknown contention type");
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
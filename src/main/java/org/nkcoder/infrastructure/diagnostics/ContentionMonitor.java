@@ -0,0 +1,230 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.nkcoder.infrastructure.resilience.BulkheadRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Watches the running JVM for virtual-thread pinning and lock contention through an in-process JFR
+ * {@link RecordingStream}, so the sites that cap virtual-thread throughput show up without attaching a profiler.
+ *
+ * <p>Subscribes to {@code jdk.VirtualThreadPinned} (a virtual thread blocked while mounted, e.g. inside
+ * {@code synchronized} or a native frame), {@code jdk.JavaMonitorEnter} (blocked entering {@code synchronized}) and
+ * {@code jdk.ThreadPark} on a lock or synchronizer. Parks on a {@code Condition} are ignored: that is a thread waiting
+ * for work (queue polls, idle pool threads), not contention. Only events longer than the configured thresholds are
+ * recorded, with stack traces, which keeps the overhead to the slow cases.
+ *
+ * <p>Events are aggregated by site, the first frame outside the JDK, and listed by {@link ContentionEndpoint}. Metrics
+ * are tagged by event type only, so sites do not become series: {@value #METRIC} (duration of recorded events,
+ * {@code type} = {@code pinned}, {@code monitor_enter}, {@code park}). Pinning is also attributed to the bulkhead the
+ * thread held a permit of ({@code bulkhead.pinned}), when it still holds it by the time the event is delivered.
+ */
+@Component
+public class ContentionMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentionMonitor.class);
+
+    public static final String METRIC = "jvm.threads.contention";
+
+    static final String OTHER_SITE = "(other)";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+    private static final String PARK_EVENT = "jdk.ThreadPark";
+    private static final String CONDITION_OBJECT =
+            "java.util.concurrent.locks.AbstractQueuedSynchronizer$ConditionObject";
+
+    public enum Type {
+        PINNED,
+        MONITOR_ENTER,
+        PARK;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final ContentionMonitorProperties properties;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Map<Type, Timer> timers = new EnumMap<>(Type.class);
+    private final Map<Type, Map<String, SiteStats>> sites = new EnumMap<>(Type.class);
+
+    private volatile RecordingStream stream;
+
+    public ContentionMonitor(
+            ContentionMonitorProperties properties, BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bulkheadRegistry = bulkheadRegistry;
+        for (Type type : Type.values()) {
+            timers.put(
+                    type,
+                    Timer.builder(METRIC)
+                            .description("Virtual-thread pinning and lock contention above the monitor's threshold")
+                            .tag("type", type.tag())
+                            .register(meterRegistry));
+            sites.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording
+                .enable(PINNED_EVENT)
+                .withThreshold(properties.pinnedThreshold())
+                .withStackTrace();
+        recording
+                .enable(MONITOR_ENTER_EVENT)
+                .withThreshold(properties.monitorEnterThreshold())
+                .withStackTrace();
+        recording.enable(PARK_EVENT).withThreshold(properties.parkThreshold()).withStackTrace();
+        recording.onEvent(PINNED_EVENT, event -> onEvent(Type.PINNED, event));
+        recording.onEvent(MONITOR_ENTER_EVENT, event -> onEvent(Type.MONITOR_ENTER, event));
+        recording.onEvent(PARK_EVENT, event -> {
+            if (!isConditionWait(event)) {
+                onEvent(Type.PARK, event);
+            }
+        });
+        recording.onError(e -> logger.warn("Contention monitor failed: {}", e.getMessage()));
+        recording.startAsync();
+        stream = recording;
+        logger.info("Started contention monitor (pinned > {})", properties.pinnedThreshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /** Sites of {@code type} with the highest total duration first. */
+    public List<ContentionSite> topSites(Type type, int limit) {
+        return sites.get(type).entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(type, entry.getKey()))
+                .sorted(Comparator.comparing(ContentionSite::total).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /** Forgets all aggregated sites; metrics are not affected. */
+    public void reset() {
+        sites.values().forEach(Map::clear);
+    }
+
+    private void onEvent(Type type, RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        List<String> stack = applicationFrames(event.getStackTrace());
+        record(type, event.getDuration(), event.getEndTime(), stack, thread != null ? thread.getJavaThreadId() : -1);
+    }
+
+    void record(Type type, Duration duration, Instant endTime, List<String> stack, long threadId) {
+        timers.get(type).record(duration);
+        String site = stack.isEmpty() ? OTHER_SITE : stack.getFirst();
+        Map<String, SiteStats> byType = sites.get(type);
+        SiteStats stats = byType.get(site);
+        if (stats == null) {
+            // The cap is approximate under concurrent inserts, which is fine for a diagnostic view
+            stats = byType.size() < properties.maxSites()
+                    ? byType.computeIfAbsent(site, key -> new SiteStats())
+                    : byType.computeIfAbsent(OTHER_SITE, key -> new SiteStats());
+        }
+        stats.add(duration, endTime, stack);
+        if (type == Type.PINNED && threadId >= 0) {
+            bulkheadRegistry.recordPinned(threadId, duration);
+        }
+    }
+
+    /** Frames from the first one outside the JDK, formatted as {@code class.method:line}, at most stack-depth. */
+    private List<String> applicationFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<String> frames = new ArrayList<>(properties.stackDepth());
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (frames.isEmpty() && isJdk(type)) {
+                continue;
+            }
+            frames.add(type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber());
+            if (frames.size() >= properties.stackDepth()) {
+                break;
+            }
+        }
+        return frames;
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.")
+                || className.startsWith("jdk.")
+                || className.startsWith("sun.")
+                || className.startsWith("com.sun.");
+    }
+
+    private static boolean isConditionWait(RecordedEvent event) {
+        RecordedClass parkedClass = event.getClass("parkedClass");
+        return parkedClass == null || CONDITION_OBJECT.equals(parkedClass.getName());
+    }
+
+    private static final class SiteStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile Instant lastSeen = Instant.EPOCH;
+        private volatile List<String> stack = List.of();
+
+        void add(Duration duration, Instant endTime, List<String> frames) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastSeen = endTime;
+            stack = List.copyOf(frames);
+        }
+
+        ContentionSite snapshot(Type type, String site) {
+            return new ContentionSite(
+                    type.tag(),
+                    site,
+                    count.sum(),
+                    Duration.ofNanos(totalNanos.sum()),
+                    Duration.ofNanos(maxNanos.get()),
+                    lastSeen,
+                    stack);
+        }
+    }
+}
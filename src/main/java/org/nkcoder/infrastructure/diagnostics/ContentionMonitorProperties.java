@@ -0,0 +1,50 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * In-process JFR monitor for virtual-thread pinning and lock contention.
+ *
+ * @param enabled whether the monitor's recording stream runs
+ * @param pinnedThreshold shortest {@code jdk.VirtualThreadPinned} episode recorded
+ * @param monitorEnterThreshold shortest {@code jdk.JavaMonitorEnter} (blocked on {@code synchronized}) recorded
+ * @param parkThreshold shortest {@code jdk.ThreadPark} on a lock or synchronizer recorded
+ * @param stackDepth application frames kept as the sample stack of a site
+ * @param maxSites distinct sites tracked per event type; further sites are merged into {@code (other)}
+ */
+@ConfigurationProperties(prefix = "diagnostics.contention")
+@Validated
+public record ContentionMonitorProperties(
+        Boolean enabled,
+        Duration pinnedThreshold,
+        Duration monitorEnterThreshold,
+        Duration parkThreshold,
+        @Min(1) @Max(64) int stackDepth,
+        @Min(1) int maxSites) {
+
+    public ContentionMonitorProperties {
+        // Compact constructor with default values
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (pinnedThreshold == null || pinnedThreshold.isNegative()) {
+            pinnedThreshold = Duration.ofMillis(20);
+        }
+        if (monitorEnterThreshold == null || monitorEnterThreshold.isNegative()) {
+            monitorEnterThreshold = Duration.ofMillis(20);
+        }
+        if (parkThreshold == null || parkThreshold.isNegative()) {
+            parkThreshold = Duration.ofMillis(50);
+        }
+        if (stackDepth <= 0) {
+            stackDepth = 8;
+        }
+        if (maxSites <= 0) {
+            maxSites = 200;
+        }
+    }
+}
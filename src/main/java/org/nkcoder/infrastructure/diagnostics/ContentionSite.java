@@ -0,0 +1,19 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Aggregated contention at one code location: the first frame outside the JDK of the stacks that produced the events.
+ *
+ * @param type event type ({@code pinned}, {@code monitor_enter} or {@code park})
+ * @param site the attributed frame, {@code class.method:line}
+ * @param count number of events
+ * @param total summed duration
+ * @param max longest single event
+ * @param lastSeen end time of the most recent event
+ * @param stack sample stack of the most recent event, innermost first
+ */
+public record ContentionSite(
+        String type, String site, long count, Duration total, Duration max, Instant lastSeen, List<String> stack) {}
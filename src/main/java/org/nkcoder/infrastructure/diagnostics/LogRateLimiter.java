@@ -0,0 +1,52 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets at most one log statement per interval through and counts the ones it held back, so a flood of identical client
+ * errors (bots sending garbage tokens) produces one line every few seconds instead of one per request.
+ *
+ * <pre>{@code
+ * long suppressed = limiter.tryAcquire();
+ * if (suppressed >= 0) {
+ *     logger.warn("Rejected token: {} ({} similar suppressed)", reason, suppressed);
+ * }
+ * }</pre>
+ *
+ * <p>Held-back events are counted in a {@link LongAdder}, so threads rejected at the same time do not contend on one
+ * counter.
+ */
+public final class LogRateLimiter {
+
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLong nextPermitted;
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogRateLimiter(Duration interval) {
+        this(interval, System::nanoTime);
+    }
+
+    LogRateLimiter(Duration interval, LongSupplier nanoTime) {
+        this.intervalNanos = interval.toNanos();
+        this.nanoTime = nanoTime;
+        this.nextPermitted = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * Returns the number of events held back since the last permitted one if this event may be logged, or {@code -1} if
+     * it should not be.
+     */
+    public long tryAcquire() {
+        long now = nanoTime.getAsLong();
+        long next = nextPermitted.get();
+        if (now - next >= 0 && nextPermitted.compareAndSet(next, now + intervalNanos)) {
+            return suppressed.sumThenReset();
+        }
+        suppressed.increment();
+        return -1;
+    }
+}
@@ -0,0 +1,18 @@
+package org.nkcoder.infrastructure.events;
+
+/**
+ * Binary encoding of one event type for {@link ProtobufEventSerializer}. Modules register a codec (as a Spring bean)
+ * for each event type they publish to persistent listeners; events without a codec are stored as JSON.
+ *
+ * <p>The encoded form is persisted in {@code event_publication} and may be read by a newer version of the application,
+ * so encodings must stay backwards compatible (with protobuf: only add fields, never renumber them).
+ */
+public interface EventCodec<T> {
+
+    /** The exact event class this codec handles. */
+    Class<T> eventType();
+
+    byte[] encode(T event);
+
+    T decode(byte[] payload);
+}
@@ -0,0 +1,216 @@
+package org.nkcoder.infrastructure.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes completed Spring Modulith event publications older than {@link EventPublicationPurgeProperties#retention()},
+ * either dropping them or moving them to {@code event_publication_archive}.
+ *
+ * <p>Rows are removed in chunks of {@link EventPublicationPurgeProperties#chunkSize()}, one short transaction per
+ * chunk, so a run never holds locks on millions of rows or produces one huge WAL burst. Chunks are picked with
+ * {@code FOR UPDATE SKIP LOCKED}, so two instances running the job at the same time split the work instead of blocking
+ * each other. A run stops when a chunk comes back short or after
+ * {@link EventPublicationPurgeProperties#maxChunksPerRun()} chunks; the next run continues where it stopped.
+ *
+ * <p>Independently of purging, the table size, the size of each of its indexes and the number of incomplete
+ * publications are published as gauges and refreshed every {@link EventPublicationPurgeProperties#metricsInterval()}.
+ */
+@Component
+public class EventPublicationPurgeJob implements SchedulingConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPublicationPurgeJob.class);
+
+    public static final String PURGED_METRIC = "event_publication.purged";
+    public static final String PURGE_TIME_METRIC = "event_publication.purge";
+
+    private static final String TABLE = "event_publication";
+    private static final String USE_CASE = "event-publication-purge";
+
+    private static final String CHUNK = """
+            SELECT id FROM event_publication
+            WHERE completion_date < :cutoff
+            ORDER BY completion_date
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_CHUNK = "DELETE FROM event_publication WHERE id IN (" + CHUNK + ")";
+
+    private static final String COLUMNS = "id, listener_id, event_type, serialized_event, publication_date,"
+            + " completion_date, status, completion_attempts, last_resubmission_date";
+
+    private static final String ARCHIVE_CHUNK = "WITH purged AS (" + DELETE_CHUNK + " RETURNING " + COLUMNS + ")"
+            + " INSERT INTO event_publication_archive (" + COLUMNS + ")"
+            + " SELECT " + COLUMNS + " FROM purged"
+            + " ON CONFLICT (id) DO NOTHING";
+
+    private final JdbcClient jdbcClient;
+    private final TransactionRunner transactionRunner;
+    private final EventPublicationPurgeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter purged;
+    private final Timer purgeTimer;
+
+    private final AtomicLong tableSize = new AtomicLong();
+    private final AtomicLong indexesSize = new AtomicLong();
+    private final AtomicLong incomplete = new AtomicLong();
+    private final Map<String, AtomicLong> indexSizes = new ConcurrentHashMap<>();
+
+    public EventPublicationPurgeJob(
+            JdbcClient jdbcClient,
+            TransactionRunner transactionRunner,
+            EventPublicationPurgeProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcClient = jdbcClient;
+        this.transactionRunner = transactionRunner;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        String mode = properties.mode().name().toLowerCase();
+        this.purged = Counter.builder(PURGED_METRIC)
+                .description("Completed event publications removed by the purge job")
+                .tag("mode", mode)
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder(PURGE_TIME_METRIC)
+                .description("Duration of one purge run")
+                .tag("mode", mode)
+                .register(meterRegistry);
+        Gauge.builder("event_publication.table.size", tableSize, AtomicLong::get)
+                .description("Size of the event_publication table including TOAST, without indexes")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        Gauge.builder("event_publication.indexes.size", indexesSize, AtomicLong::get)
+                .description("Total size of the indexes on event_publication")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        Gauge.builder("event_publication.incomplete", incomplete, AtomicLong::get)
+                .description("Event publications not completed yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(
+                new FixedDelayTask(this::refreshMetrics, properties.metricsInterval(), Duration.ZERO));
+        if (properties.enabled()) {
+            registrar.addFixedDelayTask(
+                    new FixedDelayTask(this::purge, properties.interval(), properties.initialDelay()));
+        }
+    }
+
+    /**
+     * Removes completed publications older than the retention window, chunk by chunk.
+     *
+     * @return number of publications removed
+     */
+    public long purge() {
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(properties.retention());
+        String sql = properties.mode() == EventPublicationPurgeProperties.Mode.ARCHIVE ? ARCHIVE_CHUNK : DELETE_CHUNK;
+        long total = 0;
+        int chunks = 0;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            while (chunks < properties.maxChunksPerRun()) {
+                int removed = transactionRunner.execute(USE_CASE, () -> jdbcClient
+                        .sql(sql)
+                        .param("cutoff", cutoff)
+                        .param("limit", properties.chunkSize())
+                        .update());
+                chunks++;
+                total += removed;
+                purged.increment(removed);
+                if (removed < properties.chunkSize() || !pause()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Purging event publications failed after {} rows: {}", total, e.getMessage());
+        } finally {
+            sample.stop(purgeTimer);
+        }
+        if (total > 0) {
+            logger.info(
+                    "Purged {} event publications completed before {} ({} chunks, mode {})",
+                    total,
+                    cutoff,
+                    chunks,
+                    properties.mode());
+        }
+        return total;
+    }
+
+    /** Re-reads table and index sizes from the PostgreSQL catalog; the gauges only return the cached values. */
+    public void refreshMetrics() {
+        try {
+            tableSize.set(jdbcClient
+                    .sql("SELECT pg_table_size(to_regclass(:table))")
+                    .param("table", TABLE)
+                    .query(Long.class)
+                    .optional()
+                    .orElse(0L));
+            indexesSize.set(jdbcClient
+                    .sql("SELECT pg_indexes_size(to_regclass(:table))")
+                    .param("table", TABLE)
+                    .query(Long.class)
+                    .optional()
+                    .orElse(0L));
+            jdbcClient
+                    .sql("SELECT indexrelname, pg_relation_size(indexrelid) FROM pg_stat_user_indexes"
+                            + " WHERE relname = :table")
+                    .param("table", TABLE)
+                    .query((rs, rowNum) -> Map.entry(rs.getString(1), rs.getLong(2)))
+                    .list()
+                    .forEach(index -> indexSize(index.getKey()).set(index.getValue()));
+            // Served by the partial index on incomplete publications
+            incomplete.set(jdbcClient
+                    .sql("SELECT count(*) FROM event_publication WHERE completion_date IS NULL")
+                    .query(Long.class)
+                    .single());
+        } catch (RuntimeException e) {
+            logger.warn("Could not read event_publication sizes: {}", e.getMessage());
+        }
+    }
+
+    private AtomicLong indexSize(String index) {
+        return indexSizes.computeIfAbsent(index, name -> {
+            AtomicLong size = new AtomicLong();
+            Gauge.builder("event_publication.index.size", size, AtomicLong::get)
+                    .description("Size of one index on event_publication")
+                    .baseUnit(BaseUnits.BYTES)
+                    .tag("index", name)
+                    .register(meterRegistry);
+            return size;
+        });
+    }
+
+    /** Sleeps between chunks; returns {@code false} if the thread was interrupted (shutdown). */
+    private boolean pause() {
+        if (properties.pauseBetweenChunks().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.pauseBetweenChunks());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
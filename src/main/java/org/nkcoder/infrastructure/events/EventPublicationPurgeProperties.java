@@ -0,0 +1,71 @@
+package org.nkcoder.infrastructure.events;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Retention of completed Spring Modulith event publications.
+ *
+ * @param enabled whether the purge job runs
+ * @param mode {@code delete} drops completed publications, {@code archive} moves them to
+ *     {@code event_publication_archive}
+ * @param retention how long completed publications are kept
+ * @param chunkSize rows deleted per statement (and per transaction)
+ * @param maxChunksPerRun upper bound of chunks per run, so one run cannot monopolize the database after a long pause
+ * @param pauseBetweenChunks pause between chunks, to leave I/O for regular traffic
+ * @param interval delay between two runs
+ * @param initialDelay delay before the first run after startup
+ * @param metricsInterval how often the table and index size gauges are refreshed
+ */
+@ConfigurationProperties(prefix = "event-publication.purge")
+@Validated
+public record EventPublicationPurgeProperties(
+        Boolean enabled,
+        Mode mode,
+        Duration retention,
+        @Min(1) @Max(100_000) int chunkSize,
+        @Min(1) int maxChunksPerRun,
+        Duration pauseBetweenChunks,
+        Duration interval,
+        Duration initialDelay,
+        Duration metricsInterval) {
+
+    public EventPublicationPurgeProperties {
+        // Compact constructor with default values
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (mode == null) {
+            mode = Mode.DELETE;
+        }
+        if (retention == null || retention.isNegative()) {
+            retention = Duration.ofDays(7);
+        }
+        if (chunkSize <= 0) {
+            chunkSize = 1000;
+        }
+        if (maxChunksPerRun <= 0) {
+            maxChunksPerRun = 500;
+        }
+        if (pauseBetweenChunks == null || pauseBetweenChunks.isNegative()) {
+            pauseBetweenChunks = Duration.ofMillis(50);
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            interval = Duration.ofHours(1);
+        }
+        if (initialDelay == null || initialDelay.isNegative()) {
+            initialDelay = Duration.ofMinutes(5);
+        }
+        if (metricsInterval == null || metricsInterval.isNegative() || metricsInterval.isZero()) {
+            metricsInterval = Duration.ofMinutes(5);
+        }
+    }
+
+    public enum Mode {
+        DELETE,
+        ARCHIVE
+    }
+}
@@ -0,0 +1,73 @@
+package org.nkcoder.infrastructure.events;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Resubmission of incomplete Spring Modulith event publications, see {@link EventPublicationResubmitter}.
+ *
+ * @param enabled whether the resubmitter runs
+ * @param batchSize publications claimed per statement
+ * @param parallelism listener invocations running at the same time on this instance
+ * @param maxInFlight resubmitted publications not completed yet, across all instances, above which no more are claimed
+ * @param maxRate listener invocations per second on this instance, {@code 0} for no limit
+ * @param maxAttempts resubmissions of one publication before it is left alone (and counted as exhausted)
+ * @param initialBackoff delay before the second resubmission of a publication, doubled for every further one
+ * @param maxBackoff upper bound of the delay between two resubmissions of a publication
+ * @param staleAfter age after which a publication that is still published, processing or resubmitted (e.g. because its
+ *     instance died) is considered abandoned and resubmitted; failed publications are resubmitted right away
+ * @param interval delay between two runs
+ * @param initialDelay delay before the first run after startup
+ */
+@ConfigurationProperties(prefix = "event-publication.resubmission")
+@Validated
+public record EventPublicationResubmissionProperties(
+        Boolean enabled,
+        @Min(1) @Max(10_000) int batchSize,
+        @Min(1) @Max(1_000) int parallelism,
+        @Min(1) int maxInFlight,
+        @Min(0) int maxRate,
+        @Min(1) int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        Duration staleAfter,
+        Duration interval,
+        Duration initialDelay) {
+
+    public EventPublicationResubmissionProperties {
+        // Compact constructor with default values
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (batchSize <= 0) {
+            batchSize = 100;
+        }
+        if (parallelism <= 0) {
+            parallelism = 8;
+        }
+        if (maxInFlight <= 0) {
+            maxInFlight = 500;
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 10;
+        }
+        if (initialBackoff == null || initialBackoff.isNegative()) {
+            initialBackoff = Duration.ofSeconds(30);
+        }
+        if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+            maxBackoff = Duration.ofHours(1);
+        }
+        if (staleAfter == null || staleAfter.isNegative() || staleAfter.isZero()) {
+            staleAfter = Duration.ofMinutes(5);
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            interval = Duration.ofSeconds(30);
+        }
+        if (initialDelay == null || initialDelay.isNegative()) {
+            initialDelay = Duration.ofMinutes(1);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package org.nkcoder.infrastructure.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resubmits incomplete event publications in parallel, from any number of instances.
+ *
+ * <p>Spring Modulith's own resubmission reads all failed publications on every instance and republishes them one by
+ * one. Here each run claims up to {@link EventPublicationResubmissionProperties#batchSize()} publications with
+ * {@code FOR UPDATE SKIP LOCKED}, marking them {@code RESUBMITTED} in the same statement, so concurrent instances
+ * always get disjoint batches. The claimed publications are then handed to their listeners on virtual threads, at most
+ * {@link EventPublicationResubmissionProperties#parallelism()} at a time and at most
+ * {@link EventPublicationResubmissionProperties#maxRate()} per second. Completion and failure are recorded by Spring
+ * Modulith as for a regular publication.
+ *
+ * <p>A publication is eligible when it has failed, or when it has been published, processing or resubmitted for longer
+ * than {@link EventPublicationResubmissionProperties#staleAfter()}. Its {@code completion_attempts} and
+ * {@code last_resubmission_date} give an exponential backoff between resubmissions; after
+ * {@link EventPublicationResubmissionProperties#maxAttempts()} attempts it is no longer resubmitted automatically. No
+ * more publications are claimed while {@link EventPublicationResubmissionProperties#maxInFlight()} resubmitted ones are
+ * outstanding, so a large backlog cannot flood asynchronous listeners.
+ */
+@Component
+public class EventPublicationResubmitter implements SchedulingConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPublicationResubmitter.class);
+
+    public static final String RESUBMITTED_METRIC = "event_publication.resubmitted";
+    public static final String BACKLOG_METRIC = "event_publication.resubmission.backlog";
+    public static final String EXHAUSTED_METRIC = "event_publication.resubmission.exhausted";
+
+    private static final String USE_CASE = "event-publication-resubmit";
+
+    /** Publications that may be resubmitted now, ignoring the attempt limit. */
+    private static final String ELIGIBLE = """
+            completion_date IS NULL
+            AND (status IS NULL
+                 OR status = 'FAILED'
+                 OR coalesce(last_resubmission_date, publication_date) < :staleBefore)
+            AND (last_resubmission_date IS NULL
+                 OR last_resubmission_date < :now - least(:maxBackoffMillis,
+                        :initialBackoffMillis * power(2, least(greatest(coalesce(completion_attempts, 0) - 1, 0), 30)))
+                    * interval '1 millisecond')
+            """;
+
+    private static final String CLAIM = """
+            UPDATE event_publication
+            SET status = 'RESUBMITTED',
+                completion_attempts = coalesce(completion_attempts, 0) + 1,
+                last_resubmission_date = :now
+            WHERE id IN (SELECT id FROM event_publication
+                         WHERE %s
+                           AND coalesce(completion_attempts, 0) < :maxAttempts
+                         ORDER BY publication_date
+                         LIMIT :limit
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING id, listener_id, event_type, serialized_event
+            """.formatted(ELIGIBLE);
+
+    private static final String IN_FLIGHT = """
+            SELECT count(*) FROM event_publication
+            WHERE completion_date IS NULL AND status = 'RESUBMITTED' AND last_resubmission_date >= :staleBefore
+            """;
+
+    private static final String BACKLOG = """
+            SELECT count(*) FILTER (WHERE coalesce(completion_attempts, 0) < :maxAttempts),
+                   count(*) FILTER (WHERE coalesce(completion_attempts, 0) >= :maxAttempts)
+            FROM event_publication
+            WHERE %s
+            """.formatted(ELIGIBLE);
+
+    private final JdbcClient jdbcClient;
+    private final TransactionRunner transactionRunner;
+    private final EventSerializer eventSerializer;
+    private final ApplicationContext applicationContext;
+    private final EventPublicationResubmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("event-resubmit-", 0).factory());
+    private final Semaphore permits;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+    private volatile Map<String, TransactionalApplicationListener<ApplicationEvent>> listeners;
+
+    public EventPublicationResubmitter(
+            JdbcClient jdbcClient,
+            TransactionRunner transactionRunner,
+            EventSerializer eventSerializer,
+            ApplicationContext applicationContext,
+            EventPublicationResubmissionProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcClient = jdbcClient;
+        this.transactionRunner = transactionRunner;
+        this.eventSerializer = eventSerializer;
+        this.applicationContext = applicationContext;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(properties.parallelism());
+        Gauge.builder(BACKLOG_METRIC, backlog, AtomicLong::get)
+                .description("Incomplete event publications waiting to be resubmitted")
+                .register(meterRegistry);
+        Gauge.builder(EXHAUSTED_METRIC, exhausted, AtomicLong::get)
+                .description("Incomplete event publications that reached the maximum number of resubmissions")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.enabled()) {
+            registrar.addFixedDelayTask(
+                    new FixedDelayTask(this::resubmit, properties.interval(), properties.initialDelay()));
+        }
+    }
+
+    /**
+     * Claims and dispatches eligible publications until none are left, the in-flight limit is reached or the thread is
+     * interrupted.
+     *
+     * @return number of publications handed to their listeners
+     */
+    public int resubmit() {
+        int dispatched = 0;
+        try {
+            while (true) {
+                int capacity = (int) Math.min(properties.batchSize(), properties.maxInFlight() - inFlight());
+                if (capacity <= 0) {
+                    logger.debug("{} resubmitted publications still in flight, not claiming more", inFlight());
+                    break;
+                }
+                List<ClaimedPublication> claimed = claim(capacity);
+                dispatched += dispatch(claimed);
+                if (claimed.size() < capacity || Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Resubmitting event publications failed after {}: {}", dispatched, e.getMessage());
+        } finally {
+            refreshBacklog();
+        }
+        if (dispatched > 0) {
+            logger.info("Resubmitted {} event publications", dispatched);
+        }
+        return dispatched;
+    }
+
+    private long inFlight() {
+        return jdbcClient
+                .sql(IN_FLIGHT)
+                .param("staleBefore", now().minus(properties.staleAfter()))
+                .query(Long.class)
+                .single();
+    }
+
+    private List<ClaimedPublication> claim(int limit) {
+        OffsetDateTime now = now();
+        return transactionRunner.execute(USE_CASE, () -> withEligibilityParams(jdbcClient.sql(CLAIM), now)
+                .param("maxAttempts", properties.maxAttempts())
+                .param("limit", limit)
+                .query((rs, rowNum) -> new ClaimedPublication(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("listener_id"),
+                        rs.getString("event_type"),
+                        rs.getString("serialized_event")))
+                .list());
+    }
+
+    /** Runs the listeners of a claimed batch and waits for the batch, so the next claim sees its outcome. */
+    private int dispatch(List<ClaimedPublication> claimed) {
+        long pacingNanos = properties.maxRate() > 0 ? Duration.ofSeconds(1).toNanos() / properties.maxRate() : 0;
+        long next = System.nanoTime();
+        List<Future<?>> running = new ArrayList<>(claimed.size());
+        int dispatched = 0;
+        try {
+            for (ClaimedPublication publication : claimed) {
+                if (pacingNanos > 0) {
+                    long wait = next - System.nanoTime();
+                    if (wait > 0) {
+                        Thread.sleep(Duration.ofNanos(wait));
+                    }
+                    next = Math.max(next, System.nanoTime()) + pacingNanos;
+                }
+                permits.acquire();
+                running.add(executor.submit(() -> {
+                    try {
+                        invoke(publication);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+                dispatched++;
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            // Undispatched publications stay RESUBMITTED and are picked up again once stale
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return dispatched;
+    }
+
+    private void invoke(ClaimedPublication publication) {
+        TransactionalApplicationListener<ApplicationEvent> listener =
+                listeners().get(publication.listenerId());
+        if (listener == null) {
+            logger.warn("No listener {} for event publication {}", publication.listenerId(), publication.id());
+            markFailed(publication, "no_listener");
+            return;
+        }
+        Object event;
+        try {
+            Class<?> type = ClassUtils.forName(publication.eventType(), applicationContext.getClassLoader());
+            event = eventSerializer.deserialize(publication.serializedEvent(), type);
+        } catch (ClassNotFoundException | RuntimeException e) {
+            logger.warn("Cannot read event publication {}: {}", publication.id(), e.getMessage());
+            markFailed(publication, "unreadable");
+            return;
+        }
+        // Spring Modulith finds the publication to complete by its serialized form; if the serialization format changed
+        // since the event was stored, store it in the current format first so that lookup matches
+        String serialized = eventSerializer.serialize(event).toString();
+        if (!serialized.equals(publication.serializedEvent())) {
+            jdbcClient
+                    .sql("UPDATE event_publication SET serialized_event = :serialized WHERE id = :id")
+                    .param("serialized", serialized)
+                    .param("id", publication.id())
+                    .update();
+        }
+        try {
+            ApplicationEvent applicationEvent =
+                    event instanceof ApplicationEvent ae ? ae : new PayloadApplicationEvent<>(this, event);
+            // Completion (or failure) is recorded by Spring Modulith's listener interceptor
+            listener.processEvent(applicationEvent);
+            resubmittedCounter("dispatched").increment();
+        } catch (RuntimeException e) {
+            logger.debug("Listener {} failed for publication {}", publication.listenerId(), publication.id(), e);
+            resubmittedCounter("failed").increment();
+        }
+    }
+
+    private void markFailed(ClaimedPublication publication, String reason) {
+        jdbcClient
+                .sql("UPDATE event_publication SET status = 'FAILED' WHERE id = :id AND completion_date IS NULL")
+                .param("id", publication.id())
+                .update();
+        resubmittedCounter(reason).increment();
+    }
+
+    private void refreshBacklog() {
+        try {
+            withEligibilityParams(jdbcClient.sql(BACKLOG), now())
+                    .param("maxAttempts", properties.maxAttempts())
+                    .query((rs, rowNum) -> {
+                        backlog.set(rs.getLong(1));
+                        exhausted.set(rs.getLong(2));
+                        return null;
+                    })
+                    .list();
+        } catch (RuntimeException e) {
+            logger.warn("Could not count the event publication backlog: {}", e.getMessage());
+        }
+    }
+
+    private JdbcClient.StatementSpec withEligibilityParams(JdbcClient.StatementSpec statement, OffsetDateTime now) {
+        return statement
+                .param("now", now)
+                .param("staleBefore", now.minus(properties.staleAfter()))
+                .param("initialBackoffMillis", properties.initialBackoff().toMillis())
+                .param("maxBackoffMillis", properties.maxBackoff().toMillis());
+    }
+
+    /** Persistent listeners by id, as Spring Modulith identifies them in {@code listener_id}. */
+    @SuppressWarnings("unchecked")
+    private Map<String, TransactionalApplicationListener<ApplicationEvent>> listeners() {
+        Map<String, TransactionalApplicationListener<ApplicationEvent>> result = listeners;
+        if (result == null) {
+            result = ((AbstractApplicationContext) applicationContext)
+                    .getApplicationListeners().stream()
+                            .filter(TransactionalApplicationListener.class::isInstance)
+                            .map(listener -> (TransactionalApplicationListener<ApplicationEvent>) listener)
+                            .collect(Collectors.toMap(
+                                    TransactionalApplicationListener::getListenerId,
+                                    Function.identity(),
+                                    (first, second) -> first));
+            listeners = result;
+        }
+        return result;
+    }
+
+    private Counter resubmittedCounter(String result) {
+        return Counter.builder(RESUBMITTED_METRIC)
+                .description("Event publications claimed for resubmission, by outcome of handing them to the listener")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record ClaimedPublication(UUID id, String listenerId, String eventType, String serializedEvent) {}
+}
@@ -0,0 +1,25 @@
+package org.nkcoder.infrastructure.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * How domain events are stored in {@code event_publication.serialized_event}.
+ *
+ * @param format {@code json} (Spring Modulith's default) or {@code protobuf} for event types that have an
+ *     {@link EventCodec}; payloads written in either format can always be read back
+ */
+@ConfigurationProperties(prefix = "event-publication.serialization")
+public record EventSerializationProperties(Format format) {
+
+    public EventSerializationProperties {
+        // Compact constructor with default values
+        if (format == null) {
+            format = Format.JSON;
+        }
+    }
+
+    public enum Format {
+        JSON,
+        PROTOBUF
+    }
+}
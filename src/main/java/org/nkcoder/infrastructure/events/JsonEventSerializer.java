@@ -0,0 +1,25 @@
+package org.nkcoder.infrastructure.events;
+
+import java.util.function.Supplier;
+import org.springframework.modulith.events.core.EventSerializer;
+import tools.jackson.databind.json.JsonMapper;
+
+/** JSON event serialization, equivalent to Spring Modulith's default (its implementation is not public). */
+public class JsonEventSerializer implements EventSerializer {
+
+    private final Supplier<JsonMapper> mapper;
+
+    public JsonEventSerializer(Supplier<JsonMapper> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Object serialize(Object event) {
+        return mapper.get().writeValueAsString(event);
+    }
+
+    @Override
+    public <T> T deserialize(Object serialized, Class<T> type) {
+        return mapper.get().readValue(serialized.toString(), type);
+    }
+}
@@ -0,0 +1,79 @@
+package org.nkcoder.infrastructure.events;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.modulith.events.core.EventSerializer;
+
+/**
+ * Stores events that have an {@link EventCodec} as Base64-encoded protobuf and everything else as JSON.
+ *
+ * <p>{@code serialized_event} is a {@code TEXT} column, hence the Base64 step; even with it, a protobuf payload is
+ * about 40% smaller than the JSON one because field names, quoting and 36-character UUID strings go away. Reading
+ * detects the format from the payload itself (JSON objects start with <code>&#123;</code>, which is not in the Base64
+ * alphabet), so publications written before switching formats, in either direction, are still resubmitted correctly.
+ */
+public class ProtobufEventSerializer implements EventSerializer {
+
+    private final Map<Class<?>, EventCodec<?>> codecs = new HashMap<>();
+    private final EventSerializer json;
+    private final boolean encodeProtobuf;
+
+    /**
+     * @param codecs binary codecs by event type
+     * @param json serializer used for events without a codec and for reading JSON payloads
+     * @param encodeProtobuf whether to write protobuf for events with a codec; when {@code false} everything is written
+     *     as JSON but protobuf payloads can still be read
+     */
+    public ProtobufEventSerializer(List<EventCodec<?>> codecs, EventSerializer json, boolean encodeProtobuf) {
+        for (EventCodec<?> codec : codecs) {
+            EventCodec<?> previous = this.codecs.put(codec.eventType(), codec);
+            if (previous != null) {
+                throw new IllegalStateException(
+                        "Two event codecs for " + codec.eventType().getName() + ": "
+                                + previous.getClass().getName() + " and "
+                                + codec.getClass().getName());
+            }
+        }
+        this.json = json;
+        this.encodeProtobuf = encodeProtobuf;
+    }
+
+    @Override
+    public Object serialize(Object event) {
+        EventCodec<Object> codec = encodeProtobuf ? codecFor(event.getClass()) : null;
+        if (codec == null) {
+            return json.serialize(event);
+        }
+        return Base64.getEncoder().encodeToString(codec.encode(event));
+    }
+
+    @Override
+    public <T> T deserialize(Object serialized, Class<T> type) {
+        String payload = serialized.toString();
+        if (isJson(payload)) {
+            return json.deserialize(serialized, type);
+        }
+        EventCodec<Object> codec = codecFor(type);
+        if (codec == null) {
+            throw new IllegalStateException("No event codec for binary payload of " + type.getName());
+        }
+        return type.cast(codec.decode(Base64.getDecoder().decode(payload)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventCodec<Object> codecFor(Class<?> type) {
+        return (EventCodec<Object>) codecs.get(type);
+    }
+
+    private static boolean isJson(String payload) {
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[' || c == '"';
+            }
+        }
+        return true;
+    }
+}
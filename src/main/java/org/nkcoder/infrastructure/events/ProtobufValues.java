@@ -0,0 +1,42 @@
+package org.nkcoder.infrastructure.events;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/** Conversions between Java value types and their compact protobuf representation, shared by {@link EventCodec}s. */
+public final class ProtobufValues {
+
+    private ProtobufValues() {}
+
+    /** UUID as 16 bytes instead of its 36-character string form. */
+    public static ByteString uuid(UUID value) {
+        return ByteString.copyFrom(ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .flip());
+    }
+
+    public static UUID uuid(ByteString bytes) {
+        if (bytes.size() != 16) {
+            throw new IllegalArgumentException("UUID must be 16 bytes, got " + bytes.size());
+        }
+        ByteBuffer buffer = bytes.asReadOnlyByteBuffer();
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /** Zone-less timestamp, stored as if it were UTC so that it round-trips unchanged. */
+    public static Timestamp timestamp(LocalDateTime value) {
+        return Timestamp.newBuilder()
+                .setSeconds(value.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(value.getNano())
+                .build();
+    }
+
+    public static LocalDateTime localDateTime(Timestamp value) {
+        return LocalDateTime.ofEpochSecond(value.getSeconds(), value.getNanos(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,88 @@
+package org.nkcoder.infrastructure.grpc;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.nkcoder.infrastructure.resilience.Bulkhead;
+import org.nkcoder.infrastructure.resilience.BulkheadFullException;
+import org.nkcoder.infrastructure.resilience.BulkheadRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits concurrent gRPC work per method with the bulkhead configured in {@link GrpcInterceptorProperties}, the
+ * counterpart of the bulkheads the REST controllers use.
+ *
+ * <p>A permit is held while the handler processes a request: the whole handler for unary and server-streaming calls,
+ * each inbound message for client- and bidirectional-streaming calls, so a long-lived stream does not hold a permit
+ * while it is idle. A rejected call is closed with {@code UNAVAILABLE}.
+ */
+@Component
+@GlobalServerInterceptor
+@Order(BulkheadServerInterceptor.ORDER)
+public class BulkheadServerInterceptor implements ServerInterceptor {
+
+    /** Runs after authentication, so unauthenticated calls never take a permit. */
+    public static final int ORDER = 30;
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadServerInterceptor.class);
+
+    private final BulkheadRegistry bulkheads;
+    private final GrpcInterceptorProperties properties;
+
+    public BulkheadServerInterceptor(BulkheadRegistry bulkheads, GrpcInterceptorProperties properties) {
+        this.bulkheads = bulkheads;
+        this.properties = properties;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        Bulkhead bulkhead = bulkheads.get(properties.bulkheadFor(method.getFullMethodName()));
+        boolean perMessage = !method.getType().clientSendsOneMessage();
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            private boolean closed;
+
+            @Override
+            public void onMessage(ReqT message) {
+                if (perMessage) {
+                    admit(() -> super.onMessage(message));
+                } else if (!closed) {
+                    super.onMessage(message);
+                }
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!perMessage) {
+                    admit(super::onHalfClose);
+                } else if (!closed) {
+                    super.onHalfClose();
+                }
+            }
+
+            private void admit(Runnable work) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    bulkhead.run(work);
+                } catch (BulkheadFullException e) {
+                    logger.warn("Rejected {}: bulkhead '{}' is full", method.getFullMethodName(), e.getBulkheadName());
+                    closed = true;
+                    call.close(
+                            Status.UNAVAILABLE.withDescription("Service is busy, please retry later"), new Metadata());
+                }
+            }
+        };
+    }
+}
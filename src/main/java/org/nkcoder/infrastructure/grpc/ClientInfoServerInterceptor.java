@@ -0,0 +1,62 @@
+package org.nkcoder.infrastructure.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import org.springframework.core.annotation.Order;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes the client's address and {@code user-agent} available to service implementations through
+ * {@link #remoteAddress()} and {@link #userAgent()}, the gRPC counterpart of reading them from the servlet request.
+ */
+@Component
+@GlobalServerInterceptor
+@Order(ClientInfoServerInterceptor.ORDER)
+public class ClientInfoServerInterceptor implements ServerInterceptor {
+
+    /** Outermost of our interceptors, so every later callback sees the client info. */
+    public static final int ORDER = 5;
+
+    private static final Metadata.Key<String> USER_AGENT =
+            Metadata.Key.of("user-agent", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Context.Key<String> REMOTE_ADDRESS_KEY = Context.key("client-remote-address");
+    private static final Context.Key<String> USER_AGENT_KEY = Context.key("client-user-agent");
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        Context context = Context.current()
+                .withValues(
+                        REMOTE_ADDRESS_KEY,
+                        hostAddress(call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR)),
+                        USER_AGENT_KEY,
+                        headers.get(USER_AGENT));
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    /** IP address of the client of the current call, or {@code null} outside a call or when unknown. */
+    public static String remoteAddress() {
+        return REMOTE_ADDRESS_KEY.get();
+    }
+
+    /** {@code user-agent} of the client of the current call, or {@code null} outside a call or when not sent. */
+    public static String userAgent() {
+        return USER_AGENT_KEY.get();
+    }
+
+    private static String hostAddress(SocketAddress address) {
+        if (address instanceof InetSocketAddress inet) {
+            return inet.getAddress() != null ? inet.getAddress().getHostAddress() : inet.getHostString();
+        }
+        return address != null ? address.toString() : null;
+    }
+}
@@ -0,0 +1,78 @@
+package org.nkcoder.infrastructure.grpc;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.nkcoder.infrastructure.transaction.RequestDeadline;
+import org.springframework.core.annotation.Order;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propagates the client's gRPC deadline to the database.
+ *
+ * <p>Every callback that runs application code is executed with the remaining time as the {@link RequestDeadline},
+ * which the transaction manager turns into a statement timeout. Calls that were cancelled or ran out of time before the
+ * handler got to run are skipped: gRPC has already answered them with {@code CANCELLED} or {@code DEADLINE_EXCEEDED}.
+ */
+@Component
+@GlobalServerInterceptor
+@Order(DeadlineServerInterceptor.ORDER)
+public class DeadlineServerInterceptor implements ServerInterceptor {
+
+    /** Runs outside authentication and admission, so time spent there counts against the deadline. */
+    public static final int ORDER = 10;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        // Streaming handlers run when the call starts, unary ones on half-close
+        ServerCall.Listener<ReqT> listener = callWithinDeadline(() -> next.startCall(call, headers));
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                if (!Context.current().isCancelled()) {
+                    withinDeadline(() -> super.onMessage(message));
+                }
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!Context.current().isCancelled()) {
+                    withinDeadline(super::onHalfClose);
+                }
+            }
+
+            @Override
+            public void onReady() {
+                withinDeadline(super::onReady);
+            }
+        };
+    }
+
+    private static void withinDeadline(Runnable work) {
+        callWithinDeadline(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static <T> T callWithinDeadline(Supplier<T> work) {
+        Deadline deadline = Context.current().getDeadline();
+        if (deadline == null) {
+            return work.get();
+        }
+        try (RequestDeadline.Scope scope =
+                RequestDeadline.open(Duration.ofNanos(deadline.timeRemaining(TimeUnit.NANOSECONDS)))) {
+            return work.get();
+        }
+    }
+}
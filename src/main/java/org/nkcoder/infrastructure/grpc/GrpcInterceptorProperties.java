@@ -0,0 +1,61 @@
+package org.nkcoder.infrastructure.grpc;
+
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the gRPC server interceptors. Transport settings stay under {@code spring.grpc.server}.
+ *
+ * <p>Methods are matched by full name ({@code package.Service/Method}) or by service ({@code package.Service/*}).
+ *
+ * <pre>
+ * grpc:
+ *   interceptors:
+ *     public-methods:
+ *       - org.nkcoder.grpc.AuthService/*
+ *     bulkheads:
+ *       "[org.nkcoder.grpc.UserService/*]": admin
+ *     default-bulkhead: grpc
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "grpc.interceptors")
+@Validated
+public record GrpcInterceptorProperties(
+        List<String> publicMethods,
+        Map<String, String> bulkheads,
+        @NotBlank String defaultBulkhead) {
+
+    public GrpcInterceptorProperties {
+        // Compact constructor with default values
+        if (publicMethods == null) {
+            publicMethods = List.of();
+        }
+        if (bulkheads == null) {
+            bulkheads = Map.of();
+        }
+        if (defaultBulkhead == null) {
+            defaultBulkhead = "grpc";
+        }
+    }
+
+    /** Whether {@code fullMethodName} may be called without a bearer token. */
+    public boolean isPublic(String fullMethodName) {
+        return publicMethods.contains(fullMethodName) || publicMethods.contains(serviceWildcard(fullMethodName));
+    }
+
+    /** Name of the bulkhead that limits concurrent calls of {@code fullMethodName}. */
+    public String bulkheadFor(String fullMethodName) {
+        String bulkhead = bulkheads.get(fullMethodName);
+        if (bulkhead == null) {
+            bulkhead = bulkheads.getOrDefault(serviceWildcard(fullMethodName), defaultBulkhead);
+        }
+        return bulkhead;
+    }
+
+    private static String serviceWildcard(String fullMethodName) {
+        return fullMethodName.substring(0, fullMethodName.lastIndexOf('/') + 1) + "*";
+    }
+}
@@ -0,0 +1,81 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the statement count of a finished {@link StatementCounter.Scope} and reports scopes that went over their
+ * budget or repeated one statement suspiciously often.
+ *
+ * <p>Metrics, all tagged with {@code kind} ({@code http} or {@code use_case}) and {@code name} (URI pattern or use
+ * case, both bounded):
+ *
+ * <ul>
+ *   <li>{@value #STATEMENTS_METRIC} - statements per request or use case
+ *   <li>{@value #OVER_BUDGET_METRIC} - requests or use cases that exceeded their budget
+ *   <li>{@value #REPEATED_METRIC} - requests or use cases that ran one statement at least {@code repetition-threshold}
+ *       times (likely N+1)
+ * </ul>
+ */
+@Component
+public class StatementBudgetMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementBudgetMonitor.class);
+
+    public static final String STATEMENTS_METRIC = "db.statements";
+    public static final String OVER_BUDGET_METRIC = "db.statements.over_budget";
+    public static final String REPEATED_METRIC = "db.statements.repeated";
+
+    public static final String KIND_HTTP = "http";
+    public static final String KIND_USE_CASE = "use_case";
+
+    private final StatementCountingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public StatementBudgetMonitor(StatementCountingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Records the scope's statements under {@code name}, which must come from a bounded set. */
+    public void completed(String kind, String name, StatementCounter.Scope scope) {
+        if (!properties.enabled()) {
+            return;
+        }
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements issued by one HTTP request or use case")
+                .tag("kind", kind)
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.count());
+
+        int budget = properties.budget(name);
+        if (scope.count() > budget) {
+            counter(OVER_BUDGET_METRIC, kind, name).increment();
+            logger.warn("{} {} issued {} SQL statements, budget is {}", kind, name, scope.count(), budget);
+        }
+        if (scope.maxRepetitions() >= properties.repetitionThreshold()) {
+            counter(REPEATED_METRIC, kind, name).increment();
+            for (Map.Entry<String, Integer> statement : scope.statements().entrySet()) {
+                if (statement.getValue() >= properties.repetitionThreshold()) {
+                    logger.warn(
+                            "{} {} ran the same statement {} times (N+1?): {}",
+                            kind,
+                            name,
+                            statement.getValue(),
+                            statement.getKey());
+                }
+            }
+        }
+    }
+
+    private Counter counter(String metric, String kind, String name) {
+        return Counter.builder(metric).tag("kind", kind).tag("name", name).register(meterRegistry);
+    }
+}
@@ -0,0 +1,107 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Attributes SQL statements to the unit of work running on the current thread.
+ *
+ * <p>A {@link Scope} is opened per HTTP request ({@link StatementCountingFilter}) and per
+ * {@link org.nkcoder.infrastructure.transaction.TransactionRunner} use case; every statement prepared through
+ * {@link StatementCountingDataSource} while it is open is counted in it and in all enclosing scopes. Without an open
+ * scope, statements are not counted at all.
+ *
+ * <p>Scopes are thread-confined: work handed to another thread is not attributed to the scope that started it.
+ */
+public final class StatementCounter {
+
+    /** Distinct statements remembered per scope; further ones are still counted, but not listed. */
+    static final int MAX_DISTINCT_STATEMENTS = 64;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {}
+
+    /** Opens a scope nested in the current one, if any. Close it on the same thread, in reverse order of opening. */
+    public static Scope open(String name) {
+        Scope scope = new Scope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** The innermost open scope of the current thread. */
+    public static Optional<Scope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.record(sql);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final Scope parent;
+        private final Map<String, Integer> statements = new LinkedHashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(String name, Scope parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /** Number of statements executed in this scope so far, including nested scopes. */
+        public int count() {
+            return count;
+        }
+
+        /** Statement text with the number of times it was executed, in order of first execution. */
+        public Map<String, Integer> statements() {
+            return Collections.unmodifiableMap(statements);
+        }
+
+        /** Highest number of times a single statement was executed; a high value usually means an N+1 query. */
+        public int maxRepetitions() {
+            int max = 0;
+            for (int repetitions : statements.values()) {
+                max = Math.max(max, repetitions);
+            }
+            return max;
+        }
+
+        private void record(String sql) {
+            count++;
+            if (sql == null) {
+                return;
+            }
+            Integer repetitions = statements.get(sql);
+            if (repetitions != null) {
+                statements.put(sql, repetitions + 1);
+            } else if (statements.size() < MAX_DISTINCT_STATEMENTS) {
+                statements.put(sql, 1);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
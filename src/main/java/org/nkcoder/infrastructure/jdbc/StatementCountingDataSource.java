@@ -0,0 +1,83 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the statements issued through its connections in the current {@link StatementCounter} scope.
+ *
+ * <p>A {@code PreparedStatement} or {@code CallableStatement} counts once when it is prepared, however many batch
+ * entries it carries, because that is what a round trip costs; a plain {@code Statement} counts once per
+ * {@code execute*} call. Connections are wrapped in a JDK proxy; statements from {@code prepareStatement} are returned
+ * as is, so the per-statement overhead is one map lookup when a scope is open and none otherwise.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args != null) {
+                StatementCounter.record((String) args[0]);
+            } else if (name.equals("unwrap") && args != null && ((Class<?>) args[0]).isInstance(proxy)) {
+                return proxy;
+            }
+            Object result = invokeTarget(target, method, args);
+            if (name.equals("createStatement") && result instanceof Statement statement) {
+                return Proxy.newProxyInstance(
+                        StatementCountingDataSource.class.getClassLoader(),
+                        new Class<?>[] {Statement.class},
+                        new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("execute")) {
+                StatementCounter.record(args != null && args.length > 0 && args[0] instanceof String sql ? sql : null);
+            }
+            return invokeTarget(target, method, args);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL statements of each HTTP request and reports them to {@link StatementBudgetMonitor}, keyed by the
+ * matched URI pattern so the number of series stays bounded. Requests that matched no handler are reported as
+ * {@code UNKNOWN}. Requests that end in an exception are reported too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final StatementBudgetMonitor monitor;
+    private final StatementCountingProperties properties;
+
+    public StatementCountingFilter(StatementBudgetMonitor monitor, StatementCountingProperties properties) {
+        this.monitor = monitor;
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // The pattern is only known once the handler mapping has run, so the scope is named after the raw URI (it is
+        // only seen while debugging) and reported under the pattern
+        try (StatementCounter.Scope scope = StatementCounter.open(request.getRequestURI())) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                monitor.completed(StatementBudgetMonitor.KIND_HTTP, reportedName(request), scope);
+            }
+        }
+    }
+
+    private static String reportedName(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern) {
+            return pattern;
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,43 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import jakarta.validation.constraints.Min;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * SQL statement counting.
+ *
+ * @param enabled whether the data source is wrapped at all (needs a restart to change)
+ * @param defaultBudget statements an HTTP request or use case may issue before it is reported as over budget
+ * @param budgets budgets overriding {@code defaultBudget}, keyed by URI pattern (e.g. {@code /api/users/{userId}}) or
+ *     use case (e.g. {@code login})
+ * @param repetitionThreshold executions of the same statement within one scope from which it is reported as a likely
+ *     N+1 query
+ */
+@ConfigurationProperties(prefix = "sql.statements")
+@Validated
+public record StatementCountingProperties(
+        Boolean enabled,
+        @Min(1) int defaultBudget,
+        Map<String, Integer> budgets,
+        @Min(2) int repetitionThreshold) {
+
+    public StatementCountingProperties {
+        // Compact constructor with default values
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (defaultBudget <= 0) {
+            defaultBudget = 20;
+        }
+        budgets = budgets == null ? Map.of() : Map.copyOf(budgets);
+        if (repetitionThreshold <= 0) {
+            repetitionThreshold = 5;
+        }
+    }
+
+    public int budget(String scope) {
+        return budgets.getOrDefault(scope, defaultBudget);
+    }
+}
@@ -8,6 +8,16 @@
  *   <li>Web configuration
  *   <li>OpenAPI/Swagger configuration
  *   <li>JPA auditing configuration
+ *   <li>Programmatic transactions with connection hold-time metrics
+ *   <li>SQL statement counting per request and use case, with budgets and N+1 detection
+ *   <li>Bulkheads (semaphore admission limits) for request handling
+ *   <li>Single-flight coalescing of identical concurrent calls
+ *   <li>gRPC server interceptors (client address, deadline propagation, per-method admission limits)
+ *   <li>Retention (purge/archive) and size metrics for the event publication table
+ *   <li>Parallel, multi-instance resubmission of incomplete event publications
+ *   <li>Pluggable event serialization (JSON or protobuf) for the event publication table
+ *   <li>Virtual-thread pinning and lock contention monitoring (JFR event stream, actuator endpoint)
+ *   <li>Rate-limited logging for floods of client errors
  * </ul>
  *
  * <p>This is a shared module - all other modules can access it.
@@ -0,0 +1,158 @@
+package org.nkcoder.infrastructure.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Semaphore-based admission limit for one class of use cases.
+ *
+ * <p>With virtual threads every request gets its own thread, so the servlet container no longer limits how many
+ * requests compete for the connection pool and the CPU-bound bcrypt work. A bulkhead admits at most
+ * {@code maxConcurrent} calls, lets up to {@code maxWaiting} more wait (in FIFO order) for at most {@code maxWait}, and
+ * rejects everything else immediately with {@link BulkheadFullException}.
+ *
+ * <p>Metrics, all tagged with {@code name}:
+ *
+ * <ul>
+ *   <li>{@code bulkhead.active} / {@code bulkhead.waiting} / {@code bulkhead.limit} - gauges
+ *   <li>{@code bulkhead.wait} - time spent waiting for a permit
+ *   <li>{@code bulkhead.rejected} - rejections tagged with {@code reason} ({@code queue_full}, {@code timeout},
+ *       {@code interrupted})
+ *   <li>{@code bulkhead.pinned} - virtual-thread pinning observed while a call held a permit
+ * </ul>
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Map<Long, Boolean> occupants = new ConcurrentHashMap<>();
+
+    private final Timer waitTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+    private final Counter interruptedCounter;
+    private final Timer pinnedTimer;
+
+    public Bulkhead(String name, BulkheadProperties.Limits limits, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = limits.maxConcurrent();
+        this.maxWaiting = limits.maxWaiting();
+        this.maxWait = limits.maxWait();
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        Gauge.builder("bulkhead.active", this, Bulkhead::activeCount)
+                .description("Calls currently holding a bulkhead permit")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.waiting", waiting, AtomicInteger::get)
+                .description("Calls currently waiting for a bulkhead permit")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.limit", this, bulkhead -> bulkhead.maxConcurrent)
+                .description("Maximum concurrent calls admitted by the bulkhead")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("bulkhead.wait")
+                .description("Time spent waiting for a bulkhead permit")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueFullCounter = rejectedCounter(meterRegistry, "queue_full");
+        this.timeoutCounter = rejectedCounter(meterRegistry, "timeout");
+        this.interruptedCounter = rejectedCounter(meterRegistry, "interrupted");
+        this.pinnedTimer = Timer.builder("bulkhead.pinned")
+                .description("Virtual-thread pinning observed while holding a bulkhead permit")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Runs {@code work} once a permit is available, or throws {@link BulkheadFullException}. */
+    public <T> T execute(Supplier<T> work) {
+        acquire();
+        long threadId = Thread.currentThread().threadId();
+        occupants.put(threadId, Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            occupants.remove(threadId);
+            permits.release();
+        }
+    }
+
+    /** Runs {@code work} once a permit is available, or throws {@link BulkheadFullException}. */
+    public void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /** Whether the thread with the given id currently holds a permit of this bulkhead. */
+    public boolean isOccupiedBy(long threadId) {
+        return occupants.containsKey(threadId);
+    }
+
+    /** Records a pinning episode of a thread that held a permit of this bulkhead. */
+    public void recordPinned(Duration duration) {
+        pinnedTimer.record(duration);
+    }
+
+    int activeCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    int waitingCount() {
+        return waiting.get();
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            waitTimer.record(Duration.ZERO);
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            queueFullCounter.increment();
+            throw new BulkheadFullException(name, maxWait);
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                timeoutCounter.increment();
+                throw new BulkheadFullException(name, maxWait);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interruptedCounter.increment();
+            throw new BulkheadFullException(name, maxWait);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("bulkhead.rejected")
+                .description("Calls rejected by the bulkhead")
+                .tag("name", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package org.nkcoder.infrastructure.resilience;
+
+import java.time.Duration;
+
+/** Thrown when a bulkhead rejects a call because all permits are taken and the wait queue is full or timed out. */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkheadName;
+    private final Duration retryAfter;
+
+    public BulkheadFullException(String bulkheadName, Duration retryAfter) {
+        super("Bulkhead '" + bulkheadName + "' is full");
+        this.bulkheadName = bulkheadName;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getBulkheadName() {
+        return bulkheadName;
+    }
+
+    /** Suggested delay before the client retries. */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
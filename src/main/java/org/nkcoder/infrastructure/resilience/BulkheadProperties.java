@@ -0,0 +1,58 @@
+package org.nkcoder.infrastructure.resilience;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Concurrency limits for named bulkheads. Bulkheads without an entry in {@code instances} use {@code defaults}.
+ *
+ * <pre>
+ * bulkhead:
+ *   defaults:
+ *     max-concurrent: 10
+ *     max-waiting: 50
+ *     max-wait: 500ms
+ *   instances:
+ *     auth-write:
+ *       max-concurrent: 8
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "bulkhead")
+@Validated
+public record BulkheadProperties(@Valid Limits defaults, Map<String, @Valid Limits> instances) {
+
+    public BulkheadProperties {
+        // Compact constructor with default values
+        if (defaults == null) {
+            defaults = new Limits(0, -1, null);
+        }
+        if (instances == null) {
+            instances = Map.of();
+        }
+    }
+
+    /** Returns the limits configured for {@code name}, falling back to {@link #defaults()}. */
+    public Limits limitsFor(String name) {
+        return instances.getOrDefault(name, defaults);
+    }
+
+    public record Limits(@Min(1) int maxConcurrent, @Min(0) int maxWaiting, Duration maxWait) {
+
+        public Limits {
+            // Compact constructor with default values
+            if (maxConcurrent <= 0) {
+                maxConcurrent = 10;
+            }
+            if (maxWaiting < 0) {
+                maxWaiting = 50;
+            }
+            if (maxWait == null || maxWait.isNegative()) {
+                maxWait = Duration.ofMillis(500);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.nkcoder.infrastructure.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/** Creates and caches named {@link Bulkhead}s using the limits from {@link BulkheadProperties}. */
+@Component
+public class BulkheadRegistry {
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Returns the bulkhead with the given name, creating it on first use. */
+    public Bulkhead get(String name) {
+        return bulkheads.computeIfAbsent(name, key -> new Bulkhead(key, properties.limitsFor(key), meterRegistry));
+    }
+
+    /**
+     * Attributes a virtual-thread pinning episode to the bulkhead the thread was running in, if any.
+     *
+     * @return {@code true} if the thread held a bulkhead permit
+     */
+    public boolean recordPinned(long threadId, Duration duration) {
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            if (bulkhead.isOccupiedBy(threadId)) {
+                bulkhead.recordPinned(duration);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package org.nkcoder.infrastructure.transaction;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * JPA transaction manager that caps the timeout of each new transaction at the time left until the current
+ * {@link RequestDeadline}.
+ *
+ * <p>The timeout is applied to every statement of the transaction (JPA queries, and {@code JdbcClient} calls through
+ * the bound connection) as a JDBC query timeout, so PostgreSQL cancels a statement that would outlive the deadline. A
+ * transaction whose deadline has already passed is not started at all. Requests without a deadline keep the configured
+ * timeout.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int configured = super.determineTimeout(definition);
+        Optional<Duration> remaining = RequestDeadline.remaining();
+        if (remaining.isEmpty()) {
+            return configured;
+        }
+        if (remaining.get().isNegative() || remaining.get().isZero()) {
+            throw new TransactionTimedOutException("Request deadline exceeded before the transaction started");
+        }
+        // JDBC timeouts are in whole seconds; round up so a short deadline still gets a timeout
+        long seconds = Math.ceilDiv(remaining.get().toMillis(), 1000);
+        int capped = (int) Math.min(seconds, Integer.MAX_VALUE);
+        return configured == TransactionDefinition.TIMEOUT_DEFAULT ? capped : Math.min(configured, capped);
+    }
+}
@@ -0,0 +1,47 @@
+package org.nkcoder.infrastructure.transaction;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The deadline of the request being handled on the current thread, if the caller set one (e.g. a gRPC deadline).
+ *
+ * <p>{@link DeadlineAwareJpaTransactionManager} turns the remaining time into the transaction timeout, so database work
+ * for a request that the caller has already given up on is cancelled instead of running to completion.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    /**
+     * Sets the deadline for the current thread until the returned scope is closed. Scopes nest; closing one restores
+     * the previous deadline.
+     */
+    public static Scope open(Duration remaining) {
+        Long previous = DEADLINE_NANOS.get();
+        DEADLINE_NANOS.set(System.nanoTime() + remaining.toNanos());
+        return () -> {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        };
+    }
+
+    /** Time left until the deadline, negative once it has passed, or empty if no deadline is set. */
+    public static Optional<Duration> remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? Optional.empty() : Optional.of(Duration.ofNanos(deadline - System.nanoTime()));
+    }
+
+    /** Restores the previous deadline when closed. */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
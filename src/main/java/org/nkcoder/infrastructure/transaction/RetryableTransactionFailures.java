@@ -0,0 +1,39 @@
+package org.nkcoder.infrastructure.transaction;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Recognizes PostgreSQL errors that mean "the transaction lost a race, run it again": serialization failures
+ * ({@code 40001}) and deadlocks ({@code 40P01}). The SQLSTATE is looked up along the cause chain, so it does not matter
+ * whether the error surfaces as a raw {@link SQLException}, a Hibernate exception or a Spring
+ * {@code DataAccessException}.
+ */
+public final class RetryableTransactionFailures {
+
+    public static final String SERIALIZATION_FAILURE = "40001";
+    public static final String DEADLOCK_DETECTED = "40P01";
+
+    private RetryableTransactionFailures() {}
+
+    /** Whether the transaction that threw {@code failure} can safely be re-executed from the start. */
+    public static boolean isRetryable(Throwable failure) {
+        return reason(failure).isPresent();
+    }
+
+    /** Returns {@code serialization_failure} or {@code deadlock} for retryable failures, empty otherwise. */
+    public static Optional<String> reason(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof SQLException sqlException) {
+                String sqlState = sqlException.getSQLState();
+                if (SERIALIZATION_FAILURE.equals(sqlState)) {
+                    return Optional.of("serialization_failure");
+                }
+                if (DEADLOCK_DETECTED.equals(sqlState)) {
+                    return Optional.of("deadlock");
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,31 @@
+package org.nkcoder.infrastructure.transaction;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Retry policy for transactions that fail with a serialization failure or deadlock.
+ *
+ * @param maxAttempts total attempts including the first one ({@code 1} disables retries)
+ * @param initialBackoff upper bound of the random delay before the first retry, doubled for each further retry
+ * @param maxBackoff cap for the random delay between attempts
+ */
+@ConfigurationProperties(prefix = "transaction.retry")
+@Validated
+public record TransactionRetryProperties(@Min(1) int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    public TransactionRetryProperties {
+        // Compact constructor with default values
+        if (maxAttempts <= 0) {
+            maxAttempts = 3;
+        }
+        if (initialBackoff == null || initialBackoff.isNegative()) {
+            initialBackoff = Duration.ofMillis(20);
+        }
+        if (maxBackoff == null || maxBackoff.isNegative()) {
+            maxBackoff = Duration.ofMillis(500);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.nkcoder.infrastructure.transaction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.nkcoder.infrastructure.jdbc.StatementBudgetMonitor;
+import org.nkcoder.infrastructure.jdbc.StatementCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a unit of work in a programmatic transaction and records how long it held a database connection.
+ *
+ * <p>Use cases that do CPU-heavy work (bcrypt, JWT signing) wrap only their database steps with this runner instead of
+ * annotating the whole method with {@code @Transactional}, so the work happens before a pooled connection is acquired
+ * or after it is released. With JPA the connection is bound when the transaction begins and returned on
+ * commit/rollback, so the transaction duration is the connection hold time, published as {@value #HOLD_TIME_METRIC}
+ * tagged by use case.
+ *
+ * <p>Transactions that fail with a serialization failure or deadlock (see {@link RetryableTransactionFailures}) are
+ * rolled back and re-executed with full-jitter exponential backoff, up to
+ * {@link TransactionRetryProperties#maxAttempts()} attempts. The work must therefore be safe to run more than once and
+ * must not have side effects outside the transaction. Retries only happen when the runner starts the transaction
+ * itself; if it joins an outer one, the failure is propagated to whoever owns that transaction.
+ *
+ * <p>The SQL statements of each attempt are counted and reported to {@link StatementBudgetMonitor} under the use case
+ * name.
+ */
+@Component
+public class TransactionRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionRunner.class);
+
+    public static final String HOLD_TIME_METRIC = "db.connection.hold";
+    public static final String RETRY_METRIC = "db.transaction.retries";
+    public static final String EXHAUSTED_METRIC = "db.transaction.retries.exhausted";
+
+    private final Map<Isolation, TransactionTemplate> templates = new EnumMap<>(Isolation.class);
+    private final MeterRegistry meterRegistry;
+    private final TransactionRetryProperties retryProperties;
+    private final StatementBudgetMonitor statementBudgetMonitor;
+
+    public TransactionRunner(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            TransactionRetryProperties retryProperties,
+            StatementBudgetMonitor statementBudgetMonitor) {
+        for (Isolation isolation : Isolation.values()) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setIsolationLevel(isolation.value());
+            templates.put(isolation, template);
+        }
+        this.meterRegistry = meterRegistry;
+        this.retryProperties = retryProperties;
+        this.statementBudgetMonitor = statementBudgetMonitor;
+    }
+
+    /** Runs {@code work} in a read-write transaction with the default isolation level. */
+    public <T> T execute(String useCase, Supplier<T> work) {
+        return execute(useCase, Isolation.DEFAULT, work);
+    }
+
+    /** Runs {@code work} in a read-write transaction with the given isolation level. */
+    public <T> T execute(String useCase, Isolation isolation, Supplier<T> work) {
+        boolean ownsTransaction = !TransactionSynchronizationManager.isActualTransactionActive();
+        int attempt = 1;
+        while (true) {
+            try {
+                return executeOnce(useCase, isolation, work);
+            } catch (RuntimeException e) {
+                String reason = RetryableTransactionFailures.reason(e).orElse(null);
+                if (reason == null || !ownsTransaction) {
+                    throw e;
+                }
+                if (attempt >= retryProperties.maxAttempts()) {
+                    logger.warn("Giving up on {} after {} attempts: {}", useCase, attempt, reason);
+                    retryCounter(EXHAUSTED_METRIC, useCase, reason).increment();
+                    throw e;
+                }
+                logger.debug("Retrying {} after {} (attempt {})", useCase, reason, attempt);
+                retryCounter(RETRY_METRIC, useCase, reason).increment();
+                backOff(attempt, e);
+                attempt++;
+            }
+        }
+    }
+
+    /** Runs {@code work} in a read-write transaction with the default isolation level. */
+    public void run(String useCase, Runnable work) {
+        execute(useCase, Isolation.DEFAULT, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private <T> T executeOnce(String useCase, Isolation isolation, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try (StatementCounter.Scope statements = StatementCounter.open(useCase)) {
+            T result = templates.get(isolation).execute(status -> work.get());
+            outcome = "success";
+            statementBudgetMonitor.completed(StatementBudgetMonitor.KIND_USE_CASE, useCase, statements);
+            return result;
+        } finally {
+            sample.stop(holdTimer(useCase, outcome));
+        }
+    }
+
+    /** Full jitter: sleep a random time between zero and the capped exponential backoff for this attempt. */
+    private void backOff(int attempt, RuntimeException failure) {
+        long initialNanos = retryProperties.initialBackoff().toNanos();
+        long capNanos = retryProperties.maxBackoff().toNanos();
+        long ceiling = Math.min(capNanos, initialNanos << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+
+    private Counter retryCounter(String name, String useCase, String reason) {
+        return Counter.builder(name)
+                .tag("use_case", useCase)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private Timer holdTimer(String useCase, String outcome) {
+        return Timer.builder(HOLD_TIME_METRIC)
+                .description("Time a use case held a pooled database connection (transaction duration)")
+                .tag("use_case", useCase)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,20 +1,35 @@
 package org.nkcoder.notification;
 
+import java.util.Map;
+import org.nkcoder.notification.email.EmailDispatcher;
+import org.nkcoder.notification.email.EmailTemplates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+/**
+ * Sends user notifications. Emails are rendered here and handed to the {@link EmailDispatcher}, which delivers them in
+ * the background; callers only wait for the email to be queued.
+ */
 @Service
 public class NotificationService {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private final EmailTemplates templates;
+    private final EmailDispatcher dispatcher;
+
+    public NotificationService(EmailTemplates templates, EmailDispatcher dispatcher) {
+        this.templates = templates;
+        this.dispatcher = dispatcher;
+    }
+
     public void sendWelcomeEmail(String email, String userName) {
-        // TODO: implement email sending
         logger.info("Sending Welcome email to {}, for user: {}", email, userName);
+        dispatcher.enqueue(templates.render("welcome", email, Map.of("userName", userName)));
     }
 
     public void sendPasswordResetEmail(String email, String userName) {
-        // TODO: implement password reset email
         logger.info("Sending password reset email to {}, for user: {}", email, userName);
+        dispatcher.enqueue(templates.render("password-reset", email, Map.of("userName", userName)));
     }
 }
@@ -0,0 +1,273 @@
+package org.nkcoder.notification.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers emails in the background so that event listeners never wait for SMTP.
+ *
+ * <p>{@link #enqueue} only adds the email to a bounded queue and throws {@link EmailQueueFullException} when it is
+ * full. A fixed number of workers take up to {@code batchSize} emails at a time and send them with one
+ * {@link JavaMailSender#send(MimeMessage...)} call, i.e. over a single SMTP connection; the workers therefore bound the
+ * number of open SMTP connections. Emails that fail are retried with full-jitter exponential backoff, up to
+ * {@code maxAttempts} attempts, by the same worker, so a struggling SMTP server slows the workers down and eventually
+ * fills the queue instead of piling up retries.
+ *
+ * <p>Connections are not pooled across batches on purpose: each batch opens one connection and closes it after the last
+ * message, so the handshake is paid once per batch rather than per email, and no idle connection is left for the server
+ * to time out. Under load the batches fill up and the handshake cost per email shrinks accordingly; keeping connections
+ * open would mean managing transports behind {@link JavaMailSender}, which does not expose them.
+ *
+ * <p>The queue lives in memory: emails still queued when the application stops after {@code shutdownTimeout} are lost,
+ * and are logged.
+ *
+ * <p>Metrics:
+ *
+ * <ul>
+ *   <li>{@code notification.email.queue.size} - emails waiting for a worker
+ *   <li>{@code notification.email.delivery} - time from enqueue to successful delivery
+ *   <li>{@code notification.email.batch} - duration of one SMTP batch, tagged with {@code outcome}
+ *   <li>{@code notification.email.messages} - emails by {@code result} ({@code sent}, {@code failed}, {@code rejected})
+ * </ul>
+ */
+@Component
+public class EmailDispatcher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDispatcher.class);
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final JavaMailSender mailSender;
+    private final EmailProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<Envelope> queue;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final Timer deliveryTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+
+    public EmailDispatcher(JavaMailSender mailSender, EmailProperties properties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("notification.email.queue.size", queue, Collection::size)
+                .description("Emails waiting for delivery")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("notification.email.delivery")
+                .description("Time from enqueue to successful delivery")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = messageCounter("sent");
+        this.failedCounter = messageCounter("failed");
+        this.rejectedCounter = messageCounter("rejected");
+    }
+
+    /**
+     * Queues an email for delivery.
+     *
+     * @throws EmailQueueFullException if the queue is full
+     */
+    public void enqueue(EmailMessage message) {
+        if (!properties.enabled()) {
+            logger.info("Email delivery disabled, dropping '{}' to {}", message.subject(), message.to());
+            return;
+        }
+        if (!queue.offer(new Envelope(message, System.nanoTime()))) {
+            rejectedCounter.increment();
+            throw new EmailQueueFullException(properties.queueCapacity());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.add(Thread.ofVirtual().name("email-worker-" + i).start(this::work));
+        }
+        logger.info("Started {} email workers", properties.workers());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + properties.shutdownTimeout().toNanos();
+        for (Thread worker : workers) {
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                    worker.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                worker.interrupt();
+            }
+        }
+        workers.clear();
+        if (!queue.isEmpty()) {
+            logger.warn("Dropping {} queued emails on shutdown", queue.size());
+            queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        List<Envelope> batch = new ArrayList<>(properties.batchSize());
+        // Keep draining after stop() until the queue is empty or the worker is interrupted
+        while (running || !queue.isEmpty()) {
+            try {
+                Envelope first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** Sends the batch, retrying the emails that failed until they are sent or out of attempts. */
+    private void deliver(List<Envelope> batch) throws InterruptedException {
+        List<Envelope> pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            pending = sendOnce(pending);
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (attempt >= properties.maxAttempts()) {
+                logger.error("Giving up on {} emails after {} attempts", pending.size(), attempt);
+                failedCounter.increment(pending.size());
+                return;
+            }
+            try {
+                backOff(attempt);
+            } catch (InterruptedException e) {
+                failedCounter.increment(pending.size());
+                throw e;
+            }
+        }
+    }
+
+    /** Sends the emails over one connection and returns the ones that should be retried. */
+    private List<Envelope> sendOnce(List<Envelope> envelopes) {
+        Map<MimeMessage, Envelope> byMessage = new IdentityHashMap<>(envelopes.size());
+        for (Envelope envelope : envelopes) {
+            try {
+                byMessage.put(toMimeMessage(envelope.message()), envelope);
+            } catch (MessagingException | IllegalArgumentException e) {
+                // A malformed email will not get better by retrying
+                logger.error("Cannot build email to {}: {}", envelope.message().to(), e.getMessage());
+                failedCounter.increment();
+            }
+        }
+        if (byMessage.isEmpty()) {
+            return List.of();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailSender.send(byMessage.keySet().toArray(MimeMessage[]::new));
+            sample.stop(batchTimer("success"));
+            byMessage.values().forEach(this::delivered);
+            return List.of();
+        } catch (MailSendException e) {
+            sample.stop(batchTimer("failure"));
+            Map<Object, Exception> failures = e.getFailedMessages();
+            List<Envelope> retry = new ArrayList<>();
+            byMessage.forEach((message, envelope) -> {
+                if (failures.isEmpty() || failures.containsKey(message)) {
+                    retry.add(envelope);
+                } else {
+                    delivered(envelope);
+                }
+            });
+            logger.warn("Failed to send {} of {} emails: {}", retry.size(), byMessage.size(), e.getMessage());
+            return retry;
+        } catch (MailException e) {
+            sample.stop(batchTimer("failure"));
+            logger.warn("Failed to send {} emails: {}", byMessage.size(), e.getMessage());
+            return new ArrayList<>(byMessage.values());
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(properties.from());
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.body());
+        return message;
+    }
+
+    private void delivered(Envelope envelope) {
+        sentCounter.increment();
+        deliveryTimer.record(System.nanoTime() - envelope.enqueuedAt(), TimeUnit.NANOSECONDS);
+    }
+
+    /** Full jitter: sleep a random time between zero and the capped exponential backoff for this attempt. */
+    private void backOff(int attempt) throws InterruptedException {
+        long initialNanos = properties.initialBackoff().toNanos();
+        long capNanos = properties.maxBackoff().toNanos();
+        long ceiling = Math.min(capNanos, initialNanos << Math.min(attempt - 1, 20));
+        if (ceiling > 0) {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1)));
+        }
+    }
+
+    private Counter messageCounter(String result) {
+        return Counter.builder("notification.email.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer batchTimer(String outcome) {
+        return Timer.builder("notification.email.batch")
+                .description("Time to send one batch of emails over a single SMTP connection")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Envelope(EmailMessage message, long enqueuedAt) {}
+}
@@ -0,0 +1,4 @@
+package org.nkcoder.notification.email;
+
+/** A rendered email, ready to be sent. */
+public record EmailMessage(String to, String subject, String body) {}
@@ -0,0 +1,65 @@
+package org.nkcoder.notification.email;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Email delivery settings. The SMTP connection itself is configured with the standard {@code spring.mail.*} properties.
+ *
+ * @param enabled when {@code false}, emails are logged and dropped instead of sent
+ * @param from sender address
+ * @param queueCapacity emails that may wait for delivery before new ones are rejected
+ * @param workers delivery threads, each holding at most one SMTP connection at a time
+ * @param batchSize emails sent over one SMTP connection
+ * @param maxAttempts delivery attempts per email, including the first
+ * @param initialBackoff delay before the first retry, doubled for each further retry
+ * @param maxBackoff upper bound of the retry delay
+ * @param shutdownTimeout time given to the workers to drain the queue on shutdown
+ */
+@ConfigurationProperties(prefix = "notification.email")
+@Validated
+public record EmailProperties(
+        Boolean enabled,
+        @NotBlank String from,
+        @Min(1) int queueCapacity,
+        @Min(1) int workers,
+        @Min(1) int batchSize,
+        @Min(1) int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        Duration shutdownTimeout) {
+
+    public EmailProperties {
+        // Compact constructor with default values
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (from == null) {
+            from = "no-reply@localhost";
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 1000;
+        }
+        if (workers <= 0) {
+            workers = 2;
+        }
+        if (batchSize <= 0) {
+            batchSize = 50;
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 3;
+        }
+        if (initialBackoff == null || initialBackoff.isNegative()) {
+            initialBackoff = Duration.ofSeconds(1);
+        }
+        if (maxBackoff == null || maxBackoff.isNegative()) {
+            maxBackoff = Duration.ofSeconds(30);
+        }
+        if (shutdownTimeout == null || shutdownTimeout.isNegative()) {
+            shutdownTimeout = Duration.ofSeconds(10);
+        }
+    }
+}
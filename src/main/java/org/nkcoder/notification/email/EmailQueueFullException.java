@@ -0,0 +1,12 @@
+package org.nkcoder.notification.email;
+
+/**
+ * Thrown when the delivery queue is full. Event listeners let it propagate, so the event publication stays incomplete
+ * and the email is attempted again when the publication is resubmitted.
+ */
+public class EmailQueueFullException extends RuntimeException {
+
+    public EmailQueueFullException(int capacity) {
+        super("Email delivery queue is full (capacity " + capacity + ")");
+    }
+}
@@ -0,0 +1,88 @@
+package org.nkcoder.notification.email;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders the plain-text email templates in {@code classpath:templates/email/}.
+ *
+ * <p>A template starts with a {@code Subject:} line, followed by a blank line and the body. {@code {{name}}}
+ * placeholders are replaced with the given variables. Each template is read and split into literal text and
+ * placeholders once, on first use; rendering is then a single pass over the parts.
+ */
+@Component
+public class EmailTemplates {
+
+    private static final String LOCATION = "templates/email/";
+    private static final String SUBJECT_PREFIX = "Subject:";
+
+    private final Map<String, Template> cache = new ConcurrentHashMap<>();
+
+    public EmailMessage render(String templateName, String to, Map<String, String> variables) {
+        Template template = cache.computeIfAbsent(templateName, EmailTemplates::load);
+        return new EmailMessage(
+                to, template.subject().render(variables), template.body().render(variables));
+    }
+
+    private static Template load(String templateName) {
+        String source;
+        try (InputStream in = new ClassPathResource(LOCATION + templateName + ".txt").getInputStream()) {
+            source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Email template not found: " + templateName, e);
+        }
+
+        int endOfSubject = source.indexOf('\n');
+        if (!source.startsWith(SUBJECT_PREFIX) || endOfSubject < 0) {
+            throw new IllegalStateException("Email template " + templateName + " must start with a Subject: line");
+        }
+        String subject = source.substring(SUBJECT_PREFIX.length(), endOfSubject).trim();
+        String body = source.substring(endOfSubject + 1).stripLeading();
+        return new Template(Parts.parse(subject), Parts.parse(body));
+    }
+
+    private record Template(Parts subject, Parts body) {}
+
+    /** Alternating literal text and placeholder names; {@code literals} has one more element than {@code names}. */
+    private record Parts(List<String> literals, List<String> names, int literalLength) {
+
+        static Parts parse(String text) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            int position = 0;
+            int start;
+            while ((start = text.indexOf("{{", position)) >= 0) {
+                int end = text.indexOf("}}", start);
+                if (end < 0) {
+                    break;
+                }
+                literals.add(text.substring(position, start));
+                names.add(text.substring(start + 2, end).trim());
+                position = end + 2;
+            }
+            literals.add(text.substring(position));
+            int literalLength = literals.stream().mapToInt(String::length).sum();
+            return new Parts(List.copyOf(literals), List.copyOf(names), literalLength);
+        }
+
+        String render(Map<String, String> variables) {
+            StringBuilder out = new StringBuilder(literalLength + 16 * names.size());
+            for (int i = 0; i < names.size(); i++) {
+                String value = variables.get(names.get(i));
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing email template variable: " + names.get(i));
+                }
+                out.append(literals.get(i)).append(value);
+            }
+            return out.append(literals.getLast()).toString();
+        }
+    }
+}
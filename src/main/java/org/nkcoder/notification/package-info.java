@@ -4,7 +4,7 @@
  * <p>This module provides:
  *
  * <ul>
- *   <li>Email notifications
+ *   <li>Email notifications, delivered asynchronously in batches (see {@code EmailDispatcher})
  *   <li>SMS notifications (future)
  * </ul>
  *
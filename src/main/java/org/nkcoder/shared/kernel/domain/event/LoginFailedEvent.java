@@ -0,0 +1,26 @@
+package org.nkcoder.shared.kernel.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a login attempt is rejected. {@code email} is the address as submitted, which may not belong to any
+ * user; {@code ipAddress} and {@code userAgent} are {@code null} when unknown.
+ */
+public record LoginFailedEvent(
+        String email, String reason, String ipAddress, String userAgent, LocalDateTime occurredOn)
+        implements DomainEvent {
+
+    public LoginFailedEvent(String email, String reason, String ipAddress, String userAgent) {
+        this(email, reason, ipAddress, userAgent, LocalDateTime.now());
+    }
+
+    @Override
+    public String eventType() {
+        return "user.login.failed";
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+}
@@ -0,0 +1,23 @@
+package org.nkcoder.shared.kernel.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Published after a successful login. {@code ipAddress} and {@code userAgent} are {@code null} when unknown. */
+public record UserLoggedInEvent(UUID userId, String email, String ipAddress, String userAgent, LocalDateTime occurredOn)
+        implements DomainEvent {
+
+    public UserLoggedInEvent(UUID userId, String email, String ipAddress, String userAgent) {
+        this(userId, email, ipAddress, userAgent, LocalDateTime.now());
+    }
+
+    @Override
+    public String eventType() {
+        return "user.login.succeeded";
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+}
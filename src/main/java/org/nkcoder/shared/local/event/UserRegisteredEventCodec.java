@@ -0,0 +1,43 @@
+package org.nkcoder.shared.local.event;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.nkcoder.generated.events.EventsProto;
+import org.nkcoder.infrastructure.events.EventCodec;
+import org.nkcoder.infrastructure.events.ProtobufValues;
+import org.nkcoder.shared.kernel.domain.event.UserRegisteredEvent;
+import org.springframework.stereotype.Component;
+
+/** Protobuf encoding of {@link UserRegisteredEvent} for the event publication log. */
+@Component
+public class UserRegisteredEventCodec implements EventCodec<UserRegisteredEvent> {
+
+    @Override
+    public Class<UserRegisteredEvent> eventType() {
+        return UserRegisteredEvent.class;
+    }
+
+    @Override
+    public byte[] encode(UserRegisteredEvent event) {
+        return EventsProto.UserRegistered.newBuilder()
+                .setUserId(ProtobufValues.uuid(event.userId()))
+                .setEmail(event.email())
+                .setUserName(event.userName())
+                .setOccurredOn(ProtobufValues.timestamp(event.occurredOn()))
+                .build()
+                .toByteArray();
+    }
+
+    @Override
+    public UserRegisteredEvent decode(byte[] payload) {
+        try {
+            EventsProto.UserRegistered message = EventsProto.UserRegistered.parseFrom(payload);
+            return new UserRegisteredEvent(
+                    ProtobufValues.uuid(message.getUserId()),
+                    message.getEmail(),
+                    message.getUserName(),
+                    ProtobufValues.localDateTime(message.getOccurredOn()));
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("Invalid UserRegistered payload", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.nkcoder.shared.local.grpc;
+
+import io.grpc.Status;
+import io.grpc.StatusException;
+import org.nkcoder.infrastructure.resilience.BulkheadFullException;
+import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.shared.kernel.exception.ResourceNotFoundException;
+import org.nkcoder.shared.kernel.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.grpc.server.exception.GrpcExceptionHandler;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/** Global exception handler for gRPC services, the counterpart of the REST {@code GlobalExceptionHandler}. */
+@Component
+public class GlobalGrpcExceptionHandler implements GrpcExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalGrpcExceptionHandler.class);
+
+    @Override
+    public StatusException handleException(Throwable ex) {
+        return toStatus(ex).withDescription(description(ex)).asException();
+    }
+
+    private Status toStatus(Throwable ex) {
+        return switch (ex) {
+            case ValidationException e -> Status.INVALID_ARGUMENT;
+            case IllegalArgumentException e -> Status.INVALID_ARGUMENT;
+            case AuthenticationException e -> Status.UNAUTHENTICATED;
+            case ResourceNotFoundException e -> Status.NOT_FOUND;
+            case AuthenticationCredentialsNotFoundException e -> Status.UNAUTHENTICATED;
+            case AccessDeniedException e -> Status.PERMISSION_DENIED;
+            case BulkheadFullException e -> Status.UNAVAILABLE;
+            case TransactionTimedOutException e -> Status.DEADLINE_EXCEEDED;
+            case QueryTimeoutException e -> Status.DEADLINE_EXCEEDED;
+            default -> {
+                logger.error("Unexpected gRPC error: {}", ex.getMessage(), ex);
+                yield Status.INTERNAL;
+            }
+        };
+    }
+
+    private String description(Throwable ex) {
+        return switch (ex) {
+            case AuthenticationCredentialsNotFoundException e -> "Authentication required";
+            case AccessDeniedException e -> "Access denied";
+            case BulkheadFullException e -> "Service is busy, please retry later";
+            case TransactionTimedOutException e -> "Deadline exceeded";
+            case QueryTimeoutException e -> "Deadline exceeded";
+            case ValidationException e -> ex.getMessage();
+            case IllegalArgumentException e -> ex.getMessage();
+            case AuthenticationException e -> ex.getMessage();
+            case ResourceNotFoundException e -> ex.getMessage();
+            default -> "An unexpected error occurred";
+        };
+    }
+}
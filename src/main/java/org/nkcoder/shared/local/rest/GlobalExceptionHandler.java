@@ -2,11 +2,13 @@ package org.nkcoder.shared.local.rest;
 
 import java.util.HashMap;
 import java.util.Map;
+import org.nkcoder.infrastructure.resilience.BulkheadFullException;
 import org.nkcoder.shared.kernel.exception.AuthenticationException;
 import org.nkcoder.shared.kernel.exception.ResourceNotFoundException;
 import org.nkcoder.shared.kernel.exception.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -45,6 +47,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error("Access denied"));
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBulkheadFullException(BulkheadFullException ex) {
+        logger.debug("Rejected by bulkhead: {}", ex.getBulkheadName());
+        long retryAfterSeconds = Math.max(1, ex.getRetryAfter().toSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error("Service is busy, please retry later"));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex) {
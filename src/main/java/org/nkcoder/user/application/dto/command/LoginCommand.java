@@ -1,4 +1,12 @@
 package org.nkcoder.user.application.dto.command;
 
-/** Command for user login. */
-public record LoginCommand(String email, String password) {}
+/**
+ * Command for user login. {@code ipAddress} and {@code userAgent} describe the client for the login audit log and are
+ * {@code null} when unknown.
+ */
+public record LoginCommand(String email, String password, String ipAddress, String userAgent) {
+
+    public LoginCommand(String email, String password) {
+        this(email, password, null, null);
+    }
+}
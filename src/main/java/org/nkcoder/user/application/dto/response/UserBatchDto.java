@@ -0,0 +1,7 @@
+package org.nkcoder.user.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Result of a batch user lookup: found users in request order, plus the requested IDs that do not exist. */
+public record UserBatchDto(List<UserDto> users, List<UUID> missingIds) {}
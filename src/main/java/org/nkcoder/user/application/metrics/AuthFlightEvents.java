@@ -0,0 +1,178 @@
+package org.nkcoder.user.application.metrics;
+
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events for the steps of the authentication pipeline, for profiling in production next to the
+ * JDK's own events (allocation, locks, GC, virtual thread pinning).
+ *
+ * <p>The events are disabled by default and switched on by the settings profile {@code jfr/auth.jfc} shipped with the
+ * application (see {@code docs/troubleshooting.md}). Callers check the event's {@code ...Enabled()} method first, a
+ * read of a cached {@link EventType} flag, and only create the event and the lambda wrapping the work for
+ * {@link #record} while a recording enables it.
+ *
+ * <p>Every event carries its duration (JFR start time and duration) and an {@code outcome}: {@code success} unless the
+ * code set a more specific one, or the simple name of the exception that ended the step.
+ */
+public final class AuthFlightEvents {
+
+    private static final String SUCCESS = "success";
+
+    private static final EventType PASSWORD_HASH = EventType.getEventType(PasswordHash.class);
+    private static final EventType PASSWORD_VERIFY = EventType.getEventType(PasswordVerify.class);
+    private static final EventType JWT_SIGN = EventType.getEventType(JwtSign.class);
+    private static final EventType JWT_VERIFY = EventType.getEventType(JwtVerify.class);
+    private static final EventType REPOSITORY_CALL = EventType.getEventType(RepositoryCall.class);
+    private static final EventType TOKEN_ROTATION = EventType.getEventType(TokenRotation.class);
+
+    private AuthFlightEvents() {}
+
+    /** Whether a running recording enables {@link PasswordHash}. */
+    public static boolean passwordHashEnabled() {
+        return PASSWORD_HASH.isEnabled();
+    }
+
+    /** Whether a running recording enables {@link PasswordVerify}. */
+    public static boolean passwordVerifyEnabled() {
+        return PASSWORD_VERIFY.isEnabled();
+    }
+
+    /** Whether a running recording enables {@link JwtSign}. */
+    public static boolean jwtSignEnabled() {
+        return JWT_SIGN.isEnabled();
+    }
+
+    /** Whether a running recording enables {@link JwtVerify}. */
+    public static boolean jwtVerifyEnabled() {
+        return JWT_VERIFY.isEnabled();
+    }
+
+    /** Whether a running recording enables {@link RepositoryCall}. */
+    public static boolean repositoryCallEnabled() {
+        return REPOSITORY_CALL.isEnabled();
+    }
+
+    /** Whether a running recording enables {@link TokenRotation}. */
+    public static boolean tokenRotationEnabled() {
+        return TOKEN_ROTATION.isEnabled();
+    }
+
+    /**
+     * Runs {@code work} as {@code event}. The outcome is the one {@code work} set on the event if any, otherwise
+     * {@code success}, or the exception's simple name if {@code work} throws.
+     */
+    public static <E extends AuthEvent, T> T record(E event, Supplier<T> work) {
+        if (!event.isEnabled()) {
+            return work.get();
+        }
+        event.begin();
+        try {
+            T result = work.get();
+            if (event.outcome == null) {
+                event.outcome = SUCCESS;
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (event.outcome == null) {
+                event.outcome = e.getClass().getSimpleName();
+            }
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /** Runs {@code work} as {@code event}, see {@link #record(AuthEvent, Supplier)}. */
+    public static void record(AuthEvent event, Runnable work) {
+        record(event, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    @Category({"Application", "Authentication"})
+    @Enabled(false)
+    @StackTrace(false)
+    @Threshold("0 ms")
+    public abstract static class AuthEvent extends Event {
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("org.nkcoder.auth.PasswordHash")
+    @Label("Password Hash")
+    @Description("bcrypt hash of a new password")
+    public static final class PasswordHash extends AuthEvent {
+
+        @Label("Cost")
+        public final int cost;
+
+        public PasswordHash(int cost) {
+            this.cost = cost;
+        }
+    }
+
+    @Name("org.nkcoder.auth.PasswordVerify")
+    @Label("Password Verify")
+    @Description("bcrypt comparison of a password with a stored hash; outcome match or mismatch")
+    public static final class PasswordVerify extends AuthEvent {
+
+        /** Cost factor of the stored hash, which may predate the current strength; 0 if it is not a bcrypt hash. */
+        @Label("Cost")
+        public final int cost;
+
+        public PasswordVerify(int cost) {
+            this.cost = cost;
+        }
+    }
+
+    @Name("org.nkcoder.auth.JwtSign")
+    @Label("JWT Sign")
+    @Description("Signing of an access and refresh token pair")
+    public static final class JwtSign extends AuthEvent {}
+
+    @Name("org.nkcoder.auth.JwtVerify")
+    @Label("JWT Verify")
+    @Description("Parsing and signature check of a token; outcome success, expired or invalid")
+    public static final class JwtVerify extends AuthEvent {
+
+        @Label("Token Type")
+        public final String tokenType;
+
+        public JwtVerify(String tokenType) {
+            this.tokenType = tokenType;
+        }
+    }
+
+    @Name("org.nkcoder.auth.RepositoryCall")
+    @Label("Repository Call")
+    @Description("One call to a user or refresh token repository adapter")
+    public static final class RepositoryCall extends AuthEvent {
+
+        @Label("Repository")
+        public final String repository;
+
+        @Label("Method")
+        public final String method;
+
+        public RepositoryCall(String repository, String method) {
+            this.repository = repository;
+            this.method = method;
+        }
+    }
+
+    @Name("org.nkcoder.auth.TokenRotation")
+    @Label("Token Rotation")
+    @Description("Refresh token rotation inside its transaction, including lookups, signing and writes")
+    public static final class TokenRotation extends AuthEvent {}
+}
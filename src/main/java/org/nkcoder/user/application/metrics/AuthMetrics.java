@@ -0,0 +1,188 @@
+package org.nkcoder.user.application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency and outcome metrics for the authentication pipeline.
+ *
+ * <p>A use case runs inside {@link #operation}, which times it as {@value #OPERATION_METRIC} and counts its
+ * {@link Outcome} as {@value #OUTCOME_METRIC}. The steps it consists of (user lookup, bcrypt, JWT signing, ...) are
+ * timed with {@link #stage} as {@value #STAGE_METRIC}, tagged with the enclosing operation, wherever they happen: in
+ * the application service or in the adapters it calls. The current operation is kept in a thread local, which is fine
+ * because each operation runs on a single (virtual) thread; a stage outside any operation is tagged {@code other}.
+ *
+ * <p>All tag values come from the enums below, so the number of series is fixed. Meters are created on first use, so
+ * only the operation/stage combinations that actually occur get a histogram.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String OPERATION_METRIC = "auth.operation";
+    public static final String STAGE_METRIC = "auth.stage";
+    public static final String OUTCOME_METRIC = "auth.outcome";
+
+    public enum Operation {
+        LOGIN,
+        REGISTER,
+        REFRESH,
+        VALIDATE,
+        OTHER
+    }
+
+    public enum Stage {
+        USER_LOOKUP,
+        PASSWORD_HASH,
+        PASSWORD_VERIFY,
+        TOKEN_SIGN,
+        TOKEN_VERIFY,
+        TOKEN_LOOKUP,
+        PERSIST
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        INVALID_CREDENTIALS,
+        DUPLICATE_EMAIL,
+        INVALID_TOKEN,
+        EXPIRED_TOKEN,
+        FAMILY_REVOKED,
+        /** Served from a concurrent or recent identical call (single-flight) instead of running again. */
+        COALESCED,
+        ERROR
+    }
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[] operationTimers = new Timer[Operation.values().length];
+    private final Timer[][] stageTimers = new Timer[Operation.values().length][Stage.values().length];
+    private final Counter[][] outcomeCounters = new Counter[Operation.values().length][Outcome.values().length];
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs {@code work} as {@code operation}. Its outcome is {@link Outcome#SUCCESS} if it returns, the outcome passed
+     * to {@link #outcome} during the call if any, and {@link Outcome#ERROR} otherwise.
+     */
+    public <T> T operation(Operation operation, Supplier<T> work) {
+        Scope previous = CURRENT.get();
+        Scope scope = new Scope(operation);
+        CURRENT.set(scope);
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            T result = work.get();
+            completed = true;
+            return result;
+        } finally {
+            operationTimer(operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Outcome outcome = scope.outcome != null ? scope.outcome : completed ? Outcome.SUCCESS : Outcome.ERROR;
+            outcomeCounter(operation, outcome).increment();
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /** Times one step of the current operation. */
+    public <T> T stage(Stage stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            stageTimer(currentOperation(), stage).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Times one step of the current operation. */
+    public void stage(Stage stage, Runnable work) {
+        stage(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Sets the outcome of the current operation, typically right before it fails. The first outcome set wins, so an
+     * adapter's more specific reason (e.g. {@link Outcome#EXPIRED_TOKEN}) is not overwritten by the caller's generic
+     * one. Outside an operation the outcome is counted right away under {@link Operation#OTHER}.
+     */
+    public void outcome(Outcome outcome) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            outcomeCounter(Operation.OTHER, outcome).increment();
+        } else if (scope.outcome == null) {
+            scope.outcome = outcome;
+        }
+    }
+
+    private static Operation currentOperation() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.operation : Operation.OTHER;
+    }
+
+    // Racy lazy initialization is fine: registering the same meter twice returns the existing one
+
+    private Timer operationTimer(Operation operation) {
+        Timer timer = operationTimers[operation.ordinal()];
+        if (timer == null) {
+            timer = Timer.builder(OPERATION_METRIC)
+                    .description("Duration of an authentication use case")
+                    .tag("operation", tag(operation))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            operationTimers[operation.ordinal()] = timer;
+        }
+        return timer;
+    }
+
+    private Timer stageTimer(Operation operation, Stage stage) {
+        Timer timer = stageTimers[operation.ordinal()][stage.ordinal()];
+        if (timer == null) {
+            timer = Timer.builder(STAGE_METRIC)
+                    .description("Duration of one step of an authentication use case")
+                    .tag("operation", tag(operation))
+                    .tag("stage", tag(stage))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            stageTimers[operation.ordinal()][stage.ordinal()] = timer;
+        }
+        return timer;
+    }
+
+    private Counter outcomeCounter(Operation operation, Outcome outcome) {
+        Counter counter = outcomeCounters[operation.ordinal()][outcome.ordinal()];
+        if (counter == null) {
+            counter = Counter.builder(OUTCOME_METRIC)
+                    .description("Authentication use cases by outcome")
+                    .tag("operation", tag(operation))
+                    .tag("outcome", tag(outcome))
+                    .register(meterRegistry);
+            outcomeCounters[operation.ordinal()][outcome.ordinal()] = counter;
+        }
+        return counter;
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Scope {
+        private final Operation operation;
+        private Outcome outcome;
+
+        private Scope(Operation operation) {
+            this.operation = operation;
+        }
+    }
+}
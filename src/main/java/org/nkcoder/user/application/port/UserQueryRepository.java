@@ -0,0 +1,25 @@
+package org.nkcoder.user.application.port;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.nkcoder.user.application.dto.response.UserDto;
+
+/**
+ * Read-side port for user queries. Unlike {@link org.nkcoder.user.domain.repository.UserRepository}, implementations
+ * return read models directly without loading the User aggregate (and its password hash).
+ */
+public interface UserQueryRepository {
+
+    /** Finds a user's read model by ID. */
+    Optional<UserDto> findById(UUID userId);
+
+    /** Finds read models for all users (for admin operations). */
+    List<UserDto> findAll();
+
+    /**
+     * Finds read models for the given IDs in a single query. Unknown IDs are skipped; the result order is unspecified.
+     */
+    List<UserDto> findAllByIds(Collection<UUID> userIds);
+}
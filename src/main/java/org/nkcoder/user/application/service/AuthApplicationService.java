@@ -1,7 +1,17 @@
 package org.nkcoder.user.application.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import org.nkcoder.infrastructure.concurrency.SingleFlight;
+import org.nkcoder.infrastructure.concurrency.SingleFlightRegistry;
+import org.nkcoder.infrastructure.transaction.RetryableTransactionFailures;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
 import org.nkcoder.shared.kernel.domain.event.DomainEventPublisher;
+import org.nkcoder.shared.kernel.domain.event.LoginFailedEvent;
+import org.nkcoder.shared.kernel.domain.event.UserLoggedInEvent;
 import org.nkcoder.shared.kernel.domain.event.UserRegisteredEvent;
 import org.nkcoder.shared.kernel.exception.AuthenticationException;
 import org.nkcoder.shared.kernel.exception.ValidationException;
@@ -9,6 +19,11 @@ import org.nkcoder.user.application.dto.command.LoginCommand;
 import org.nkcoder.user.application.dto.command.RefreshTokenCommand;
 import org.nkcoder.user.application.dto.command.RegisterCommand;
 import org.nkcoder.user.application.dto.response.AuthResult;
+import org.nkcoder.user.application.metrics.AuthFlightEvents;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.application.metrics.AuthMetrics.Operation;
+import org.nkcoder.user.application.metrics.AuthMetrics.Outcome;
+import org.nkcoder.user.application.metrics.AuthMetrics.Stage;
 import org.nkcoder.user.domain.model.Email;
 import org.nkcoder.user.domain.model.RefreshToken;
 import org.nkcoder.user.domain.model.TokenFamily;
@@ -27,7 +42,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Application service for authentication use cases. Orchestrates domain objects and infrastructure services. */
+/**
+ * Application service for authentication use cases. Orchestrates domain objects and infrastructure services.
+ *
+ * <p>Register and login hash passwords and sign tokens outside of any transaction and only wrap their database writes
+ * with {@link TransactionRunner}, so a pooled connection is never held while bcrypt or JWT signing runs.
+ *
+ * <p>Concurrent refreshes of the same refresh token (typically a mobile client retrying after resume) are coalesced by
+ * a {@link SingleFlight} keyed by the token's SHA-256 digest: one rotation runs, the duplicates share its result, and
+ * duplicates arriving shortly afterwards get the same result replayed instead of failing on the already-rotated token.
+ *
+ * <p>Every use case is timed and counted by outcome through {@link AuthMetrics}; its steps (user lookup, bcrypt, JWT
+ * signing, database writes) are timed as stages, partly here and partly in the adapters. Each rotation attempt is also
+ * recorded as a JFR event ({@link AuthFlightEvents.TokenRotation}).
+ */
 @Service
 public class AuthApplicationService {
 
@@ -36,6 +64,7 @@ public class AuthApplicationService {
     public static final String USER_ALREADY_EXISTS = "User already exists";
     public static final String INVALID_REFRESH_TOKEN = "Invalid refresh token";
     public static final String USER_NOT_FOUND = "User not found";
+    public static final String LOGIN_FAILED_INVALID_CREDENTIALS = "invalid_credentials";
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
@@ -44,6 +73,9 @@ public class AuthApplicationService {
     private final AuthenticationService authenticationService;
     private final TokenRotationService tokenRotationService;
     private final DomainEventPublisher eventPublisher;
+    private final TransactionRunner transactionRunner;
+    private final SingleFlight<String, AuthResult> refreshFlights;
+    private final AuthMetrics metrics;
 
     public AuthApplicationService(
             UserRepository userRepository,
@@ -52,7 +84,10 @@ public class AuthApplicationService {
             TokenGenerator tokenGenerator,
             AuthenticationService authenticationService,
             TokenRotationService tokenRotationService,
-            DomainEventPublisher eventPublisher) {
+            DomainEventPublisher eventPublisher,
+            TransactionRunner transactionRunner,
+            SingleFlightRegistry singleFlights,
+            AuthMetrics metrics) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
@@ -60,66 +95,120 @@ public class AuthApplicationService {
         this.authenticationService = authenticationService;
         this.tokenRotationService = tokenRotationService;
         this.eventPublisher = eventPublisher;
+        this.transactionRunner = transactionRunner;
+        this.refreshFlights = singleFlights.create("refresh");
+        this.metrics = metrics;
     }
 
-    @Transactional
     public AuthResult register(RegisterCommand command) {
+        return metrics.operation(Operation.REGISTER, () -> doRegister(command));
+    }
+
+    private AuthResult doRegister(RegisterCommand command) {
         logger.debug("Registering new user with email: {}", command.email());
 
         Email email = Email.of(command.email());
 
-        // Check if user already exists
-        if (userRepository.existsByEmail(email)) {
-            throw new ValidationException(USER_ALREADY_EXISTS);
-        }
-
-        // Create user
+        // Create user (bcrypt runs here, before any connection is acquired)
         User user = User.register(
                 email, passwordEncoder.encode(command.password()), UserName.of(command.name()), command.role());
 
-        user = userRepository.save(user);
-        logger.debug("User registered with ID: {}", user.getId().value());
-
-        eventPublisher.publish(new UserRegisteredEvent(
-                user.getId().value(), user.getEmail().value(), user.getName().value()));
-
         // Generate tokens
         TokenFamily tokenFamily = TokenFamily.generate();
         TokenPair tokens = tokenRotationService.generateTokens(user, tokenFamily);
 
-        // Save refresh token
-        saveRefreshToken(tokens.refreshToken(), user, tokenFamily);
+        metrics.stage(
+                Stage.PERSIST,
+                () -> transactionRunner.run("register", () -> {
+                    // Single round trip: the unique index on lower(email) rejects duplicates atomically
+                    if (!userRepository.insertIfEmailAbsent(user)) {
+                        metrics.outcome(Outcome.DUPLICATE_EMAIL);
+                        throw new ValidationException(USER_ALREADY_EXISTS);
+                    }
+
+                    eventPublisher.publish(new UserRegisteredEvent(
+                            user.getId().value(),
+                            user.getEmail().value(),
+                            user.getName().value()));
+
+                    // Save refresh token
+                    saveRefreshToken(tokens.refreshToken(), user, tokenFamily);
+                }));
+        logger.debug("User registered with ID: {}", user.getId().value());
 
         return AuthResult.of(user.getId().value(), user.getEmail().value(), user.getRole(), tokens);
     }
 
-    @Transactional()
     public AuthResult login(LoginCommand command) {
+        return metrics.operation(Operation.LOGIN, () -> doLogin(command));
+    }
+
+    private AuthResult doLogin(LoginCommand command) {
         logger.debug("Logging in user with email: {}", command.email());
 
         Email email = Email.of(command.email());
 
-        // Authenticate user
-        User user = authenticationService.authenticate(email, command.password());
-
-        // Update last login
-        userRepository.updateLastLoginAt(user.getId(), LocalDateTime.now());
+        // Authenticate user (single read in auto-commit mode, bcrypt runs after the connection is returned)
+        User user;
+        try {
+            user = authenticationService.authenticate(email, command.password());
+        } catch (AuthenticationException e) {
+            metrics.outcome(Outcome.INVALID_CREDENTIALS);
+            eventPublisher.publish(new LoginFailedEvent(
+                    email.value(), LOGIN_FAILED_INVALID_CREDENTIALS, command.ipAddress(), command.userAgent()));
+            throw e;
+        }
 
         // Generate tokens
         TokenFamily tokenFamily = TokenFamily.generate();
         TokenPair tokens = tokenRotationService.generateTokens(user, tokenFamily);
 
-        // Save refresh token
-        saveRefreshToken(tokens.refreshToken(), user, tokenFamily);
+        metrics.stage(
+                Stage.PERSIST,
+                () -> transactionRunner.run("login", () -> {
+                    // Update last login
+                    userRepository.updateLastLoginAt(user.getId(), LocalDateTime.now());
+
+                    // Save refresh token
+                    saveRefreshToken(tokens.refreshToken(), user, tokenFamily);
+                }));
+
+        // After commit, so only logins that took effect are audited
+        eventPublisher.publish(new UserLoggedInEvent(
+                user.getId().value(), user.getEmail().value(), command.ipAddress(), command.userAgent()));
 
         logger.debug("User logged in successfully: {}", user.getId().value());
         return AuthResult.of(user.getId().value(), user.getEmail().value(), user.getRole(), tokens);
     }
 
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     public AuthResult refreshTokens(RefreshTokenCommand command) {
+        return metrics.operation(Operation.REFRESH, () -> doRefreshTokens(command));
+    }
+
+    private AuthResult doRefreshTokens(RefreshTokenCommand command) {
         logger.debug("Refreshing tokens");
 
+        // Identical concurrent refreshes share one rotation instead of queueing on the row lock
+        boolean[] rotated = {false};
+        AuthResult result = refreshFlights.execute(tokenDigest(command.refreshToken()), () -> {
+            rotated[0] = true;
+            // Serialization failures and deadlocks are retried by the runner instead of being treated as an
+            // invalid token
+            return transactionRunner.execute(
+                    "refresh",
+                    Isolation.SERIALIZABLE,
+                    () -> AuthFlightEvents.tokenRotationEnabled()
+                            ? AuthFlightEvents.record(
+                                    new AuthFlightEvents.TokenRotation(), () -> rotateRefreshToken(command))
+                            : rotateRefreshToken(command));
+        });
+        if (!rotated[0]) {
+            metrics.outcome(Outcome.COALESCED);
+        }
+        return result;
+    }
+
+    private AuthResult rotateRefreshToken(RefreshTokenCommand command) {
         try {
             // Validate refresh token
             TokenGenerator.RefreshTokenClaims claims = tokenGenerator.validateRefreshToken(command.refreshToken());
@@ -127,7 +216,10 @@ public class AuthApplicationService {
             // Get stored refresh token with lock
             RefreshToken storedToken = refreshTokenRepository
                     .findByTokenExclusively(command.refreshToken())
-                    .orElseThrow(() -> new AuthenticationException(INVALID_REFRESH_TOKEN));
+                    .orElseThrow(() -> {
+                        metrics.outcome(Outcome.INVALID_TOKEN);
+                        return new AuthenticationException(INVALID_REFRESH_TOKEN);
+                    });
 
             User user = userRepository
                     .findById(claims.userId())
@@ -136,22 +228,33 @@ public class AuthApplicationService {
             // Rotate tokens (validates expiry)
             TokenPair tokens = tokenRotationService.rotate(storedToken, user);
 
-            // Delete old token
-            refreshTokenRepository.deleteByToken(command.refreshToken());
+            metrics.stage(Stage.PERSIST, () -> {
+                // Delete old token
+                refreshTokenRepository.deleteByToken(command.refreshToken());
 
-            // Save new refresh token
-            saveRefreshToken(tokens.refreshToken(), user, claims.tokenFamily());
+                // Save new refresh token
+                saveRefreshToken(tokens.refreshToken(), user, claims.tokenFamily());
+            });
 
             logger.debug(
                     "Tokens refreshed successfully for user: {}", user.getId().value());
             return AuthResult.of(user.getId().value(), user.getEmail().value(), user.getRole(), tokens);
 
         } catch (AuthenticationException e) {
+            metrics.outcome(
+                    TokenRotationService.REFRESH_TOKEN_EXPIRED.equals(e.getMessage())
+                            ? Outcome.EXPIRED_TOKEN
+                            : Outcome.INVALID_TOKEN);
             throw e;
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
+            if (RetryableTransactionFailures.isRetryable(e)) {
+                // Lost a race with a concurrent rotation, not a sign of a stolen or invalid token
+                throw e;
+            }
             logger.error("Invalid refresh token: {}", e.getMessage());
 
             // If refresh token is invalid, try to delete the token family
+            metrics.outcome(Outcome.FAMILY_REVOKED);
             refreshTokenRepository
                     .findByToken(command.refreshToken())
                     .ifPresent(storedToken -> refreshTokenRepository.deleteByTokenFamily(storedToken.getTokenFamily()));
@@ -182,12 +285,26 @@ public class AuthApplicationService {
         logger.debug("Logged out from current device");
     }
 
+    /** Validates an access token and returns its claims. Stateless, no database access. */
+    public TokenGenerator.AccessTokenClaims validateAccessToken(String accessToken) {
+        return metrics.operation(Operation.VALIDATE, () -> tokenGenerator.validateAccessToken(accessToken));
+    }
+
     @Transactional
     public void cleanupExpiredTokens() {
         logger.debug("Cleaning up expired refresh tokens");
         refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
     }
 
+    private static String tokenDigest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private void saveRefreshToken(String token, User user, TokenFamily tokenFamily) {
         RefreshToken refreshToken =
                 RefreshToken.create(token, tokenFamily, user.getId(), tokenGenerator.getRefreshTokenExpiry());
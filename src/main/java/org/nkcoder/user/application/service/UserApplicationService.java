@@ -1,7 +1,14 @@
 package org.nkcoder.user.application.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.nkcoder.infrastructure.config.UserLookupProperties;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
 import org.nkcoder.shared.kernel.domain.event.DomainEventPublisher;
 import org.nkcoder.shared.kernel.exception.ResourceNotFoundException;
 import org.nkcoder.shared.kernel.exception.ValidationException;
@@ -9,7 +16,9 @@ import org.nkcoder.user.application.dto.command.AdminResetPasswordCommand;
 import org.nkcoder.user.application.dto.command.AdminUpdateUserCommand;
 import org.nkcoder.user.application.dto.command.ChangePasswordCommand;
 import org.nkcoder.user.application.dto.command.UpdateProfileCommand;
+import org.nkcoder.user.application.dto.response.UserBatchDto;
 import org.nkcoder.user.application.dto.response.UserDto;
+import org.nkcoder.user.application.port.UserQueryRepository;
 import org.nkcoder.user.domain.model.Email;
 import org.nkcoder.user.domain.model.User;
 import org.nkcoder.user.domain.model.UserId;
@@ -22,38 +31,52 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Application service for user operations (both commands and queries). */
+/**
+ * Application service for user operations (both commands and queries).
+ *
+ * <p>Password changes verify and hash outside of any transaction and then write the new hash with a single UPDATE
+ * through {@link TransactionRunner}, so bcrypt never runs while a pooled connection is held.
+ */
 @Service
-@Transactional
 public class UserApplicationService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserApplicationService.class);
 
     private final UserRepository userRepository;
+    private final UserQueryRepository userQueryRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationService authenticationService;
     private final DomainEventPublisher eventPublisher;
+    private final TransactionRunner transactionRunner;
+    private final UserLookupProperties lookupProperties;
 
     public UserApplicationService(
             UserRepository userRepository,
+            UserQueryRepository userQueryRepository,
             PasswordEncoder passwordEncoder,
             AuthenticationService authenticationService,
-            DomainEventPublisher eventPublisher) {
+            DomainEventPublisher eventPublisher,
+            TransactionRunner transactionRunner,
+            UserLookupProperties lookupProperties) {
         this.userRepository = userRepository;
+        this.userQueryRepository = userQueryRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationService = authenticationService;
         this.eventPublisher = eventPublisher;
+        this.transactionRunner = transactionRunner;
+        this.lookupProperties = lookupProperties;
     }
 
-    // Query operations
+    // Query operations (served from projections, the User aggregate is never loaded)
 
     /** Gets a user by their ID. */
     @Transactional(readOnly = true)
     public UserDto getUserById(UUID userId) {
         logger.debug("Getting user by ID: {}", userId);
 
-        User user = findUserOrThrow(userId);
-        return UserDto.from(user);
+        return userQueryRepository
+                .findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
     }
 
     /** Gets all users (admin operation). */
@@ -61,7 +84,37 @@ public class UserApplicationService {
     public List<UserDto> getAllUsers() {
         logger.debug("Getting all users");
 
-        return userRepository.findAll().stream().map(UserDto::from).toList();
+        return userQueryRepository.findAll();
+    }
+
+    /**
+     * Gets several users with a single query. Duplicate IDs are collapsed; found users are returned in request order
+     * and unknown IDs are reported in {@link UserBatchDto#missingIds()}.
+     */
+    @Transactional(readOnly = true)
+    public UserBatchDto getUsersByIds(List<UUID> userIds) {
+        logger.debug("Getting {} users by ID", userIds.size());
+
+        // Checked on the raw request, before an oversized one is copied
+        if (userIds.size() > lookupProperties.maxBatchSize()) {
+            throw new ValidationException("At most " + lookupProperties.maxBatchSize() + " user IDs per request");
+        }
+        LinkedHashSet<UUID> uniqueIds = new LinkedHashSet<>(userIds);
+
+        Map<UUID, UserDto> found = userQueryRepository.findAllByIds(uniqueIds).stream()
+                .collect(Collectors.toMap(UserDto::id, Function.identity()));
+
+        List<UserDto> users = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : uniqueIds) {
+            UserDto user = found.get(id);
+            if (user != null) {
+                users.add(user);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new UserBatchDto(users, missingIds);
     }
 
     /** Checks if a user exists. */
@@ -73,6 +126,7 @@ public class UserApplicationService {
     // Command operations
 
     /** Updates a user's profile. */
+    @Transactional
     public UserDto updateProfile(UpdateProfileCommand command) {
         logger.info("Updating profile for user: {}", command.userId());
 
@@ -97,12 +151,13 @@ public class UserApplicationService {
         }
 
         user.changePassword(passwordEncoder.encode(command.newPassword()));
-        userRepository.save(user);
+        transactionRunner.run("change_password", () -> updatePassword(user));
 
         logger.info("Password changed for user: {}", command.userId());
     }
 
     /** Admin operation: Updates a user's information. */
+    @Transactional
     public UserDto adminUpdateUser(AdminUpdateUserCommand command) {
         logger.info("Admin updating user: {}", command.targetUserId());
 
@@ -135,7 +190,7 @@ public class UserApplicationService {
         User user = findUserOrThrow(command.targetUserId());
 
         user.changePassword(passwordEncoder.encode(command.newPassword()));
-        userRepository.save(user);
+        transactionRunner.run("admin_reset_password", () -> updatePassword(user));
 
         logger.info("Admin reset password for user: {}", command.targetUserId());
     }
@@ -146,6 +201,10 @@ public class UserApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
     }
 
+    private void updatePassword(User user) {
+        userRepository.updatePassword(user.getId(), user.getPassword(), user.getUpdatedAt());
+    }
+
     /** Saves the user and publishes any domain events registered on the aggregate. */
     private User saveAndPublishEvents(User user) {
         User savedUser = userRepository.save(user);
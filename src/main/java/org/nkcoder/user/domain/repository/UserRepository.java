@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.nkcoder.user.domain.model.Email;
+import org.nkcoder.user.domain.model.HashedPassword;
 import org.nkcoder.user.domain.model.User;
 import org.nkcoder.user.domain.model.UserId;
 
@@ -13,6 +14,14 @@ public interface UserRepository {
     /** Saves a user (create or update). */
     User save(User user);
 
+    /**
+     * Inserts a newly registered user unless the email is already taken (compared case-insensitively). Uniqueness is
+     * enforced by the database in the same statement, so concurrent registrations cannot both succeed.
+     *
+     * @return {@code true} if the user was inserted, {@code false} if the email is already in use
+     */
+    boolean insertIfEmailAbsent(User user);
+
     /** Finds a user by their ID. */
     Optional<User> findById(UserId id);
 
@@ -36,4 +45,7 @@ public interface UserRepository {
 
     /** Updates the last login timestamp for a user. */
     void updateLastLoginAt(UserId id, LocalDateTime lastLoginAt);
+
+    /** Updates the password hash for a user in a single statement, without loading the aggregate. */
+    void updatePassword(UserId id, HashedPassword password, LocalDateTime updatedAt);
 }
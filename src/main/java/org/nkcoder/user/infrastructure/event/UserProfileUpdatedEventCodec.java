@@ -0,0 +1,45 @@
+package org.nkcoder.user.infrastructure.event;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.nkcoder.generated.events.EventsProto;
+import org.nkcoder.infrastructure.events.EventCodec;
+import org.nkcoder.infrastructure.events.ProtobufValues;
+import org.nkcoder.user.domain.event.UserProfileUpdatedEvent;
+import org.nkcoder.user.domain.model.UserId;
+import org.nkcoder.user.domain.model.UserName;
+import org.springframework.stereotype.Component;
+
+/** Protobuf encoding of {@link UserProfileUpdatedEvent} for the event publication log. */
+@Component
+public class UserProfileUpdatedEventCodec implements EventCodec<UserProfileUpdatedEvent> {
+
+    @Override
+    public Class<UserProfileUpdatedEvent> eventType() {
+        return UserProfileUpdatedEvent.class;
+    }
+
+    @Override
+    public byte[] encode(UserProfileUpdatedEvent event) {
+        return EventsProto.UserProfileUpdated.newBuilder()
+                .setUserId(ProtobufValues.uuid(event.userId().value()))
+                .setOldName(event.oldName().value())
+                .setNewName(event.newName().value())
+                .setOccurredOn(ProtobufValues.timestamp(event.occurredOn()))
+                .build()
+                .toByteArray();
+    }
+
+    @Override
+    public UserProfileUpdatedEvent decode(byte[] payload) {
+        try {
+            EventsProto.UserProfileUpdated message = EventsProto.UserProfileUpdated.parseFrom(payload);
+            return new UserProfileUpdatedEvent(
+                    ProtobufValues.localDateTime(message.getOccurredOn()),
+                    UserId.of(ProtobufValues.uuid(message.getUserId())),
+                    UserName.of(message.getOldName()),
+                    UserName.of(message.getNewName()));
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("Invalid UserProfileUpdated payload", e);
+        }
+    }
+}
@@ -6,7 +6,6 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
@@ -22,9 +21,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * control new/existing entity detection since we provide our own UUID.
  */
 @Entity
-@Table(
-        name = "users",
-        indexes = {@Index(name = "idx_users_email", columnList = "email")})
+@Table(name = "users")
 @EntityListeners(AuditingEntityListener.class)
 public class UserJpaEntity implements Persistable<UUID> {
 
@@ -34,7 +31,8 @@ public class UserJpaEntity implements Persistable<UUID> {
     @Transient
     private boolean isNew = false;
 
-    @Column(nullable = false, unique = true)
+    // Uniqueness is enforced by the users_email_lower_key functional index (see V1.5 migration)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
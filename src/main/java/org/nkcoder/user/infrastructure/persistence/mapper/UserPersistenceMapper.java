@@ -1,11 +1,13 @@
 package org.nkcoder.user.infrastructure.persistence.mapper;
 
+import org.nkcoder.user.application.dto.response.UserDto;
 import org.nkcoder.user.domain.model.Email;
 import org.nkcoder.user.domain.model.HashedPassword;
 import org.nkcoder.user.domain.model.User;
 import org.nkcoder.user.domain.model.UserId;
 import org.nkcoder.user.domain.model.UserName;
 import org.nkcoder.user.infrastructure.persistence.entity.UserJpaEntity;
+import org.nkcoder.user.infrastructure.persistence.projection.UserView;
 import org.springframework.stereotype.Component;
 
 /** Mapper between User domain model and UserJpaEntity. */
@@ -43,4 +45,16 @@ public class UserPersistenceMapper {
         entity.markAsNew();
         return entity;
     }
+
+    public UserDto toDto(UserView view) {
+        return new UserDto(
+                view.id(),
+                view.email(),
+                view.name(),
+                view.role().name(),
+                view.emailVerified(),
+                view.lastLoginAt(),
+                view.createdAt(),
+                view.updatedAt());
+    }
 }
@@ -0,0 +1,20 @@
+package org.nkcoder.user.infrastructure.persistence.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.nkcoder.user.domain.model.UserRole;
+
+/**
+ * Read-only projection of the users table. Selected through a JPQL constructor expression (or mapped from a JDBC row
+ * for batch lookups), so Hibernate neither hydrates a managed entity nor keeps a dirty-checking snapshot, and the
+ * password column is never read.
+ */
+public record UserView(
+        UUID id,
+        String email,
+        String name,
+        UserRole role,
+        boolean emailVerified,
+        LocalDateTime lastLoginAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {}
@@ -2,6 +2,10 @@ package org.nkcoder.user.infrastructure.persistence.repository;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Supplier;
+import org.nkcoder.user.application.metrics.AuthFlightEvents;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.application.metrics.AuthMetrics.Stage;
 import org.nkcoder.user.domain.model.RefreshToken;
 import org.nkcoder.user.domain.model.TokenFamily;
 import org.nkcoder.user.domain.model.UserId;
@@ -15,48 +19,97 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
 
     private final RefreshTokenJpaRepository jpaRepository;
     private final RefreshTokenPersistenceMapper mapper;
+    private final AuthMetrics metrics;
 
     public RefreshTokenRepositoryAdapter(
-            RefreshTokenJpaRepository jpaRepository, RefreshTokenPersistenceMapper mapper) {
+            RefreshTokenJpaRepository jpaRepository, RefreshTokenPersistenceMapper mapper, AuthMetrics metrics) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.metrics = metrics;
     }
 
     @Override
     public Optional<RefreshToken> findByToken(String token) {
-        return jpaRepository.findByToken(token).map(mapper::toDomain);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return jpaRepository.findByToken(token).map(mapper::toDomain);
+        }
+        return call("findByToken", () -> jpaRepository.findByToken(token).map(mapper::toDomain));
     }
 
     @Override
     public Optional<RefreshToken> findByTokenExclusively(String token) {
-        return jpaRepository.findByTokenForUpdate(token).map(mapper::toDomain);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return lookUpForUpdate(token);
+        }
+        return call("findByTokenExclusively", () -> lookUpForUpdate(token));
     }
 
     @Override
     public RefreshToken save(RefreshToken refreshToken) {
-        boolean exists = jpaRepository.existsById(refreshToken.getId());
-        var entity = exists ? mapper.toEntity(refreshToken) : mapper.toNewEntity(refreshToken);
-        var savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return saveEntity(refreshToken);
+        }
+        return call("save", () -> saveEntity(refreshToken));
     }
 
     @Override
     public void deleteByToken(String token) {
-        jpaRepository.deleteByToken(token);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            jpaRepository.deleteByToken(token);
+            return;
+        }
+        call("deleteByToken", () -> jpaRepository.deleteByToken(token));
     }
 
     @Override
     public void deleteByTokenFamily(TokenFamily tokenFamily) {
-        jpaRepository.deleteByTokenFamily(tokenFamily.value());
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            jpaRepository.deleteByTokenFamily(tokenFamily.value());
+            return;
+        }
+        call("deleteByTokenFamily", () -> jpaRepository.deleteByTokenFamily(tokenFamily.value()));
     }
 
     @Override
     public void deleteByUserId(UserId userId) {
-        jpaRepository.deleteByUserId(userId.value());
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            jpaRepository.deleteByUserId(userId.value());
+            return;
+        }
+        call("deleteByUserId", () -> jpaRepository.deleteByUserId(userId.value()));
     }
 
     @Override
     public void deleteExpiredTokens(LocalDateTime now) {
-        jpaRepository.deleteExpiredTokens(now);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            jpaRepository.deleteExpiredTokens(now);
+            return;
+        }
+        call("deleteExpiredTokens", () -> jpaRepository.deleteExpiredTokens(now));
+    }
+
+    private Optional<RefreshToken> lookUpForUpdate(String token) {
+        return metrics.stage(
+                Stage.TOKEN_LOOKUP,
+                () -> jpaRepository.findByTokenForUpdate(token).map(mapper::toDomain));
+    }
+
+    private RefreshToken saveEntity(RefreshToken refreshToken) {
+        boolean exists = jpaRepository.existsById(refreshToken.getId());
+        var entity = exists ? mapper.toEntity(refreshToken) : mapper.toNewEntity(refreshToken);
+        var savedEntity = jpaRepository.save(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
+    /**
+     * Records the call as a JFR event (see {@link AuthFlightEvents}). Callers check
+     * {@link AuthFlightEvents#repositoryCallEnabled()} first and run the work directly while it is off.
+     */
+    private <T> T call(String method, Supplier<T> work) {
+        return AuthFlightEvents.record(new AuthFlightEvents.RepositoryCall("refresh_token", method), work);
+    }
+
+    private void call(String method, Runnable work) {
+        AuthFlightEvents.record(new AuthFlightEvents.RepositoryCall("refresh_token", method), work);
     }
 }
@@ -1,27 +1,71 @@
 package org.nkcoder.user.infrastructure.persistence.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.nkcoder.user.infrastructure.persistence.entity.UserJpaEntity;
+import org.nkcoder.user.infrastructure.persistence.projection.UserView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-/** Spring Data JPA repository for UserJpaEntity. */
+/**
+ * Spring Data JPA repository for UserJpaEntity. Email lookups compare {@code lower(email)} so they hit the
+ * {@code users_email_lower_key} functional index; callers pass the already-normalized email value.
+ */
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
 
-    Optional<UserJpaEntity> findByEmail(String email);
+    String SELECT_USER_VIEW = """
+            SELECT new org.nkcoder.user.infrastructure.persistence.projection.UserView(
+                u.id, u.email, u.name, u.role, u.emailVerified, u.lastLoginAt, u.createdAt, u.updatedAt)
+            FROM UserJpaEntity u
+            """;
 
-    boolean existsByEmail(String email);
+    @Query(SELECT_USER_VIEW + " WHERE u.id = :id")
+    Optional<UserView> findViewById(@Param("id") UUID id);
 
-    @Query("SELECT COUNT(u) > 0 FROM UserJpaEntity u WHERE u.email = :email AND u.id != :excludeId")
+    @Query(SELECT_USER_VIEW)
+    List<UserView> findAllViews();
+
+    @Query("SELECT u FROM UserJpaEntity u WHERE lower(u.email) = :email")
+    Optional<UserJpaEntity> findByEmail(@Param("email") String email);
+
+    @Query("SELECT COUNT(u) > 0 FROM UserJpaEntity u WHERE lower(u.email) = :email")
+    boolean existsByEmail(@Param("email") String email);
+
+    @Query("SELECT COUNT(u) > 0 FROM UserJpaEntity u WHERE lower(u.email) = :email AND u.id != :excludeId")
     boolean existsByEmailExcludingId(@Param("email") String email, @Param("excludeId") UUID excludeId);
 
+    /**
+     * Inserts a new user in a single statement. Returns the inserted id, or empty when the email is already taken (the
+     * unique index on {@code lower(email)} turns the conflict into a no-op instead of an error).
+     */
+    @Query(value = """
+                    INSERT INTO users (id, email, password, name, role, is_email_verified, created_at, updated_at)
+                    VALUES (:id, :email, :password, :name, :role, :emailVerified, :createdAt, :updatedAt)
+                    ON CONFLICT (lower(email)) DO NOTHING
+                    RETURNING id
+                    """, nativeQuery = true)
+    Optional<UUID> insertIfEmailAbsent(
+            @Param("id") UUID id,
+            @Param("email") String email,
+            @Param("password") String password,
+            @Param("name") String name,
+            @Param("role") String role,
+            @Param("emailVerified") boolean emailVerified,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
     @Modifying
     @Query("UPDATE UserJpaEntity u SET u.lastLoginAt = :lastLoginAt WHERE u.id = :id")
     void updateLastLoginAt(@Param("id") UUID id, @Param("lastLoginAt") LocalDateTime lastLoginAt);
+
+    @Modifying
+    @Query("UPDATE UserJpaEntity u SET u.password = :password, u.updatedAt = :updatedAt WHERE u.id = :id")
+    void updatePassword(
+            @Param("id") UUID id, @Param("password") String password, @Param("updatedAt") LocalDateTime updatedAt);
 }
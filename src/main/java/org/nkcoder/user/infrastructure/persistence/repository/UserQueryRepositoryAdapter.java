@@ -0,0 +1,87 @@
+package org.nkcoder.user.infrastructure.persistence.repository;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.nkcoder.user.application.dto.response.UserDto;
+import org.nkcoder.user.application.port.UserQueryRepository;
+import org.nkcoder.user.domain.model.UserRole;
+import org.nkcoder.user.infrastructure.persistence.mapper.UserPersistenceMapper;
+import org.nkcoder.user.infrastructure.persistence.projection.UserView;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.stereotype.Repository;
+
+/** Adapter implementing the UserQueryRepository read port using JPQL projections and, for batch lookups, JDBC. */
+@Repository
+public class UserQueryRepositoryAdapter implements UserQueryRepository {
+
+    /**
+     * The IDs are bound as a single {@code uuid[]} parameter, so the statement text (and its server-side plan) is the
+     * same for every batch size, unlike an {@code IN (?, ?, ...)} list.
+     */
+    private static final String SELECT_VIEWS_BY_IDS = """
+            SELECT id, email, name, role, is_email_verified, last_login_at, created_at, updated_at
+            FROM users
+            WHERE id = ANY(?)
+            """;
+
+    private final UserJpaRepository jpaRepository;
+    private final JdbcClient jdbcClient;
+    private final UserPersistenceMapper mapper;
+
+    public UserQueryRepositoryAdapter(
+            UserJpaRepository jpaRepository, JdbcClient jdbcClient, UserPersistenceMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcClient = jdbcClient;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<UserDto> findById(UUID userId) {
+        return jpaRepository.findViewById(userId).map(mapper::toDto);
+    }
+
+    @Override
+    public List<UserDto> findAll() {
+        return jpaRepository.findAllViews().stream().map(mapper::toDto).toList();
+    }
+
+    @Override
+    public List<UserDto> findAllByIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        UUID[] ids = userIds.toArray(UUID[]::new);
+        return jdbcClient
+                .sql(SELECT_VIEWS_BY_IDS)
+                .param(1, new SqlParameterValue(Types.ARRAY, new AbstractSqlTypeValue() {
+                    @Override
+                    protected Object createTypeValue(Connection connection, int sqlType, String typeName)
+                            throws SQLException {
+                        return connection.createArrayOf("uuid", ids);
+                    }
+                }))
+                .query((rs, rowNum) -> mapper.toDto(toView(rs)))
+                .list();
+    }
+
+    private static UserView toView(ResultSet rs) throws SQLException {
+        return new UserView(
+                rs.getObject("id", UUID.class),
+                rs.getString("email"),
+                rs.getString("name"),
+                UserRole.valueOf(rs.getString("role")),
+                rs.getBoolean("is_email_verified"),
+                rs.getObject("last_login_at", LocalDateTime.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+}
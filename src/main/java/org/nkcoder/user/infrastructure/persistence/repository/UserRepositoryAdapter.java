@@ -3,7 +3,12 @@ package org.nkcoder.user.infrastructure.persistence.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import org.nkcoder.user.application.metrics.AuthFlightEvents;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.application.metrics.AuthMetrics.Stage;
 import org.nkcoder.user.domain.model.Email;
+import org.nkcoder.user.domain.model.HashedPassword;
 import org.nkcoder.user.domain.model.User;
 import org.nkcoder.user.domain.model.UserId;
 import org.nkcoder.user.domain.repository.UserRepository;
@@ -16,57 +21,152 @@ public class UserRepositoryAdapter implements UserRepository {
 
     private final UserJpaRepository jpaRepository;
     private final UserPersistenceMapper mapper;
+    private final AuthMetrics metrics;
 
-    public UserRepositoryAdapter(UserJpaRepository jpaRepository, UserPersistenceMapper mapper) {
+    public UserRepositoryAdapter(UserJpaRepository jpaRepository, UserPersistenceMapper mapper, AuthMetrics metrics) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.metrics = metrics;
     }
 
     @Override
     public User save(User user) {
-        boolean exists = jpaRepository.existsById(user.getId().value());
-        var entity = exists ? mapper.toEntity(user) : mapper.toNewEntity(user);
-        var savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return saveEntity(user);
+        }
+        return call("save", () -> saveEntity(user));
+    }
+
+    @Override
+    public boolean insertIfEmailAbsent(User user) {
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return insertEntityIfEmailAbsent(user);
+        }
+        return call("insertIfEmailAbsent", () -> insertEntityIfEmailAbsent(user));
     }
 
     @Override
     public Optional<User> findById(UserId id) {
-        return jpaRepository.findById(id.value()).map(mapper::toDomain);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return lookUpById(id);
+        }
+        return call("findById", () -> lookUpById(id));
     }
 
     @Override
     public Optional<User> findByEmail(Email email) {
-        return jpaRepository.findByEmail(email.value()).map(mapper::toDomain);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return lookUpByEmail(email);
+        }
+        return call("findByEmail", () -> lookUpByEmail(email));
     }
 
     @Override
     public boolean existsByEmail(Email email) {
-        return jpaRepository.existsByEmail(email.value());
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return jpaRepository.existsByEmail(email.value());
+        }
+        return call("existsByEmail", () -> jpaRepository.existsByEmail(email.value()));
     }
 
     @Override
     public boolean existsByEmailExcludingId(Email email, UserId excludeId) {
-        return jpaRepository.existsByEmailExcludingId(email.value(), excludeId.value());
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return jpaRepository.existsByEmailExcludingId(email.value(), excludeId.value());
+        }
+        return call(
+                "existsByEmailExcludingId",
+                () -> jpaRepository.existsByEmailExcludingId(email.value(), excludeId.value()));
     }
 
     @Override
     public List<User> findAll() {
-        return jpaRepository.findAll().stream().map(mapper::toDomain).toList();
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return findAllEntities();
+        }
+        return call("findAll", this::findAllEntities);
     }
 
     @Override
     public void deleteById(UserId id) {
-        jpaRepository.deleteById(id.value());
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            jpaRepository.deleteById(id.value());
+            return;
+        }
+        call("deleteById", () -> jpaRepository.deleteById(id.value()));
     }
 
     @Override
     public boolean existsById(UserId id) {
-        return jpaRepository.existsById(id.value());
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            return jpaRepository.existsById(id.value());
+        }
+        return call("existsById", () -> jpaRepository.existsById(id.value()));
     }
 
     @Override
     public void updateLastLoginAt(UserId id, LocalDateTime lastLoginAt) {
-        jpaRepository.updateLastLoginAt(id.value(), lastLoginAt);
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            jpaRepository.updateLastLoginAt(id.value(), lastLoginAt);
+            return;
+        }
+        call("updateLastLoginAt", () -> jpaRepository.updateLastLoginAt(id.value(), lastLoginAt));
+    }
+
+    @Override
+    public void updatePassword(UserId id, HashedPassword password, LocalDateTime updatedAt) {
+        if (!AuthFlightEvents.repositoryCallEnabled()) {
+            jpaRepository.updatePassword(id.value(), password.value(), updatedAt);
+            return;
+        }
+        call("updatePassword", () -> jpaRepository.updatePassword(id.value(), password.value(), updatedAt));
+    }
+
+    private User saveEntity(User user) {
+        boolean exists = jpaRepository.existsById(user.getId().value());
+        var entity = exists ? mapper.toEntity(user) : mapper.toNewEntity(user);
+        var savedEntity = jpaRepository.save(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
+    private boolean insertEntityIfEmailAbsent(User user) {
+        return jpaRepository
+                .insertIfEmailAbsent(
+                        user.getId().value(),
+                        user.getEmail().value(),
+                        user.getPassword().value(),
+                        user.getName().value(),
+                        user.getRole().name(),
+                        user.isEmailVerified(),
+                        user.getCreatedAt(),
+                        user.getUpdatedAt())
+                .isPresent();
+    }
+
+    private Optional<User> lookUpById(UserId id) {
+        return metrics.stage(
+                Stage.USER_LOOKUP, () -> jpaRepository.findById(id.value()).map(mapper::toDomain));
+    }
+
+    private Optional<User> lookUpByEmail(Email email) {
+        return metrics.stage(
+                Stage.USER_LOOKUP,
+                () -> jpaRepository.findByEmail(email.value()).map(mapper::toDomain));
+    }
+
+    private List<User> findAllEntities() {
+        return jpaRepository.findAll().stream().map(mapper::toDomain).toList();
+    }
+
+    /**
+     * Records the call as a JFR event (see {@link AuthFlightEvents}). Callers check
+     * {@link AuthFlightEvents#repositoryCallEnabled()} first and run the work directly while it is off.
+     */
+    private <T> T call(String method, Supplier<T> work) {
+        return AuthFlightEvents.record(new AuthFlightEvents.RepositoryCall("user", method), work);
+    }
+
+    private void call(String method, Runnable work) {
+        AuthFlightEvents.record(new AuthFlightEvents.RepositoryCall("user", method), work);
     }
 }
@@ -1,7 +1,11 @@
 package org.nkcoder.user.infrastructure.security;
 
+import org.nkcoder.user.application.metrics.AuthFlightEvents;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.application.metrics.AuthMetrics.Stage;
 import org.nkcoder.user.domain.model.HashedPassword;
 import org.nkcoder.user.domain.service.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -10,19 +14,65 @@ import org.springframework.stereotype.Component;
 public class BcryptPasswordEncoderAdapter implements PasswordEncoder {
 
     private static final int BCRYPT_STRENGTH = 12;
+    private final int strength;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final AuthMetrics metrics;
 
-    public BcryptPasswordEncoderAdapter() {
-        this.bCryptPasswordEncoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+    @Autowired
+    public BcryptPasswordEncoderAdapter(AuthMetrics metrics) {
+        this(BCRYPT_STRENGTH, metrics);
+    }
+
+    /** Uses a cost other than the default of 12, e.g. to benchmark the cost of raising it. */
+    public BcryptPasswordEncoderAdapter(int strength, AuthMetrics metrics) {
+        this.strength = strength;
+        this.bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+        this.metrics = metrics;
     }
 
     @Override
     public HashedPassword encode(String rawPassword) {
-        return HashedPassword.of(bCryptPasswordEncoder.encode(rawPassword));
+        if (!AuthFlightEvents.passwordHashEnabled()) {
+            return metrics.stage(
+                    Stage.PASSWORD_HASH, () -> HashedPassword.of(bCryptPasswordEncoder.encode(rawPassword)));
+        }
+        return metrics.stage(
+                Stage.PASSWORD_HASH,
+                () -> AuthFlightEvents.record(
+                        new AuthFlightEvents.PasswordHash(strength),
+                        () -> HashedPassword.of(bCryptPasswordEncoder.encode(rawPassword))));
     }
 
     @Override
     public boolean matches(String rawPassword, HashedPassword hashedPassword) {
-        return bCryptPasswordEncoder.matches(rawPassword, hashedPassword.value());
+        if (!AuthFlightEvents.passwordVerifyEnabled()) {
+            return metrics.stage(
+                    Stage.PASSWORD_VERIFY, () -> bCryptPasswordEncoder.matches(rawPassword, hashedPassword.value()));
+        }
+        AuthFlightEvents.PasswordVerify event = new AuthFlightEvents.PasswordVerify(costOf(hashedPassword.value()));
+        return metrics.stage(
+                Stage.PASSWORD_VERIFY,
+                () -> AuthFlightEvents.record(event, () -> {
+                    boolean matches = bCryptPasswordEncoder.matches(rawPassword, hashedPassword.value());
+                    event.outcome = matches ? "match" : "mismatch";
+                    return matches;
+                }));
+    }
+
+    /** Cost factor of a {@code $2a$12$...} bcrypt hash, or 0 if the value is not shaped like one. */
+    static int costOf(String hash) {
+        if (hash == null
+                || hash.length() < 7
+                || hash.charAt(0) != '$'
+                || hash.charAt(3) != '$'
+                || hash.charAt(6) != '$') {
+            return 0;
+        }
+        char tens = hash.charAt(4);
+        char units = hash.charAt(5);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+            return 0;
+        }
+        return (tens - '0') * 10 + (units - '0');
     }
 }
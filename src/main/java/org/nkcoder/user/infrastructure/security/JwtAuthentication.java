@@ -0,0 +1,71 @@
+package org.nkcoder.user.infrastructure.security;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.nkcoder.user.domain.model.UserRole;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Authentication of a request that carried a valid access token, backed directly by the token's claims.
+ *
+ * <p>Built once per authenticated request, so it is kept to a single small object: the authorities are shared,
+ * immutable lists computed once per {@link UserRole}, there is no {@code UserDetails} with an empty password and no
+ * {@code WebAuthenticationDetails} (nothing reads the client address from the authentication). The principal is the
+ * {@link AccessTokenClaims}, so handlers can take it with {@code @AuthenticationPrincipal}; {@link #getName()} is the
+ * email, as with the {@code UserDetails} principal used before.
+ *
+ * @param claims claims of the validated access token
+ */
+public record JwtAuthentication(AccessTokenClaims claims) implements Authentication {
+
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.toAuthority())));
+        }
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(claims.role());
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public AccessTokenClaims getPrincipal() {
+        return claims;
+    }
+
+    @Override
+    public String getName() {
+        return claims.email().value();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    /** Always authenticated: a validated token cannot be turned into an untrusted one. */
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (!authenticated) {
+            throw new IllegalArgumentException("A JwtAuthentication is always authenticated");
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package org.nkcoder.user.infrastructure.security;
 
-import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import org.apache.logging.log4j.util.Strings;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
 import org.nkcoder.shared.local.rest.ApiResponse;
+import org.nkcoder.user.infrastructure.security.JwtAuthenticator.Rejection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,18 +21,43 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.ObjectMapper;
 
+/**
+ * Answers unauthenticated requests with 401 and an {@link ApiResponse} error body.
+ *
+ * <p>There is one body per {@link Rejection}, serialized with the application's {@link ObjectMapper} at startup and
+ * split around the timestamp, so a rejection only formats the current time and copies bytes. The reason is the one
+ * {@link JwtAuthenticationFilter} stored in {@link #REJECTION_ATTRIBUTE}, {@link Rejection#MISSING} if there is none.
+ * Rejections are counted as {@value #REJECTED_METRIC}, tagged by reason.
+ */
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationEntryPoint.class);
 
+    public static final String REJECTION_ATTRIBUTE = JwtAuthenticationEntryPoint.class.getName() + ".rejection";
+    public static final String REJECTED_METRIC = "auth.rejected";
+
     private static final String CONTENT_TYPE_JSON = "application/json";
 
+    // Nanoseconds make sure the serialized sentinel is the full ISO form a real timestamp may take
+    private static final LocalDateTime SENTINEL = LocalDateTime.of(2000, 1, 1, 0, 0, 0, 123_456_789);
+
     private final ObjectMapper objectMapper;
+    private final Map<Rejection, ErrorBody> bodies = new EnumMap<>(Rejection.class);
+    private final Map<Rejection, Counter> rejected = new EnumMap<>(Rejection.class);
 
     @Autowired
-    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) {
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         this.objectMapper = objectMapper;
+        for (Rejection rejection : Rejection.values()) {
+            bodies.put(rejection, preSerialize(message(rejection)));
+            rejected.put(
+                    rejection,
+                    Counter.builder(REJECTED_METRIC)
+                            .description("Requests answered with 401 Unauthorized, by reason")
+                            .tag("reason", rejection.tag())
+                            .register(meterRegistry));
+        }
     }
 
     @Override
@@ -35,26 +67,60 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
         logger.debug("Unauthorized access attempt to: {}", request.getRequestURI());
 
+        Rejection rejection =
+                request.getAttribute(REJECTION_ATTRIBUTE) instanceof Rejection stored ? stored : Rejection.MISSING;
+        reject(response, rejection);
+    }
+
+    private void reject(HttpServletResponse response, Rejection rejection) throws IOException {
+        rejected.get(rejection).increment();
+
         response.setContentType(CONTENT_TYPE_JSON);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 
-        String errorMessage = determineErrorMessage(authException);
-        ApiResponse<Void> apiResponse = ApiResponse.error(errorMessage);
-
-        objectMapper.writeValue(response.getOutputStream(), apiResponse);
+        ErrorBody body = bodies.get(rejection);
+        if (body.prefix() == null) {
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(body.message()));
+        } else {
+            byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME
+                    .format(LocalDateTime.now())
+                    .getBytes(StandardCharsets.US_ASCII);
+            response.setContentLength(body.prefix().length + timestamp.length + body.suffix().length);
+            ServletOutputStream out = response.getOutputStream();
+            out.write(body.prefix());
+            out.write(timestamp);
+            out.write(body.suffix());
+        }
         response.getOutputStream().flush();
         // Do NOT close the stream - let the servlet container manage it
     }
 
-    private String determineErrorMessage(AuthenticationException authException) {
-        if (authException.getCause() instanceof ExpiredJwtException) {
-            return "Token has expired";
-        }
+    private static String message(Rejection rejection) {
+        return switch (rejection) {
+            case MISSING -> "Authentication required";
+            case MALFORMED -> "Malformed access token";
+            case EXPIRED -> "Token has expired";
+            case INVALID -> "Invalid access token";
+        };
+    }
 
-        if (Strings.isNotBlank(authException.getMessage())) {
-            return "Authentication required: " + authException.getMessage();
+    /**
+     * Serializes the error body with a sentinel timestamp and splits it there. If the mapper does not write
+     * {@code LocalDateTime} as an ISO string, the body is serialized on every rejection instead.
+     */
+    private ErrorBody preSerialize(String message) {
+        String json = objectMapper.writeValueAsString(new ApiResponse<Void>(message, null, SENTINEL));
+        String timestamp = objectMapper.writeValueAsString(SENTINEL);
+        int at = json.indexOf(timestamp);
+        if (!timestamp.equals('"' + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(SENTINEL) + '"') || at < 0) {
+            logger.warn("Timestamps are not ISO strings; 401 bodies are serialized per request");
+            return new ErrorBody(message, null, null);
         }
-
-        return "Authentication required";
+        return new ErrorBody(
+                message,
+                json.substring(0, at + 1).getBytes(StandardCharsets.UTF_8),
+                json.substring(at + timestamp.length() - 1).getBytes(StandardCharsets.UTF_8));
     }
+
+    private record ErrorBody(String message, byte[] prefix, byte[] suffix) {}
 }
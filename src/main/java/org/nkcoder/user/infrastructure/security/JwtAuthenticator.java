@@ -0,0 +1,162 @@
+package org.nkcoder.user.infrastructure.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import java.util.Locale;
+import java.util.Optional;
+import org.nkcoder.infrastructure.config.FastRejectProperties;
+import org.nkcoder.infrastructure.diagnostics.LogRateLimiter;
+import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.application.metrics.AuthMetrics.Operation;
+import org.nkcoder.user.application.metrics.AuthMetrics.Outcome;
+import org.nkcoder.user.domain.service.TokenGenerator;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns a bearer {@code Authorization} header into a Spring Security authentication. Shared by the servlet
+ * {@link JwtAuthenticationFilter} and the gRPC {@link JwtGrpcAuthenticationInterceptor}, so both transports accept
+ * exactly the same tokens.
+ *
+ * <p>Before any crypto, the token's shape is checked: three non-empty Base64URL segments separated by dots and at most
+ * {@link FastRejectProperties#maxTokenLength()} characters. Tokens failing that are {@link Rejection#MALFORMED} and
+ * never reach the JWT parser. Rejected tokens are logged through a {@link LogRateLimiter}, so a flood of them costs one
+ * log line per interval.
+ */
+@Component
+public class JwtAuthenticator {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticator.class);
+
+    /** Why a request has no usable access token. */
+    public enum Rejection {
+        /** No {@code Authorization: Bearer} header at all. */
+        MISSING,
+        /** Not shaped like a JWT; rejected without parsing. */
+        MALFORMED,
+        EXPIRED,
+        /** Bad signature, issuer or claims. */
+        INVALID;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** Result of checking a header: the validated claims, or the reason there are none. */
+    public record TokenCheck(AccessTokenClaims claims, Rejection rejection) {
+
+        private static final TokenCheck[] REJECTED = new TokenCheck[Rejection.values().length];
+
+        static {
+            for (Rejection rejection : Rejection.values()) {
+                REJECTED[rejection.ordinal()] = new TokenCheck(null, rejection);
+            }
+        }
+
+        static TokenCheck rejected(Rejection rejection) {
+            return REJECTED[rejection.ordinal()];
+        }
+
+        public boolean authenticated() {
+            return claims != null;
+        }
+    }
+
+    private final TokenGenerator tokenGenerator;
+    private final AuthMetrics metrics;
+    private final int maxTokenLength;
+    private final LogRateLimiter logLimiter;
+
+    public JwtAuthenticator(TokenGenerator tokenGenerator, AuthMetrics metrics, FastRejectProperties properties) {
+        this.tokenGenerator = tokenGenerator;
+        this.metrics = metrics;
+        this.maxTokenLength = properties.maxTokenLength();
+        this.logLimiter = new LogRateLimiter(properties.logInterval());
+    }
+
+    /** Validates the bearer token in the header, if any. Invalid tokens are logged and yield an empty result. */
+    public Optional<AccessTokenClaims> authenticate(String authorizationHeader) {
+        return Optional.ofNullable(check(authorizationHeader).claims());
+    }
+
+    /** Validates the bearer token in the header, if any, and tells why it was rejected if it was. */
+    public TokenCheck check(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return TokenCheck.rejected(Rejection.MISSING);
+        }
+        if (!isWellFormed(authorizationHeader, BEARER_PREFIX.length(), maxTokenLength)) {
+            rejected(Rejection.MALFORMED, "not a JWT");
+            return TokenCheck.rejected(Rejection.MALFORMED);
+        }
+        return validate(authorizationHeader.substring(BEARER_PREFIX.length()));
+    }
+
+    public JwtAuthentication toAuthentication(AccessTokenClaims claims) {
+        return new JwtAuthentication(claims);
+    }
+
+    private TokenCheck validate(String token) {
+        return metrics.operation(Operation.VALIDATE, () -> {
+            try {
+                return new TokenCheck(tokenGenerator.validateAccessToken(token), null);
+            } catch (AuthenticationException e) {
+                metrics.outcome(Outcome.INVALID_TOKEN);
+                Rejection rejection =
+                        e.getCause() instanceof ExpiredJwtException ? Rejection.EXPIRED : Rejection.INVALID;
+                rejected(rejection, e.getMessage());
+                return TokenCheck.rejected(rejection);
+            } catch (IllegalArgumentException e) {
+                metrics.outcome(Outcome.INVALID_TOKEN);
+                rejected(Rejection.INVALID, e.getMessage());
+                return TokenCheck.rejected(Rejection.INVALID);
+            }
+        });
+    }
+
+    private void rejected(Rejection rejection, String detail) {
+        long suppressed = logLimiter.tryAcquire();
+        if (suppressed >= 0) {
+            logger.warn(
+                    "Rejected {} access token: {} ({} rejections suppressed since the last one logged)",
+                    rejection.tag(),
+                    detail,
+                    suppressed);
+        } else {
+            logger.debug("Rejected {} access token: {}", rejection.tag(), detail);
+        }
+    }
+
+    /**
+     * Whether {@code value}, from {@code start} on, is three non-empty Base64URL segments separated by dots and at most
+     * {@code maxLength} characters long. Signed JWTs always are; anything else cannot pass validation.
+     */
+    static boolean isWellFormed(String value, int start, int maxLength) {
+        int end = value.length();
+        if (end - start > maxLength) {
+            return false;
+        }
+        int dots = 0;
+        int segmentStart = start;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (i == segmentStart || ++dots > 2) {
+                    return false;
+                }
+                segmentStart = i + 1;
+            } else if (!isBase64Url(c)) {
+                return false;
+            }
+        }
+        return dots == 2 && segmentStart < end;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
@@ -0,0 +1,116 @@
+package org.nkcoder.user.infrastructure.security;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.nkcoder.infrastructure.grpc.GrpcInterceptorProperties;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC counterpart of {@link JwtAuthenticationFilter}: validates the bearer token in the {@code authorization} metadata
+ * with the same {@link JwtAuthenticator}.
+ *
+ * <p>Methods listed in {@code grpc.interceptors.public-methods} may be called anonymously; every other call without a
+ * valid token is closed with {@code UNAUTHENTICATED} before it reaches the service. Role checks are left to
+ * {@code @PreAuthorize} on the service, as for REST controllers.
+ *
+ * <p>gRPC runs the callbacks of one call on different threads, so the security context is set around each callback
+ * instead of once per call.
+ */
+@Component
+@GlobalServerInterceptor
+@Order(JwtGrpcAuthenticationInterceptor.ORDER)
+public class JwtGrpcAuthenticationInterceptor implements ServerInterceptor {
+
+    public static final int ORDER = 20;
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtGrpcAuthenticationInterceptor.class);
+
+    private final JwtAuthenticator jwtAuthenticator;
+    private final GrpcInterceptorProperties properties;
+
+    public JwtGrpcAuthenticationInterceptor(JwtAuthenticator jwtAuthenticator, GrpcInterceptorProperties properties) {
+        this.jwtAuthenticator = jwtAuthenticator;
+        this.properties = properties;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        String method = call.getMethodDescriptor().getFullMethodName();
+        Optional<AccessTokenClaims> claims = jwtAuthenticator.authenticate(headers.get(AUTHORIZATION));
+
+        if (claims.isEmpty()) {
+            if (properties.isPublic(method)) {
+                return next.startCall(call, headers);
+            }
+            logger.debug("Rejected unauthenticated gRPC call to {}", method);
+            call.close(Status.UNAUTHENTICATED.withDescription("Authentication required"), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+
+        Authentication authentication = jwtAuthenticator.toAuthentication(claims.get());
+        ServerCall.Listener<ReqT> listener = callAuthenticated(authentication, () -> next.startCall(call, headers));
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                authenticated(authentication, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                authenticated(authentication, super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                authenticated(authentication, super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                authenticated(authentication, super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                authenticated(authentication, super::onReady);
+            }
+        };
+    }
+
+    private static void authenticated(Authentication authentication, Runnable work) {
+        callAuthenticated(authentication, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static <T> T callAuthenticated(Authentication authentication, Supplier<T> work) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            return work.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
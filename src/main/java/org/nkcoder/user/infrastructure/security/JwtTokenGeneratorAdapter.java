@@ -1,6 +1,7 @@
 package org.nkcoder.user.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -12,6 +13,10 @@ import java.util.UUID;
 import javax.crypto.SecretKey;
 import org.nkcoder.infrastructure.config.JwtProperties;
 import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.user.application.metrics.AuthFlightEvents;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.application.metrics.AuthMetrics.Outcome;
+import org.nkcoder.user.application.metrics.AuthMetrics.Stage;
 import org.nkcoder.user.domain.model.Email;
 import org.nkcoder.user.domain.model.TokenFamily;
 import org.nkcoder.user.domain.model.TokenPair;
@@ -32,9 +37,11 @@ public class JwtTokenGeneratorAdapter implements TokenGenerator {
     private final JwtProperties jwtProperties;
     private final SecretKey accessTokenKey;
     private final SecretKey refreshTokenKey;
+    private final AuthMetrics metrics;
 
-    public JwtTokenGeneratorAdapter(JwtProperties jwtProperties) {
+    public JwtTokenGeneratorAdapter(JwtProperties jwtProperties, AuthMetrics metrics) {
         this.jwtProperties = jwtProperties;
+        this.metrics = metrics;
         this.accessTokenKey = Keys.hmacShaKeyFor(jwtProperties.secret().access().getBytes());
         this.refreshTokenKey =
                 Keys.hmacShaKeyFor(jwtProperties.secret().refresh().getBytes());
@@ -57,6 +64,16 @@ public class JwtTokenGeneratorAdapter implements TokenGenerator {
 
     @Override
     public TokenPair generateTokenPair(UserId userId, Email email, UserRole role, TokenFamily tokenFamily) {
+        if (!AuthFlightEvents.jwtSignEnabled()) {
+            return metrics.stage(Stage.TOKEN_SIGN, () -> signTokenPair(userId, email, role, tokenFamily));
+        }
+        return metrics.stage(
+                Stage.TOKEN_SIGN,
+                () -> AuthFlightEvents.record(
+                        new AuthFlightEvents.JwtSign(), () -> signTokenPair(userId, email, role, tokenFamily)));
+    }
+
+    private TokenPair signTokenPair(UserId userId, Email email, UserRole role, TokenFamily tokenFamily) {
         String accessToken = generateAccessToken(userId, email, role);
         String refreshToken = generateRefreshToken(userId, tokenFamily);
         return new TokenPair(accessToken, refreshToken);
@@ -70,6 +87,15 @@ public class JwtTokenGeneratorAdapter implements TokenGenerator {
 
     @Override
     public AccessTokenClaims validateAccessToken(String token) {
+        if (!AuthFlightEvents.jwtVerifyEnabled()) {
+            return metrics.stage(Stage.TOKEN_VERIFY, () -> parseAccessToken(token, null));
+        }
+        AuthFlightEvents.JwtVerify event = new AuthFlightEvents.JwtVerify("access");
+        return metrics.stage(
+                Stage.TOKEN_VERIFY, () -> AuthFlightEvents.record(event, () -> parseAccessToken(token, event)));
+    }
+
+    private AccessTokenClaims parseAccessToken(String token, AuthFlightEvents.JwtVerify event) {
         try {
             Claims claims = Jwts.parser()
                     .verifyWith(accessTokenKey)
@@ -84,13 +110,24 @@ public class JwtTokenGeneratorAdapter implements TokenGenerator {
 
             return new AccessTokenClaims(userId, email, role);
         } catch (JwtException e) {
-            logger.error("Access token validation failed: {}", e.getMessage());
-            throw new AuthenticationException("Invalid access token");
+            rejected(e, event);
+            // Logged (rate-limited) by the caller; bad tokens are a client error
+            logger.debug("Access token validation failed: {}", e.getMessage());
+            throw new AuthenticationException("Invalid access token", e);
         }
     }
 
     @Override
     public RefreshTokenClaims validateRefreshToken(String token) {
+        if (!AuthFlightEvents.jwtVerifyEnabled()) {
+            return metrics.stage(Stage.TOKEN_VERIFY, () -> parseRefreshToken(token, null));
+        }
+        AuthFlightEvents.JwtVerify event = new AuthFlightEvents.JwtVerify("refresh");
+        return metrics.stage(
+                Stage.TOKEN_VERIFY, () -> AuthFlightEvents.record(event, () -> parseRefreshToken(token, event)));
+    }
+
+    private RefreshTokenClaims parseRefreshToken(String token, AuthFlightEvents.JwtVerify event) {
         try {
             Claims claims = Jwts.parser()
                     .verifyWith(refreshTokenKey)
@@ -104,11 +141,21 @@ public class JwtTokenGeneratorAdapter implements TokenGenerator {
 
             return new RefreshTokenClaims(userId, tokenFamily);
         } catch (JwtException e) {
+            rejected(e, event);
             logger.error("Refresh token validation failed: {}", e.getMessage());
             throw new AuthenticationException("Invalid refresh token");
         }
     }
 
+    /** Records why the token was rejected; {@code event} is {@code null} when no recording enables it. */
+    private void rejected(JwtException e, AuthFlightEvents.JwtVerify event) {
+        boolean expired = e instanceof ExpiredJwtException;
+        metrics.outcome(expired ? Outcome.EXPIRED_TOKEN : Outcome.INVALID_TOKEN);
+        if (event != null) {
+            event.outcome = expired ? "expired" : "invalid";
+        }
+    }
+
     private String generateAccessToken(UserId userId, Email email, UserRole role) {
         Date now = new Date();
         Duration duration = parseDuration(jwtProperties.expiration().access());
@@ -78,6 +78,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/admin/users/**")
                         .hasRole("ADMIN")
 
+                        // Contention sites expose stack traces and can be reset
+                        .requestMatchers("/actuator/contention", "/actuator/contention/**")
+                        .hasRole("ADMIN")
+
                         // All other requests require authentication
                         .anyRequest()
                         .authenticated())
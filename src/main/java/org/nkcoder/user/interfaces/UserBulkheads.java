@@ -0,0 +1,19 @@
+package org.nkcoder.user.interfaces;
+
+/** Names of the bulkheads that guard the user module's entry points. Limits are configured under {@code bulkhead}. */
+public final class UserBulkheads {
+
+    /** Register, login, refresh, logout and password changes: bcrypt, JWT signing and token writes. */
+    public static final String AUTH_WRITE = "auth-write";
+
+    /** Current-user profile reads. */
+    public static final String USER_READ = "user-read";
+
+    /** Current-user profile updates, kept apart so write load cannot use up read permits. */
+    public static final String USER_WRITE = "user-write";
+
+    /** Admin user management. */
+    public static final String ADMIN = "admin";
+
+    private UserBulkheads() {}
+}
@@ -0,0 +1,94 @@
+package org.nkcoder.user.interfaces.grpc;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.nkcoder.generated.grpc.AuthProto;
+import org.nkcoder.generated.grpc.AuthServiceGrpc;
+import org.nkcoder.user.application.dto.response.AuthResult;
+import org.nkcoder.user.application.service.AuthApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.grpc.server.service.GrpcService;
+
+/**
+ * gRPC adapter for authentication use cases, the binary counterpart of {@code AuthController}. Calls run on the
+ * virtual-thread executor configured for the gRPC server, so blocking on the database or bcrypt is fine here.
+ * Exceptions are mapped to status codes by the global gRPC exception handler.
+ */
+@GrpcService
+public class AuthGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthGrpcService.class);
+
+    private final AuthApplicationService authService;
+    private final GrpcAuthMapper mapper;
+
+    public AuthGrpcService(AuthApplicationService authService, GrpcAuthMapper mapper) {
+        this.authService = authService;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void register(AuthProto.RegisterRequest request, StreamObserver<AuthProto.ApiResponse> responseObserver) {
+        logger.info("gRPC register request for email: {}", request.getEmail());
+
+        AuthResult result = authService.register(mapper.toCommand(request));
+
+        responseObserver.onNext(mapper.toResponse("User registered successfully", result));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void login(AuthProto.LoginRequest request, StreamObserver<AuthProto.ApiResponse> responseObserver) {
+        logger.info("gRPC login request for email: {}", request.getEmail());
+
+        AuthResult result = authService.login(mapper.toCommand(request));
+
+        responseObserver.onNext(mapper.toResponse("Login successful", result));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void refresh(AuthProto.RefreshRequest request, StreamObserver<AuthProto.ApiResponse> responseObserver) {
+        logger.debug("gRPC token refresh request");
+
+        AuthResult result = authService.refreshTokens(mapper.toCommand(request));
+
+        responseObserver.onNext(mapper.toResponse("Tokens refreshed", result));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void logout(AuthProto.LogoutRequest request, StreamObserver<AuthProto.LogoutResponse> responseObserver) {
+        logger.debug("gRPC logout request (all devices: {})", request.getAllDevices());
+
+        String message;
+        if (request.getAllDevices()) {
+            authService.logout(request.getRefreshToken());
+            message = "Logged out successfully";
+        } else {
+            authService.logoutSingle(request.getRefreshToken());
+            message = "Logged out from current device";
+        }
+
+        responseObserver.onNext(
+                AuthProto.LogoutResponse.newBuilder().setMessage(message).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void validateToken(
+            AuthProto.ValidateTokenRequest request, StreamObserver<AuthProto.ValidateTokenResponse> responseObserver) {
+        responseObserver.onNext(mapper.toResponse(authService.validateAccessToken(request.getAccessToken())));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<AuthProto.ValidateTokensRequest> validateTokens(
+            StreamObserver<AuthProto.ValidateTokensResponse> responseObserver) {
+        logger.debug("gRPC token validation stream opened");
+
+        return new TokenValidationStream(
+                (ServerCallStreamObserver<AuthProto.ValidateTokensResponse>) responseObserver, authService, mapper);
+    }
+}
@@ -0,0 +1,89 @@
+package org.nkcoder.user.interfaces.grpc;
+
+import java.util.regex.Pattern;
+import org.nkcoder.generated.grpc.AuthProto;
+import org.nkcoder.infrastructure.grpc.ClientInfoServerInterceptor;
+import org.nkcoder.shared.kernel.exception.ValidationException;
+import org.nkcoder.user.application.dto.command.LoginCommand;
+import org.nkcoder.user.application.dto.command.RefreshTokenCommand;
+import org.nkcoder.user.application.dto.command.RegisterCommand;
+import org.nkcoder.user.application.dto.response.AuthResult;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between gRPC messages and application commands/results. Applies the same input rules as the REST request
+ * records, which are enforced there by Bean Validation.
+ */
+@Component
+public class GrpcAuthMapper {
+
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d).+$");
+
+    public RegisterCommand toCommand(AuthProto.RegisterRequest request) {
+        requireText(request.getEmail(), "Email is required");
+        requireText(request.getPassword(), "Password is required");
+        requireText(request.getName(), "Name is required");
+        if (request.getPassword().length() < 8) {
+            throw new ValidationException("Password must be at least 8 characters long");
+        }
+        if (!PASSWORD_PATTERN.matcher(request.getPassword()).matches()) {
+            throw new ValidationException(
+                    "Password must contain at least one lowercase letter, one uppercase letter, and one number");
+        }
+        String name = request.getName().trim();
+        if (name.length() < 2 || name.length() > 50) {
+            throw new ValidationException("Name must be between 2 and 50 characters");
+        }
+        return new RegisterCommand(normalizeEmail(request.getEmail()), request.getPassword(), name);
+    }
+
+    public LoginCommand toCommand(AuthProto.LoginRequest request) {
+        requireText(request.getEmail(), "Email is required");
+        requireText(request.getPassword(), "Password is required");
+        return new LoginCommand(
+                normalizeEmail(request.getEmail()),
+                request.getPassword(),
+                ClientInfoServerInterceptor.remoteAddress(),
+                ClientInfoServerInterceptor.userAgent());
+    }
+
+    public RefreshTokenCommand toCommand(AuthProto.RefreshRequest request) {
+        requireText(request.getRefreshToken(), "Refresh token is required");
+        return new RefreshTokenCommand(request.getRefreshToken());
+    }
+
+    public AuthProto.ApiResponse toResponse(String message, AuthResult result) {
+        AuthProto.User user = AuthProto.User.newBuilder()
+                .setId(result.userId().toString())
+                .setEmail(result.email())
+                .setRole(result.role().name())
+                .build();
+        AuthProto.AuthToken token = AuthProto.AuthToken.newBuilder()
+                .setAccessToken(result.accessToken())
+                .setRefreshToken(result.refreshToken())
+                .build();
+        return AuthProto.ApiResponse.newBuilder()
+                .setMessage(message)
+                .setData(AuthProto.AuthResponse.newBuilder().setUser(user).setAuthToken(token))
+                .build();
+    }
+
+    public AuthProto.ValidateTokenResponse toResponse(AccessTokenClaims claims) {
+        return AuthProto.ValidateTokenResponse.newBuilder()
+                .setUserId(claims.userId().value().toString())
+                .setEmail(claims.email().value())
+                .setRole(claims.role().name())
+                .build();
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase().trim();
+    }
+
+    private static void requireText(String value, String message) {
+        if (value == null || value.isBlank()) {
+            throw new ValidationException(message);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.nkcoder.user.interfaces.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.nkcoder.generated.grpc.AuthProto;
+import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.shared.kernel.exception.ValidationException;
+import org.nkcoder.user.application.service.AuthApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server side of one {@code ValidateTokens} stream.
+ *
+ * <p>Uses manual flow control: automatic inbound requests are disabled and the next token is requested only while the
+ * outbound side is ready. A client that stops reading responses therefore stops being read from, instead of responses
+ * piling up in server memory. gRPC delivers the ready and message callbacks of one call serially, so the ready flag
+ * needs no further synchronization.
+ *
+ * <p>An invalid or missing token is answered with an error result on the stream; the stream itself only fails on
+ * unexpected errors.
+ */
+class TokenValidationStream implements StreamObserver<AuthProto.ValidateTokensRequest> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenValidationStream.class);
+
+    private final ServerCallStreamObserver<AuthProto.ValidateTokensResponse> responses;
+    private final AuthApplicationService authService;
+    private final GrpcAuthMapper mapper;
+    private boolean wasReady;
+
+    TokenValidationStream(
+            ServerCallStreamObserver<AuthProto.ValidateTokensResponse> responses,
+            AuthApplicationService authService,
+            GrpcAuthMapper mapper) {
+        this.responses = responses;
+        this.authService = authService;
+        this.mapper = mapper;
+        responses.disableAutoRequest();
+        responses.setOnReadyHandler(this::onReady);
+        responses.setOnCancelHandler(() -> logger.debug("Token validation stream cancelled by client"));
+    }
+
+    @Override
+    public void onNext(AuthProto.ValidateTokensRequest request) {
+        if (responses.isCancelled()) {
+            return;
+        }
+        responses.onNext(validate(request));
+        if (responses.isReady()) {
+            responses.request(1);
+        } else {
+            // Resume from onReady once the client has drained its responses
+            wasReady = false;
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        logger.debug("Token validation stream closed by client: {}", Status.fromThrowable(t));
+    }
+
+    @Override
+    public void onCompleted() {
+        responses.onCompleted();
+    }
+
+    private void onReady() {
+        if (responses.isReady() && !wasReady) {
+            wasReady = true;
+            responses.request(1);
+        }
+    }
+
+    private AuthProto.ValidateTokensResponse validate(AuthProto.ValidateTokensRequest request) {
+        AuthProto.ValidateTokensResponse.Builder response =
+                AuthProto.ValidateTokensResponse.newBuilder().setCorrelationId(request.getCorrelationId());
+        try {
+            if (request.getAccessToken().isBlank()) {
+                throw new ValidationException("Access token is required");
+            }
+            response.setClaims(mapper.toResponse(authService.validateAccessToken(request.getAccessToken())));
+        } catch (ValidationException e) {
+            response.setError(error(Status.Code.INVALID_ARGUMENT, e.getMessage()));
+        } catch (AuthenticationException e) {
+            response.setError(error(Status.Code.UNAUTHENTICATED, e.getMessage()));
+        }
+        return response.build();
+    }
+
+    private static AuthProto.TokenError error(Status.Code code, String message) {
+        return AuthProto.TokenError.newBuilder()
+                .setCode(code.name())
+                .setMessage(message)
+                .build();
+    }
+}
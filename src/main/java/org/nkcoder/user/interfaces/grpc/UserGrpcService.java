@@ -0,0 +1,76 @@
+package org.nkcoder.user.interfaces.grpc;
+
+import com.google.protobuf.Timestamp;
+import io.grpc.stub.StreamObserver;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import org.nkcoder.generated.grpc.AuthProto;
+import org.nkcoder.generated.grpc.UserProto;
+import org.nkcoder.generated.grpc.UserServiceGrpc;
+import org.nkcoder.shared.kernel.exception.ValidationException;
+import org.nkcoder.user.application.dto.response.UserBatchDto;
+import org.nkcoder.user.application.dto.response.UserDto;
+import org.nkcoder.user.application.service.UserApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.grpc.server.service.GrpcService;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+/**
+ * gRPC adapter for admin user lookups, the counterpart of {@code AdminUserController}. Batch reads are served with a
+ * single query, see {@code UserQueryRepository}. Callers need the {@code ADMIN} role; authentication and admission
+ * limits are applied by the global gRPC interceptors.
+ */
+@GrpcService
+@PreAuthorize("hasRole('ADMIN')")
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserGrpcService.class);
+
+    private final UserApplicationService userService;
+
+    public UserGrpcService(UserApplicationService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public void getUsers(
+            UserProto.GetUsersRequest request, StreamObserver<UserProto.GetUsersResponse> responseObserver) {
+        logger.debug("gRPC get users request for {} IDs", request.getIdsCount());
+
+        List<UUID> ids =
+                request.getIdsList().stream().map(UserGrpcService::parseId).toList();
+        UserBatchDto result = userService.getUsersByIds(ids);
+
+        UserProto.GetUsersResponse.Builder response = UserProto.GetUsersResponse.newBuilder();
+        result.users().forEach(user -> response.addUsers(toMessage(user)));
+        result.missingIds().forEach(id -> response.addMissingIds(id.toString()));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid user ID: " + id);
+        }
+    }
+
+    private static AuthProto.User toMessage(UserDto user) {
+        AuthProto.User.Builder message = AuthProto.User.newBuilder()
+                .setId(user.id().toString())
+                .setEmail(user.email())
+                .setName(user.name())
+                .setRole(user.role());
+        if (user.lastLoginAt() != null) {
+            // Timestamps are stored as local date-times written with the JVM's default zone
+            Instant instant = user.lastLoginAt().atZone(ZoneId.systemDefault()).toInstant();
+            message.setLastLoginAt(
+                    Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()));
+        }
+        return message.build();
+    }
+}
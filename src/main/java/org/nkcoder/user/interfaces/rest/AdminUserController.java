@@ -3,12 +3,17 @@ package org.nkcoder.user.interfaces.rest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
+import org.nkcoder.infrastructure.resilience.Bulkhead;
+import org.nkcoder.infrastructure.resilience.BulkheadRegistry;
 import org.nkcoder.shared.local.rest.ApiResponse;
+import org.nkcoder.user.application.dto.response.UserBatchDto;
 import org.nkcoder.user.application.dto.response.UserDto;
 import org.nkcoder.user.application.service.UserApplicationService;
+import org.nkcoder.user.interfaces.UserBulkheads;
 import org.nkcoder.user.interfaces.rest.mapper.UserRequestMapper;
 import org.nkcoder.user.interfaces.rest.request.AdminResetPasswordRequest;
 import org.nkcoder.user.interfaces.rest.request.AdminUpdateUserRequest;
+import org.nkcoder.user.interfaces.rest.response.UserBatchResponse;
 import org.nkcoder.user.interfaces.rest.response.UserResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +24,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /** REST controller for admin user management operations. */
@@ -31,27 +37,39 @@ public class AdminUserController {
 
     private final UserApplicationService userService;
     private final UserRequestMapper requestMapper;
+    private final Bulkhead bulkhead;
 
-    public AdminUserController(UserApplicationService userService, UserRequestMapper requestMapper) {
+    public AdminUserController(
+            UserApplicationService userService, UserRequestMapper requestMapper, BulkheadRegistry bulkheads) {
         this.userService = userService;
         this.requestMapper = requestMapper;
+        this.bulkhead = bulkheads.get(UserBulkheads.ADMIN);
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
         logger.debug("Admin getting all users");
 
-        List<UserResponse> users =
-                userService.getAllUsers().stream().map(UserResponse::from).toList();
+        List<UserResponse> users = bulkhead.execute(
+                () -> userService.getAllUsers().stream().map(UserResponse::from).toList());
 
         return ResponseEntity.ok(ApiResponse.success("Users retrieved", users));
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<UserBatchResponse>> getUsersByIds(@RequestParam List<UUID> ids) {
+        logger.debug("Admin getting {} users by ID", ids.size());
+
+        UserBatchDto users = bulkhead.execute(() -> userService.getUsersByIds(ids));
+
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved", UserBatchResponse.from(users)));
+    }
+
     @GetMapping("/{userId}")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable UUID userId) {
         logger.debug("Admin getting user: {}", userId);
 
-        UserDto user = userService.getUserById(userId);
+        UserDto user = bulkhead.execute(() -> userService.getUserById(userId));
 
         return ResponseEntity.ok(ApiResponse.success("User retrieved", UserResponse.from(user)));
     }
@@ -61,7 +79,7 @@ public class AdminUserController {
             @PathVariable UUID userId, @Valid @RequestBody AdminUpdateUserRequest request) {
         logger.info("Admin updating user: {}", userId);
 
-        UserDto user = userService.adminUpdateUser(requestMapper.toCommand(userId, request));
+        UserDto user = bulkhead.execute(() -> userService.adminUpdateUser(requestMapper.toCommand(userId, request)));
 
         return ResponseEntity.ok(ApiResponse.success("User updated successfully", UserResponse.from(user)));
     }
@@ -71,7 +89,7 @@ public class AdminUserController {
             @PathVariable UUID userId, @Valid @RequestBody AdminResetPasswordRequest request) {
         logger.info("Admin resetting password for user: {}", userId);
 
-        userService.adminResetPassword(requestMapper.toCommand(userId, request));
+        bulkhead.run(() -> userService.adminResetPassword(requestMapper.toCommand(userId, request)));
 
         return ResponseEntity.ok(ApiResponse.success("Password reset successfully"));
     }
@@ -1,9 +1,13 @@
 package org.nkcoder.user.interfaces.rest;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.nkcoder.infrastructure.resilience.Bulkhead;
+import org.nkcoder.infrastructure.resilience.BulkheadRegistry;
 import org.nkcoder.shared.local.rest.ApiResponse;
 import org.nkcoder.user.application.dto.response.AuthResult;
 import org.nkcoder.user.application.service.AuthApplicationService;
+import org.nkcoder.user.interfaces.UserBulkheads;
 import org.nkcoder.user.interfaces.rest.mapper.AuthRequestMapper;
 import org.nkcoder.user.interfaces.rest.request.LoginRequest;
 import org.nkcoder.user.interfaces.rest.request.RefreshTokenRequest;
@@ -11,10 +15,12 @@ import org.nkcoder.user.interfaces.rest.request.RegisterRequest;
 import org.nkcoder.user.interfaces.rest.response.AuthResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,27 +32,36 @@ public class AuthController {
 
     private final AuthApplicationService authService;
     private final AuthRequestMapper requestMapper;
+    private final Bulkhead bulkhead;
 
-    public AuthController(AuthApplicationService authService, AuthRequestMapper requestMapper) {
+    public AuthController(
+            AuthApplicationService authService, AuthRequestMapper requestMapper, BulkheadRegistry bulkheads) {
         this.authService = authService;
         this.requestMapper = requestMapper;
+        this.bulkhead = bulkheads.get(UserBulkheads.AUTH_WRITE);
     }
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest request) {
         logger.info("Register request for email: {}", request.email());
 
-        AuthResult result = authService.register(requestMapper.toCommand(request));
+        AuthResult result = bulkhead.execute(() -> authService.register(requestMapper.toCommand(request)));
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("User registered successfully", AuthResponse.from(result)));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<AuthResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent) {
         logger.info("Login request for email: {}", request.email());
 
-        AuthResult result = authService.login(requestMapper.toCommand(request));
+        // Client address as the servlet container sees it; forwarded headers count only when
+        // server.forward-headers-strategy is set
+        AuthResult result = bulkhead.execute(
+                () -> authService.login(requestMapper.toCommand(request, httpRequest.getRemoteAddr(), userAgent)));
 
         return ResponseEntity.ok(ApiResponse.success("Login successful", AuthResponse.from(result)));
     }
@@ -55,7 +70,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<AuthResponse>> refreshTokens(@Valid @RequestBody RefreshTokenRequest request) {
         logger.debug("Token refresh request");
 
-        AuthResult result = authService.refreshTokens(requestMapper.toCommand(request));
+        AuthResult result = bulkhead.execute(() -> authService.refreshTokens(requestMapper.toCommand(request)));
 
         return ResponseEntity.ok(ApiResponse.success("Tokens refreshed", AuthResponse.from(result)));
     }
@@ -64,7 +79,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request) {
         logger.debug("Logout request (all devices)");
 
-        authService.logout(request.refreshToken());
+        bulkhead.run(() -> authService.logout(request.refreshToken()));
 
         return ResponseEntity.ok(ApiResponse.success("Logged out successfully"));
     }
@@ -73,7 +88,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<Void>> logoutSingle(@Valid @RequestBody RefreshTokenRequest request) {
         logger.debug("Logout request (single device)");
 
-        authService.logoutSingle(request.refreshToken());
+        bulkhead.run(() -> authService.logoutSingle(request.refreshToken()));
 
         return ResponseEntity.ok(ApiResponse.success("Logged out from current device"));
     }
@@ -2,9 +2,12 @@ package org.nkcoder.user.interfaces.rest;
 
 import jakarta.validation.Valid;
 import java.util.UUID;
+import org.nkcoder.infrastructure.resilience.Bulkhead;
+import org.nkcoder.infrastructure.resilience.BulkheadRegistry;
 import org.nkcoder.shared.local.rest.ApiResponse;
 import org.nkcoder.user.application.dto.response.UserDto;
 import org.nkcoder.user.application.service.UserApplicationService;
+import org.nkcoder.user.interfaces.UserBulkheads;
 import org.nkcoder.user.interfaces.rest.mapper.UserRequestMapper;
 import org.nkcoder.user.interfaces.rest.request.ChangePasswordRequest;
 import org.nkcoder.user.interfaces.rest.request.UpdateProfileRequest;
@@ -28,17 +31,24 @@ public class UserController {
 
     private final UserApplicationService userService;
     private final UserRequestMapper requestMapper;
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+    private final Bulkhead authWriteBulkhead;
 
-    public UserController(UserApplicationService userService, UserRequestMapper requestMapper) {
+    public UserController(
+            UserApplicationService userService, UserRequestMapper requestMapper, BulkheadRegistry bulkheads) {
         this.userService = userService;
         this.requestMapper = requestMapper;
+        this.readBulkhead = bulkheads.get(UserBulkheads.USER_READ);
+        this.writeBulkhead = bulkheads.get(UserBulkheads.USER_WRITE);
+        this.authWriteBulkhead = bulkheads.get(UserBulkheads.AUTH_WRITE);
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(@RequestAttribute("userId") UUID userId) {
         logger.debug("Getting current user profile");
 
-        UserDto user = userService.getUserById(userId);
+        UserDto user = readBulkhead.execute(() -> userService.getUserById(userId));
 
         return ResponseEntity.ok(ApiResponse.success("User profile retrieved", UserResponse.from(user)));
     }
@@ -48,7 +58,7 @@ public class UserController {
             @RequestAttribute("userId") UUID userId, @Valid @RequestBody UpdateProfileRequest request) {
         logger.info("Updating profile for user: {}", userId);
 
-        UserDto user = userService.updateProfile(requestMapper.toCommand(userId, request));
+        UserDto user = writeBulkhead.execute(() -> userService.updateProfile(requestMapper.toCommand(userId, request)));
 
         return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", UserResponse.from(user)));
     }
@@ -58,7 +68,8 @@ public class UserController {
             @RequestAttribute("userId") UUID userId, @Valid @RequestBody ChangePasswordRequest request) {
         logger.info("Changing password for user: {}", userId);
 
-        userService.changePassword(requestMapper.toCommand(userId, request));
+        // bcrypt-bound, so it shares the auth-write bulkhead rather than the read one
+        authWriteBulkhead.run(() -> userService.changePassword(requestMapper.toCommand(userId, request)));
 
         return ResponseEntity.ok(ApiResponse.success("Password changed successfully"));
     }
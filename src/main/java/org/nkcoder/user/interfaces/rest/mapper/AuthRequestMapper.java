@@ -16,8 +16,8 @@ public class AuthRequestMapper {
         return new RegisterCommand(request.email(), request.password(), request.name(), request.role());
     }
 
-    public LoginCommand toCommand(LoginRequest request) {
-        return new LoginCommand(request.email(), request.password());
+    public LoginCommand toCommand(LoginRequest request, String ipAddress, String userAgent) {
+        return new LoginCommand(request.email(), request.password(), ipAddress, userAgent);
     }
 
     public RefreshTokenCommand toCommand(RefreshTokenRequest request) {
@@ -0,0 +1,14 @@
+package org.nkcoder.user.interfaces.rest.response;
+
+import java.util.List;
+import java.util.UUID;
+import org.nkcoder.user.application.dto.response.UserBatchDto;
+
+/** REST API response for a multi-get of users. */
+public record UserBatchResponse(List<UserResponse> users, List<UUID> missingIds) {
+
+    public static UserBatchResponse from(UserBatchDto dto) {
+        return new UserBatchResponse(
+                dto.users().stream().map(UserResponse::from).toList(), dto.missingIds());
+    }
+}
@@ -8,6 +8,7 @@
  *   <li>JWT token management with refresh token rotation
  *   <li>User profile management
  *   <li>Admin user management
+ *   <li>REST and gRPC ({@code auth.proto}, stubs in the {@code generated} module) entry points
  * </ul>
  *
  * <p>Events published:
@@ -17,7 +18,7 @@
  *   <li>{@code UserProfileUpdatedEvent} - when user profile changes
  * </ul>
  */
-@ApplicationModule(allowedDependencies = {"shared", "infrastructure"})
+@ApplicationModule(allowedDependencies = {"shared", "infrastructure", "generated"})
 package org.nkcoder.user;
 
 import org.springframework.modulith.ApplicationModule;
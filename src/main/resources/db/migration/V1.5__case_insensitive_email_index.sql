@@ -0,0 +1,8 @@
+-- Replace the case-sensitive UNIQUE constraint and the redundant idx_users_email index with a single
+-- functional unique index on lower(email). Every insert previously maintained two indexes on the same column.
+-- Registration relies on this index through INSERT ... ON CONFLICT DO NOTHING to detect duplicates atomically.
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+
+DROP INDEX IF EXISTS idx_users_email;
+
+CREATE UNIQUE INDEX IF NOT EXISTS users_email_lower_key ON users (lower(email));
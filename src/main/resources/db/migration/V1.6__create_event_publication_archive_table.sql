@@ -0,0 +1,18 @@
+-- Completed publications moved out of event_publication by the purge job (event-publication.purge.mode=archive).
+-- Same layout as event_publication, which is also what Spring Modulith expects for its ARCHIVE completion mode.
+CREATE TABLE IF NOT EXISTS event_publication_archive
+(
+    id                     UUID                     NOT NULL,
+    listener_id            TEXT                     NOT NULL,
+    event_type             TEXT                     NOT NULL,
+    serialized_event       TEXT                     NOT NULL,
+    publication_date       TIMESTAMP WITH TIME ZONE NOT NULL,
+    completion_date        TIMESTAMP WITH TIME ZONE,
+    status                 TEXT,
+    completion_attempts    INT,
+    last_resubmission_date TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS event_publication_archive_by_completion_date_idx
+    ON event_publication_archive (completion_date);
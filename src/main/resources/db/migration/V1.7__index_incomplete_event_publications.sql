@@ -0,0 +1,8 @@
+-- Spring Modulith looks for incomplete publications (completion_date IS NULL) on startup and on every resubmission.
+-- They are a tiny fraction of the table, so a partial index keeps those scans proportional to the backlog instead of
+-- the table. Built CONCURRENTLY so writes to event_publication are not blocked while it is created; Flyway runs this
+-- script outside a transaction. CONCURRENTLY waits for every older transaction, including one holding Flyway's lock,
+-- hence spring.flyway.postgresql.transactional-lock: false.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS event_publication_incomplete_idx
+    ON event_publication (publication_date)
+    WHERE completion_date IS NULL;
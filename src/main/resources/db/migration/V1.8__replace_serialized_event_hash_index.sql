@@ -0,0 +1,6 @@
+-- The hash index on serialized_event hashed every full payload on insert and was only useful for Spring Modulith's
+-- fallback lookup by (serialized_event, listener_id) of an incomplete publication. That lookup is rare (completion
+-- normally goes by publication id) and is now served by event_publication_incomplete_idx (V1.7), which only covers
+-- incomplete rows.
+DROP INDEX IF EXISTS event_publication_serialized_event_hash_idx;
+
@@ -0,0 +1,29 @@
+-- Append-only login audit log, written in batches by the audit module (AuditLogWriter).
+-- Partitioned by day (UTC); AuditPartitionMaintenance creates upcoming partitions and drops the ones past retention,
+-- so old records are removed without DELETE or VACUUM work.
+CREATE TABLE IF NOT EXISTS login_audit
+(
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    outcome     TEXT                     NOT NULL, -- succeeded | failed
+    user_id     UUID,                              -- null for failed logins
+    email       TEXT,                              -- as submitted
+    ip_address  TEXT,
+    user_agent  TEXT,
+    reason      TEXT                               -- why a login failed
+) PARTITION BY RANGE (occurred_at);
+
+CREATE INDEX IF NOT EXISTS login_audit_user_id_idx ON login_audit (user_id, occurred_at);
+CREATE INDEX IF NOT EXISTS login_audit_ip_address_idx ON login_audit (ip_address, occurred_at);
+
+-- Records are never changed or removed one by one; retention drops whole partitions
+CREATE OR REPLACE FUNCTION login_audit_append_only() RETURNS trigger AS
+$$
+BEGIN
+    RAISE EXCEPTION 'login_audit is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS login_audit_append_only ON login_audit;
+CREATE TRIGGER login_audit_append_only
+    BEFORE UPDATE OR DELETE ON login_audit
+    FOR EACH ROW EXECUTE FUNCTION login_audit_append_only();
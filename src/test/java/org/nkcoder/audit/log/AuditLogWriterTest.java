@@ -0,0 +1,202 @@
+package org.nkcoder.audit.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@DisplayName("AuditLogWriter")
+class AuditLogWriterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogStore store;
+    private List<Integer> batchSizes;
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = mock(AuditLogStore.class);
+        batchSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+                    batchSizes.add(invocation.<List<AuditRecord>>getArgument(0).size());
+                    return null;
+                })
+                .when(store)
+                .insert(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private AuditLogWriter writer(boolean enabled, int queueCapacity, int batchSize, Duration flushInterval) {
+        AuditLogProperties properties = new AuditLogProperties(
+                enabled, queueCapacity, batchSize, flushInterval, null, 0, null, Duration.ofSeconds(5));
+        return new AuditLogWriter(store, new AuditPartitionMaintenance(store, properties), properties, meterRegistry);
+    }
+
+    private static AuditRecord record(int i) {
+        return new AuditRecord(
+                Instant.now(),
+                AuditRecord.Outcome.SUCCEEDED,
+                UUID.randomUUID(),
+                "user" + i + "@example.com",
+                "127.0.0.1",
+                "test",
+                null);
+    }
+
+    private double records(String result) {
+        return meterRegistry
+                .get("audit.log.records")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private void awaitWritten(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (records("written") < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("batching")
+    class Batching {
+
+        @Test
+        @DisplayName("writes queued records in batches of at most batch-size")
+        void writesInBatches() throws Exception {
+            writer = writer(true, 100, 10, Duration.ofSeconds(5));
+            for (int i = 0; i < 25; i++) {
+                writer.record(record(i));
+            }
+            writer.start();
+
+            awaitWritten(25);
+
+            assertThat(records("written")).isEqualTo(25.0);
+            assertThat(batchSizes).containsExactly(10, 10, 5);
+        }
+
+        @Test
+        @DisplayName("flushes a partial batch after the flush interval")
+        void flushesPartialBatch() throws Exception {
+            writer = writer(true, 100, 500, Duration.ofMillis(50));
+            writer.start();
+
+            writer.record(record(1));
+            awaitWritten(1);
+
+            assertThat(batchSizes).containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("counts a failed batch and keeps going")
+        void countsFailedBatch() throws Exception {
+            writer = writer(true, 100, 10, Duration.ofMillis(50));
+            doThrow(new DataAccessResourceFailureException("down"))
+                    .doAnswer(invocation -> null)
+                    .when(store)
+                    .insert(anyList());
+            writer.start();
+
+            writer.record(record(1));
+            while (records("failed") < 1) {
+                Thread.sleep(10);
+            }
+            writer.record(record(2));
+            awaitWritten(1);
+
+            assertThat(records("failed")).isEqualTo(1.0);
+            assertThat(records("written")).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("back pressure")
+    class BackPressure {
+
+        @Test
+        @DisplayName("drops and counts records when the queue is full")
+        void dropsWhenFull() {
+            writer = writer(true, 2, 10, Duration.ofSeconds(1));
+
+            for (int i = 0; i < 5; i++) {
+                writer.record(record(i));
+            }
+
+            assertThat(records("dropped")).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("ignores records when disabled")
+        void ignoresWhenDisabled() {
+            writer = writer(false, 2, 10, Duration.ofSeconds(1));
+            writer.start();
+
+            writer.record(record(1));
+
+            assertThat(records("dropped")).isZero();
+            verify(store, never()).insert(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("shutdown")
+    class Shutdown {
+
+        @Test
+        @DisplayName("writes queued records before stopping")
+        void drainsOnStop() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                        release.await(5, TimeUnit.SECONDS);
+                        batchSizes.add(
+                                invocation.<List<AuditRecord>>getArgument(0).size());
+                        return null;
+                    })
+                    .when(store)
+                    .insert(anyList());
+            writer = writer(true, 100, 10, Duration.ofMillis(10));
+            writer.start();
+            writer.record(record(0));
+            // The worker is now blocked on the first batch while more records arrive
+            Thread.sleep(50);
+            for (int i = 1; i <= 15; i++) {
+                writer.record(record(i));
+            }
+            release.countDown();
+
+            writer.stop();
+            writer = null;
+
+            assertThat(records("written")).isEqualTo(16.0);
+            assertThat(records("dropped")).isZero();
+        }
+    }
+}
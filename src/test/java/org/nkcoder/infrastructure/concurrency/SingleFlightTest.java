@@ -0,0 +1,192 @@
+package org.nkcoder.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private SingleFlight<String, String> singleFlight(Duration replayWindow, int maxEntries) {
+        return new SingleFlight<>("test", new SingleFlightProperties.Settings(replayWindow, maxEntries), meterRegistry);
+    }
+
+    private double calls(String result) {
+        return meterRegistry
+                .get("single_flight.calls")
+                .tag("name", "test")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private double entries() {
+        return meterRegistry
+                .get("single_flight.entries")
+                .tag("name", "test")
+                .gauge()
+                .value();
+    }
+
+    @Nested
+    @DisplayName("coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("runs concurrent calls with the same key once and shares the result")
+        void sharesInFlightResult() throws Exception {
+            SingleFlight<String, String> singleFlight = singleFlight(Duration.ofSeconds(5), 100);
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "result";
+            }));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                    executions.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            while (calls("joined") < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+            assertThat(executions).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("does not coalesce different keys")
+        void keepsKeysApart() {
+            SingleFlight<String, String> singleFlight = singleFlight(Duration.ofSeconds(5), 100);
+
+            assertThat(singleFlight.execute("a", () -> "first")).isEqualTo("first");
+            assertThat(singleFlight.execute("b", () -> "second")).isEqualTo("second");
+            assertThat(calls("leader")).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("replay")
+    class Replay {
+
+        @Test
+        @DisplayName("replays a successful result within the window")
+        void replaysWithinWindow() {
+            SingleFlight<String, String> singleFlight = singleFlight(Duration.ofSeconds(5), 100);
+
+            singleFlight.execute("key", () -> "result");
+            String replayed = singleFlight.execute("key", () -> "again");
+
+            assertThat(replayed).isEqualTo("result");
+            assertThat(calls("replayed")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("runs the work again once the window has passed")
+        void runsAgainAfterWindow() {
+            SingleFlight<String, String> singleFlight = singleFlight(Duration.ZERO, 100);
+
+            singleFlight.execute("key", () -> "result");
+
+            assertThat(singleFlight.execute("key", () -> "again")).isEqualTo("again");
+        }
+
+        @Test
+        @DisplayName("never replays a failure")
+        void doesNotReplayFailures() {
+            SingleFlight<String, String> singleFlight = singleFlight(Duration.ofSeconds(5), 100);
+
+            assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+                        throw new IllegalStateException("boom");
+                    }))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(singleFlight.execute("key", () -> "recovered")).isEqualTo("recovered");
+        }
+    }
+
+    @Nested
+    @DisplayName("capacity")
+    class Capacity {
+
+        @Test
+        @DisplayName("runs without coalescing when the maximum number of keys is tracked")
+        void bypassesWhenFull() {
+            SingleFlight<String, String> singleFlight = singleFlight(Duration.ofSeconds(5), 1);
+
+            singleFlight.execute("a", () -> "first");
+            singleFlight.execute("b", () -> "second");
+
+            assertThat(calls("bypassed")).isEqualTo(1.0);
+            assertThat(singleFlight.execute("a", () -> "again")).isEqualTo("first");
+        }
+
+        @Test
+        @DisplayName("stops tracking a key once its replay window has passed")
+        void evictsAfterWindow() throws Exception {
+            SingleFlight<String, String> singleFlight = singleFlight(Duration.ofMillis(100), 1);
+
+            singleFlight.execute("a", () -> "first");
+            assertThat(entries()).isEqualTo(1.0);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (entries() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(entries()).isZero();
+            assertThat(singleFlight.execute("b", () -> "second")).isEqualTo("second");
+            assertThat(calls("leader")).isEqualTo(2.0);
+            assertThat(calls("bypassed")).isZero();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.nkcoder.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Applies the whole migration chain to an empty PostgreSQL database, with the application's Flyway settings. Catches
+ * migrations that fail or hang (such as {@code CREATE INDEX CONCURRENTLY} waiting for Flyway's own lock) before
+ * deployment does.
+ */
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Flyway migrations")
+class FlywayMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Test
+    @DisplayName("apply from an empty database without waiting on their own lock")
+    void applyFromScratch() {
+        flyway.clean();
+
+        assertTimeoutPreemptively(Duration.ofMinutes(2), () -> flyway.migrate());
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).extracting(MigrationInfo::getState).containsOnly(MigrationState.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("leave the incomplete-publication index valid and event_publication without a digest column")
+    void eventPublicationSchema() {
+        assertThat(jdbcClient.sql("""
+                                SELECT i.indisvalid FROM pg_index i
+                                JOIN pg_class c ON c.oid = i.indexrelid
+                                WHERE c.relname = 'event_publication_incomplete_idx'
+                                """).query(Boolean.class).single()).isTrue();
+        assertThat(jdbcClient.sql("""
+                                SELECT count(*) FROM information_schema.columns
+                                WHERE table_name = 'event_publication' AND column_name = 'serialized_event_digest'
+                                """).query(Long.class).single()).isZero();
+    }
+}
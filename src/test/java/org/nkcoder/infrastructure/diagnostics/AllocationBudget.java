@@ -0,0 +1,58 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Test assertion for the bytes a piece of work allocates per call, measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, so that a change adding allocations to a hot
+ * path fails a test instead of showing up as GC pressure in production.
+ *
+ * <p>The work is warmed up first, so the JIT has compiled it (and eliminated what escape analysis can), then run in
+ * several batches; the lowest per-call average wins, which filters out one-off allocations such as lazily created
+ * meters or a resized map. Only the calling thread is measured: work handed to other threads is not counted. Skipped on
+ * JVMs that cannot measure thread allocation.
+ */
+public final class AllocationBudget {
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int BATCHES = 5;
+    private static final int CALLS_PER_BATCH = 2_000;
+
+    private AllocationBudget() {}
+
+    /** Bytes {@code work} allocates per call on the calling thread, after warm-up. */
+    public static long measure(Runnable work) {
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            work.run();
+        }
+        long lowest = Long.MAX_VALUE;
+        for (int batch = 0; batch < BATCHES; batch++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALLS_PER_BATCH; i++) {
+                work.run();
+            }
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+            lowest = Math.min(lowest, allocated / CALLS_PER_BATCH);
+        }
+        return lowest;
+    }
+
+    /** Fails if {@code work} allocates more than {@code budget} bytes per call. */
+    public static void assertAtMost(long budget, Runnable work) {
+        long allocated = measure(work);
+        assertThat(allocated).as("bytes allocated per call (budget %d)", budget).isLessThanOrEqualTo(budget);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        boolean supported = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled();
+        assumeTrue(supported, "thread allocation measurement not supported by this JVM");
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+}
@@ -0,0 +1,142 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.infrastructure.resilience.Bulkhead;
+import org.nkcoder.infrastructure.resilience.BulkheadProperties;
+import org.nkcoder.infrastructure.resilience.BulkheadRegistry;
+
+@DisplayName("ContentionMonitor")
+class ContentionMonitorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheadRegistry = new BulkheadRegistry(new BulkheadProperties(null, null), meterRegistry);
+    }
+
+    private ContentionMonitor monitor(int maxSites) {
+        return new ContentionMonitor(
+                new ContentionMonitorProperties(false, null, null, null, 8, maxSites), bulkheadRegistry, meterRegistry);
+    }
+
+    private static List<String> stack(String site) {
+        return List.of(site, "org.nkcoder.Caller.call:10");
+    }
+
+    @Nested
+    @DisplayName("aggregation")
+    class Aggregation {
+
+        @Test
+        @DisplayName("aggregates events by their first application frame")
+        void aggregatesBySite() {
+            ContentionMonitor monitor = monitor(10);
+
+            monitor.record(ContentionMonitor.Type.PARK, Duration.ofMillis(60), NOW, stack("a.A.lock:1"), -1);
+            monitor.record(
+                    ContentionMonitor.Type.PARK, Duration.ofMillis(90), NOW.plusSeconds(1), stack("a.A.lock:1"), -1);
+
+            List<ContentionSite> sites = monitor.topSites(ContentionMonitor.Type.PARK, 10);
+            assertThat(sites).hasSize(1);
+            ContentionSite site = sites.getFirst();
+            assertThat(site.type()).isEqualTo("park");
+            assertThat(site.site()).isEqualTo("a.A.lock:1");
+            assertThat(site.count()).isEqualTo(2);
+            assertThat(site.total()).isEqualTo(Duration.ofMillis(150));
+            assertThat(site.max()).isEqualTo(Duration.ofMillis(90));
+            assertThat(site.lastSeen()).isEqualTo(NOW.plusSeconds(1));
+            assertThat(site.stack()).containsExactly("a.A.lock:1", "org.nkcoder.Caller.call:10");
+            assertThat(monitor.topSites(ContentionMonitor.Type.PINNED, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("lists sites with the highest total duration first")
+        void ordersByTotal() {
+            ContentionMonitor monitor = monitor(10);
+
+            monitor.record(ContentionMonitor.Type.MONITOR_ENTER, Duration.ofMillis(30), NOW, stack("a.A.x:1"), -1);
+            monitor.record(ContentionMonitor.Type.MONITOR_ENTER, Duration.ofMillis(80), NOW, stack("b.B.y:2"), -1);
+            monitor.record(ContentionMonitor.Type.MONITOR_ENTER, Duration.ofMillis(40), NOW, stack("c.C.z:3"), -1);
+
+            assertThat(monitor.topSites(ContentionMonitor.Type.MONITOR_ENTER, 2))
+                    .extracting(ContentionSite::site)
+                    .containsExactly("b.B.y:2", "c.C.z:3");
+        }
+
+        @Test
+        @DisplayName("merges sites beyond the limit into one")
+        void capsSites() {
+            ContentionMonitor monitor = monitor(2);
+
+            monitor.record(ContentionMonitor.Type.PARK, Duration.ofMillis(60), NOW, stack("a.A.x:1"), -1);
+            monitor.record(ContentionMonitor.Type.PARK, Duration.ofMillis(60), NOW, stack("b.B.y:2"), -1);
+            monitor.record(ContentionMonitor.Type.PARK, Duration.ofMillis(60), NOW, stack("c.C.z:3"), -1);
+            monitor.record(ContentionMonitor.Type.PARK, Duration.ofMillis(60), NOW, stack("d.D.w:4"), -1);
+
+            assertThat(monitor.topSites(ContentionMonitor.Type.PARK, 10))
+                    .extracting(ContentionSite::site)
+                    .containsExactlyInAnyOrder("a.A.x:1", "b.B.y:2", ContentionMonitor.OTHER_SITE);
+        }
+
+        @Test
+        @DisplayName("forgets sites on reset but keeps the metrics")
+        void resets() {
+            ContentionMonitor monitor = monitor(10);
+            monitor.record(ContentionMonitor.Type.PARK, Duration.ofMillis(60), NOW, stack("a.A.x:1"), -1);
+
+            monitor.reset();
+
+            assertThat(monitor.topSites(ContentionMonitor.Type.PARK, 10)).isEmpty();
+            assertThat(meterRegistry
+                            .get(ContentionMonitor.METRIC)
+                            .tag("type", "park")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("pinning")
+    class Pinning {
+
+        @Test
+        @DisplayName("attributes pinning to the bulkhead held by the pinned thread")
+        void attributesToBulkhead() {
+            ContentionMonitor monitor = monitor(10);
+            Bulkhead bulkhead = bulkheadRegistry.get("test");
+            long threadId = Thread.currentThread().threadId();
+
+            bulkhead.run(() -> monitor.record(
+                    ContentionMonitor.Type.PINNED, Duration.ofMillis(25), NOW, stack("a.A.x:1"), threadId));
+
+            assertThat(meterRegistry
+                            .get("bulkhead.pinned")
+                            .tag("name", "test")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry
+                            .get(ContentionMonitor.METRIC)
+                            .tag("type", "pinned")
+                            .timer()
+                            .totalTime(TimeUnit.MILLISECONDS))
+                    .isEqualTo(25.0);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.nkcoder.infrastructure.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LogRateLimiter")
+class LogRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final LogRateLimiter limiter = new LogRateLimiter(Duration.ofNanos(100), now::get);
+
+    @Test
+    @DisplayName("permits the first event and holds back the rest of the interval")
+    void permitsOncePerInterval() {
+        assertThat(limiter.tryAcquire()).isZero();
+        now.addAndGet(50);
+        assertThat(limiter.tryAcquire()).isEqualTo(-1);
+        assertThat(limiter.tryAcquire()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("reports the number of held-back events with the next permitted one")
+    void reportsSuppressed() {
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        now.addAndGet(100);
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+
+        now.addAndGet(100);
+        assertThat(limiter.tryAcquire()).isZero();
+    }
+}
@@ -0,0 +1,141 @@
+package org.nkcoder.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.infrastructure.config.TestContainersConfiguration;
+import org.nkcoder.infrastructure.events.EventPublicationPurgeProperties.Mode;
+import org.nkcoder.infrastructure.events.EventPublicationRows.Publication;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the purge job against PostgreSQL. The scheduled jobs are disabled; each test builds its own job with small
+ * chunks and starts from an empty table.
+ *
+ * <p>Not {@code @Transactional}: every chunk commits in its own transaction, as in production.
+ */
+@SpringBootTest(properties = {"event-publication.purge.enabled=false", "event-publication.resubmission.enabled=false"})
+@Import(TestContainersConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("EventPublicationPurgeJob")
+class EventPublicationPurgeJobIntegrationTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Autowired
+    private TransactionRunner transactionRunner;
+
+    private EventPublicationRows rows;
+
+    // Five completed publications past retention, oldest first
+    private UUID[] expired;
+    private UUID recent;
+    private UUID incomplete;
+
+    @BeforeEach
+    void setUp() {
+        rows = new EventPublicationRows(jdbcClient);
+        rows.clear();
+        OffsetDateTime now = EventPublicationRows.now();
+        expired = new UUID[5];
+        for (int i = 0; i < expired.length; i++) {
+            expired[i] = rows.insert(Publication.completed(now.minus(RETENTION).minusDays(expired.length - i)));
+        }
+        recent = rows.insert(Publication.completed(now.minus(RETENTION).plusHours(1)));
+        // Older than every completed row, but never completed
+        incomplete = rows.insert(Publication.published(now.minusDays(30)));
+    }
+
+    private EventPublicationPurgeJob job(Mode mode, int chunkSize, int maxChunksPerRun) {
+        EventPublicationPurgeProperties properties = new EventPublicationPurgeProperties(
+                true, mode, RETENTION, chunkSize, maxChunksPerRun, Duration.ZERO, null, null, null);
+        return new EventPublicationPurgeJob(jdbcClient, transactionRunner, properties, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("delete mode")
+    class DeleteMode {
+
+        @Test
+        @DisplayName("deletes only completed publications past retention")
+        void deletesExpiredOnly() {
+            long purged = job(Mode.DELETE, 2, 100).purge();
+
+            assertThat(purged).isEqualTo(expired.length);
+            assertThat(rows.ids()).containsExactlyInAnyOrder(recent, incomplete);
+            assertThat(rows.archivedIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("stops after the chunk limit, oldest first, and continues on the next run")
+        void stopsAtChunkLimit() {
+            EventPublicationPurgeJob job = job(Mode.DELETE, 2, 2);
+
+            assertThat(job.purge()).isEqualTo(4);
+            assertThat(rows.ids()).containsExactlyInAnyOrder(expired[4], recent, incomplete);
+
+            assertThat(job.purge()).isEqualTo(1);
+            assertThat(job.purge()).isZero();
+            assertThat(rows.ids()).containsExactlyInAnyOrder(recent, incomplete);
+        }
+    }
+
+    @Nested
+    @DisplayName("archive mode")
+    class ArchiveMode {
+
+        @Test
+        @DisplayName("moves only completed publications past retention to the archive")
+        void archivesExpiredOnly() {
+            long purged = job(Mode.ARCHIVE, 2, 100).purge();
+
+            assertThat(purged).isEqualTo(expired.length);
+            assertThat(rows.ids()).containsExactlyInAnyOrder(recent, incomplete);
+            assertThat(rows.archivedIds()).containsExactlyInAnyOrder(expired);
+        }
+
+        @Test
+        @DisplayName("keeps the archived rows intact")
+        void keepsColumns() {
+            String before = jdbcClient
+                    .sql("SELECT serialized_event || completion_date::text FROM event_publication WHERE id = :id")
+                    .param("id", expired[0])
+                    .query(String.class)
+                    .single();
+
+            job(Mode.ARCHIVE, 2, 100).purge();
+
+            assertThat(jdbcClient
+                            .sql("SELECT serialized_event || completion_date::text FROM event_publication_archive"
+                                    + " WHERE id = :id")
+                            .param("id", expired[0])
+                            .query(String.class)
+                            .single())
+                    .isEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("stops after the chunk limit, oldest first")
+        void stopsAtChunkLimit() {
+            assertThat(job(Mode.ARCHIVE, 2, 1).purge()).isEqualTo(2);
+
+            assertThat(rows.archivedIds()).containsExactlyInAnyOrder(expired[0], expired[1]);
+            assertThat(rows.ids()).containsExactlyInAnyOrder(expired[2], expired[3], expired[4], recent, incomplete);
+        }
+    }
+}
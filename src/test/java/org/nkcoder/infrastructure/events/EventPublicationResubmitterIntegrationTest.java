@@ -0,0 +1,307 @@
+package org.nkcoder.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.infrastructure.config.TestContainersConfiguration;
+import org.nkcoder.infrastructure.events.EventPublicationRows.Publication;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the resubmitter against PostgreSQL. The scheduled jobs are disabled; each test builds its own resubmitters and
+ * starts from an empty table. Publications of an unknown listener are marked {@code FAILED} without running anything,
+ * which makes them convenient to count claims with.
+ *
+ * <p>Not {@code @Transactional}: claims commit in their own transactions, as in production.
+ */
+@SpringBootTest(properties = {"event-publication.purge.enabled=false", "event-publication.resubmission.enabled=false"})
+@Import(TestContainersConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("EventPublicationResubmitter")
+class EventPublicationResubmitterIntegrationTest {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Autowired
+    private TransactionRunner transactionRunner;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EventSerializer eventSerializer;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private EventPublicationRows rows;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        rows = new EventPublicationRows(jdbcClient);
+        rows.clear();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private EventPublicationResubmitter resubmitter(int batchSize, int maxInFlight) {
+        EventPublicationResubmissionProperties properties = new EventPublicationResubmissionProperties(
+                true,
+                batchSize,
+                4,
+                maxInFlight,
+                0,
+                MAX_ATTEMPTS,
+                INITIAL_BACKOFF,
+                MAX_BACKOFF,
+                STALE_AFTER,
+                null,
+                null);
+        return new EventPublicationResubmitter(
+                jdbcClient, transactionRunner, eventSerializer, applicationContext, properties, meterRegistry);
+    }
+
+    private static Publication stale() {
+        return Publication.published(
+                EventPublicationRows.now().minus(STALE_AFTER).minusMinutes(1));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double resubmitted(String result) {
+        return meterRegistry
+                .get(EventPublicationResubmitter.RESUBMITTED_METRIC)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("claiming")
+    class Claiming {
+
+        @Test
+        @DisplayName("gives concurrent instances disjoint batches")
+        void concurrentClaimsAreDisjoint() throws Exception {
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                ids.add(rows.insert(stale()));
+            }
+            EventPublicationResubmitter first = resubmitter(10, 1_000);
+            EventPublicationResubmitter second = resubmitter(10, 1_000);
+            CountDownLatch start = new CountDownLatch(1);
+
+            int dispatched;
+            try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+                Future<Integer> a = executor.submit(() -> {
+                    start.await();
+                    return first.resubmit();
+                });
+                Future<Integer> b = executor.submit(() -> {
+                    start.await();
+                    return second.resubmit();
+                });
+                start.countDown();
+                dispatched = a.get(1, TimeUnit.MINUTES) + b.get(1, TimeUnit.MINUTES);
+            }
+            // A claim racing the other instance's commit can come up short and end that run early
+            dispatched += resubmitter(10, 1_000).resubmit();
+
+            assertThat(dispatched).isEqualTo(ids.size());
+            // A publication claimed by both instances would have two attempts
+            assertThat(ids).allSatisfy(id -> assertThat(rows.attempts(id)).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("skips publications another transaction has locked")
+        void skipsLockedPublications() throws Exception {
+            UUID locked = rows.insert(stale());
+            UUID free = rows.insert(stale());
+            CountDownLatch lockHeld = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+                Future<?> holder = executor.submit(
+                        () -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                            jdbcClient
+                                    .sql("SELECT id FROM event_publication WHERE id = :id FOR UPDATE")
+                                    .param("id", locked)
+                                    .query(UUID.class)
+                                    .single();
+                            lockHeld.countDown();
+                            try {
+                                release.await(1, TimeUnit.MINUTES);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }));
+                assertThat(lockHeld.await(1, TimeUnit.MINUTES)).isTrue();
+
+                int dispatched = resubmitter(10, 1_000).resubmit();
+
+                release.countDown();
+                holder.get(1, TimeUnit.MINUTES);
+                assertThat(dispatched).isEqualTo(1);
+            }
+
+            assertThat(rows.attempts(free)).isEqualTo(1);
+            assertThat(rows.attempts(locked)).isZero();
+        }
+
+        @Test
+        @DisplayName("claims nothing while the in-flight limit is reached")
+        void honorsMaxInFlight() {
+            rows.insert(Publication.resubmitted(EventPublicationRows.now().minusSeconds(10)));
+            rows.insert(Publication.resubmitted(EventPublicationRows.now().minusSeconds(10)));
+            List<UUID> waiting = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                waiting.add(rows.insert(stale()));
+            }
+
+            assertThat(resubmitter(10, 2).resubmit()).isZero();
+            assertThat(waiting).allSatisfy(id -> assertThat(rows.attempts(id)).isZero());
+
+            // Publications marked FAILED are no longer in flight, so one free slot is enough to work through them
+            assertThat(resubmitter(10, 3).resubmit()).isEqualTo(waiting.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("backoff and attempt limit")
+    class Backoff {
+
+        @Test
+        @DisplayName("resubmits only publications past their backoff and below the attempt limit")
+        void honorsBackoffAndMaxAttempts() {
+            OffsetDateTime now = EventPublicationRows.now();
+            // 30s after the first attempt
+            UUID dueAfterBackoff = rows.insert(Publication.failed(1, now.minusSeconds(60)));
+            UUID inBackoff = rows.insert(Publication.failed(1, now.minusSeconds(10)));
+            // 60s after the second attempt
+            UUID inLongerBackoff = rows.insert(Publication.failed(2, now.minusSeconds(45)));
+            // 240s after the fourth attempt, capped at 60s
+            UUID dueAfterCappedBackoff = rows.insert(Publication.failed(4, now.minusSeconds(70)));
+            UUID exhausted = rows.insert(Publication.failed(MAX_ATTEMPTS, now.minusDays(1)));
+            UUID fresh = rows.insert(Publication.published(now.minusMinutes(1)));
+            UUID stale = rows.insert(stale());
+            UUID completed = rows.insert(Publication.completed(now.minusDays(1)));
+
+            int dispatched = resubmitter(10, 1_000).resubmit();
+
+            assertThat(dispatched).isEqualTo(3);
+            assertThat(rows.attempts(dueAfterBackoff)).isEqualTo(2);
+            assertThat(rows.attempts(dueAfterCappedBackoff)).isEqualTo(5);
+            assertThat(rows.attempts(stale)).isEqualTo(1);
+            assertThat(rows.attempts(inBackoff)).isEqualTo(1);
+            assertThat(rows.attempts(inLongerBackoff)).isEqualTo(2);
+            assertThat(rows.attempts(exhausted)).isEqualTo(MAX_ATTEMPTS);
+            assertThat(rows.attempts(fresh)).isZero();
+            assertThat(rows.attempts(completed)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("dispatch")
+    class Dispatch {
+
+        @Test
+        @DisplayName("marks publications of an unknown listener FAILED")
+        void marksUnknownListenerFailed() {
+            UUID id = rows.insert(stale().withListener("org.nkcoder.Missing.on(org.nkcoder.Event)"));
+
+            resubmitter(10, 1_000).resubmit();
+
+            assertThat(rows.status(id)).isEqualTo("FAILED");
+            assertThat(resubmitted("no_listener")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("marks publications whose event cannot be read FAILED")
+        void marksUnreadableEventFailed() {
+            String listenerId = ((AbstractApplicationContext) applicationContext)
+                    .getApplicationListeners().stream()
+                            .filter(TransactionalApplicationListener.class::isInstance)
+                            .map(listener -> ((TransactionalApplicationListener<?>) listener).getListenerId())
+                            .findFirst()
+                            .orElseThrow();
+            UUID id = rows.insert(stale().withListener(listenerId).withEventType("org.nkcoder.NoSuchEvent"));
+
+            resubmitter(10, 1_000).resubmit();
+
+            assertThat(rows.status(id)).isEqualTo("FAILED");
+            assertThat(resubmitted("unreadable")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("gauges")
+    class Gauges {
+
+        @Test
+        @DisplayName("count the publications waiting for resubmission and those past the attempt limit")
+        void countBacklogAndExhausted() {
+            OffsetDateTime now = EventPublicationRows.now();
+            rows.insert(Publication.resubmitted(now.minusSeconds(10)));
+            for (int i = 0; i < 3; i++) {
+                rows.insert(stale());
+            }
+            rows.insert(Publication.failed(1, now.minusSeconds(10)));
+            rows.insert(Publication.failed(MAX_ATTEMPTS, now.minusDays(1)));
+            rows.insert(Publication.completed(now.minusDays(1)));
+
+            // The in-flight limit is reached, so the run only refreshes the gauges
+            EventPublicationResubmitter resubmitter = resubmitter(10, 1);
+            assertThat(resubmitter.resubmit()).isZero();
+
+            assertThat(gauge(EventPublicationResubmitter.BACKLOG_METRIC)).isEqualTo(3);
+            assertThat(gauge(EventPublicationResubmitter.EXHAUSTED_METRIC)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("drop claimed publications from the backlog")
+        void refreshAfterRun() {
+            for (int i = 0; i < 3; i++) {
+                rows.insert(stale());
+            }
+
+            resubmitter(10, 1_000).resubmit();
+
+            // Marked FAILED, now waiting out their backoff
+            assertThat(gauge(EventPublicationResubmitter.BACKLOG_METRIC)).isZero();
+            assertThat(gauge(EventPublicationResubmitter.EXHAUSTED_METRIC)).isZero();
+        }
+    }
+}
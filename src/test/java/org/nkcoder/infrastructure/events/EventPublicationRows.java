@@ -0,0 +1,122 @@
+package org.nkcoder.infrastructure.events;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/** Writes and reads {@code event_publication} rows directly, for tests of the jobs that maintain the table. */
+final class EventPublicationRows {
+
+    static final String LISTENER = "org.nkcoder.test.Listener.on(org.nkcoder.test.Event)";
+    static final String EVENT_TYPE = "org.nkcoder.test.Event";
+
+    private final JdbcClient jdbcClient;
+
+    EventPublicationRows(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    /** Removes all publications, including archived ones, so a test only sees its own rows. */
+    void clear() {
+        jdbcClient.sql("DELETE FROM event_publication").update();
+        jdbcClient.sql("DELETE FROM event_publication_archive").update();
+    }
+
+    UUID insert(Publication publication) {
+        UUID id = UUID.randomUUID();
+        jdbcClient
+                .sql("""
+                        INSERT INTO event_publication (id, listener_id, event_type, serialized_event, publication_date,
+                            completion_date, status, completion_attempts, last_resubmission_date)
+                        VALUES (:id, :listenerId, :eventType, :payload, :published,
+                            :completed, :status, :attempts, :lastResubmission)
+                        """)
+                .param("id", id)
+                .param("listenerId", publication.listenerId())
+                .param("eventType", publication.eventType())
+                .param("payload", "{\"id\":\"" + id + "\"}")
+                .param("published", publication.publishedAt())
+                .param("completed", publication.completedAt(), Types.TIMESTAMP_WITH_TIMEZONE)
+                .param("status", publication.status(), Types.VARCHAR)
+                .param("attempts", publication.attempts(), Types.INTEGER)
+                .param("lastResubmission", publication.lastResubmittedAt(), Types.TIMESTAMP_WITH_TIMEZONE)
+                .update();
+        return id;
+    }
+
+    List<UUID> ids() {
+        return jdbcClient
+                .sql("SELECT id FROM event_publication")
+                .query(UUID.class)
+                .list();
+    }
+
+    List<UUID> archivedIds() {
+        return jdbcClient
+                .sql("SELECT id FROM event_publication_archive")
+                .query(UUID.class)
+                .list();
+    }
+
+    String status(UUID id) {
+        return jdbcClient
+                .sql("SELECT status FROM event_publication WHERE id = :id")
+                .param("id", id)
+                .query(String.class)
+                .single();
+    }
+
+    int attempts(UUID id) {
+        return jdbcClient
+                .sql("SELECT coalesce(completion_attempts, 0) FROM event_publication WHERE id = :id")
+                .param("id", id)
+                .query(Integer.class)
+                .single();
+    }
+
+    /** One row of {@code event_publication}; {@code null} columns are stored as SQL {@code NULL}. */
+    record Publication(
+            String listenerId,
+            String eventType,
+            OffsetDateTime publishedAt,
+            OffsetDateTime completedAt,
+            String status,
+            Integer attempts,
+            OffsetDateTime lastResubmittedAt) {
+
+        static Publication completed(OffsetDateTime completedAt) {
+            return new Publication(
+                    LISTENER, EVENT_TYPE, completedAt.minusSeconds(1), completedAt, "COMPLETED", 1, null);
+        }
+
+        static Publication published(OffsetDateTime publishedAt) {
+            return new Publication(LISTENER, EVENT_TYPE, publishedAt, null, "PUBLISHED", null, null);
+        }
+
+        static Publication failed(int attempts, OffsetDateTime lastResubmittedAt) {
+            return new Publication(
+                    LISTENER, EVENT_TYPE, now().minusDays(1), null, "FAILED", attempts, lastResubmittedAt);
+        }
+
+        static Publication resubmitted(OffsetDateTime lastResubmittedAt) {
+            return new Publication(LISTENER, EVENT_TYPE, now().minusDays(1), null, "RESUBMITTED", 1, lastResubmittedAt);
+        }
+
+        Publication withListener(String listenerId) {
+            return new Publication(
+                    listenerId, eventType, publishedAt, completedAt, status, attempts, lastResubmittedAt);
+        }
+
+        Publication withEventType(String eventType) {
+            return new Publication(
+                    listenerId, eventType, publishedAt, completedAt, status, attempts, lastResubmittedAt);
+        }
+    }
+}
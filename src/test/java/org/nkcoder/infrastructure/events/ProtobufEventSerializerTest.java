@@ -0,0 +1,110 @@
+package org.nkcoder.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.shared.kernel.domain.event.UserRegisteredEvent;
+import org.nkcoder.shared.local.event.UserRegisteredEventCodec;
+import org.springframework.modulith.events.core.EventSerializer;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("ProtobufEventSerializer")
+class ProtobufEventSerializerTest {
+
+    private static final EventSerializer JSON =
+            new JsonEventSerializer(() -> JsonMapper.builder().build());
+
+    private static final UserRegisteredEvent EVENT = new UserRegisteredEvent(
+            UUID.fromString("8d4c7f6e-3b1a-4e2f-9a5b-1c2d3e4f5a6b"),
+            "jane.doe@example.com",
+            "Jane Doe",
+            LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_000));
+
+    private static ProtobufEventSerializer serializer(boolean encodeProtobuf) {
+        return new ProtobufEventSerializer(List.of(new UserRegisteredEventCodec()), JSON, encodeProtobuf);
+    }
+
+    @Nested
+    @DisplayName("protobuf format")
+    class ProtobufFormat {
+
+        @Test
+        @DisplayName("round-trips events that have a codec")
+        void roundTrips() {
+            ProtobufEventSerializer serializer = serializer(true);
+
+            Object serialized = serializer.serialize(EVENT);
+
+            assertThat(serialized.toString()).doesNotStartWith("{");
+            assertThat(serializer.deserialize(serialized, UserRegisteredEvent.class))
+                    .isEqualTo(EVENT);
+        }
+
+        @Test
+        @DisplayName("stores the event in less than two thirds of the space of JSON")
+        void isSmallerThanJson() {
+            int json = bytes(JSON.serialize(EVENT));
+            int protobuf = bytes(serializer(true).serialize(EVENT));
+
+            // 88 vs. 144 bytes for this event
+            assertThat(protobuf).isLessThan(json * 2 / 3);
+        }
+
+        @Test
+        @DisplayName("falls back to JSON for events without a codec")
+        void fallsBackToJson() {
+            Unregistered event = new Unregistered("payload");
+
+            Object serialized = serializer(true).serialize(event);
+
+            assertThat(serialized.toString()).startsWith("{");
+            assertThat(serializer(true).deserialize(serialized, Unregistered.class))
+                    .isEqualTo(event);
+        }
+    }
+
+    @Nested
+    @DisplayName("switching formats")
+    class SwitchingFormats {
+
+        @Test
+        @DisplayName("reads JSON written before protobuf was enabled")
+        void readsJsonWithProtobufEnabled() {
+            Object serialized = serializer(false).serialize(EVENT);
+
+            assertThat(serialized.toString()).startsWith("{");
+            assertThat(serializer(true).deserialize(serialized, UserRegisteredEvent.class))
+                    .isEqualTo(EVENT);
+        }
+
+        @Test
+        @DisplayName("reads protobuf written before switching back to JSON")
+        void readsProtobufWithJsonEnabled() {
+            Object serialized = serializer(true).serialize(EVENT);
+
+            assertThat(serializer(false).deserialize(serialized, UserRegisteredEvent.class))
+                    .isEqualTo(EVENT);
+        }
+
+        @Test
+        @DisplayName("rejects a binary payload for a type without a codec")
+        void rejectsBinaryWithoutCodec() {
+            assertThatThrownBy(() -> serializer(true).deserialize("CgR0ZXN0", Unregistered.class))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(Unregistered.class.getName());
+        }
+    }
+
+    private static int bytes(Object serialized) {
+        return serialized.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    record Unregistered(String value) {}
+}
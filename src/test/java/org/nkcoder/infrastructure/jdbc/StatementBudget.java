@@ -0,0 +1,41 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Test assertion for the number of SQL statements a piece of work issues, so that a change adding queries to a hot path
+ * fails a test instead of showing up in production latency. Needs the {@link StatementCountingDataSource}, which is on
+ * by default.
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {}
+
+    /** Runs {@code work} and fails if it issued more than {@code budget} statements. */
+    public static <T> T assertAtMost(int budget, Supplier<T> work) {
+        try (StatementCounter.Scope scope = StatementCounter.open("budget")) {
+            T result = work.get();
+            assertThat(scope.count())
+                    .as(() -> "SQL statements (budget " + budget + "):\n" + describe(scope))
+                    .isLessThanOrEqualTo(budget);
+            return result;
+        }
+    }
+
+    /** Runs {@code work} and fails if it issued more than {@code budget} statements. */
+    public static void assertAtMost(int budget, Runnable work) {
+        assertAtMost(budget, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static String describe(StatementCounter.Scope scope) {
+        return scope.statements().entrySet().stream()
+                .map(statement -> statement.getValue() + "x " + statement.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,152 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StatementCountingDataSource")
+class StatementCountingDataSourceTest {
+
+    private static final String SELECT = "select * from users where id = ?";
+
+    private Connection target;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(Connection.class);
+        when(target.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        when(target.createStatement()).thenReturn(mock(Statement.class));
+        DataSource delegate = mock(DataSource.class);
+        when(delegate.getConnection()).thenReturn(target);
+        dataSource = new StatementCountingDataSource(delegate);
+    }
+
+    @Nested
+    @DisplayName("counting")
+    class Counting {
+
+        @Test
+        @DisplayName("counts prepared and plain statements in the open scope")
+        void countsStatements() throws SQLException {
+            try (StatementCounter.Scope scope = StatementCounter.open("test");
+                    Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement(SELECT);
+                connection.prepareStatement(SELECT);
+                connection.createStatement().execute("select 1");
+
+                assertThat(scope.count()).isEqualTo(3);
+                assertThat(scope.statements()).isEqualTo(Map.of(SELECT, 2, "select 1", 1));
+                assertThat(scope.maxRepetitions()).isEqualTo(2);
+            }
+        }
+
+        @Test
+        @DisplayName("adds statements of a nested scope to the enclosing one")
+        void countsNestedScopes() throws SQLException {
+            try (StatementCounter.Scope outer = StatementCounter.open("request");
+                    Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement(SELECT);
+                try (StatementCounter.Scope inner = StatementCounter.open("use-case")) {
+                    connection.prepareStatement(SELECT);
+                    assertThat(inner.count()).isEqualTo(1);
+                }
+                assertThat(outer.count()).isEqualTo(2);
+                assertThat(StatementCounter.current()).containsSame(outer);
+            }
+            assertThat(StatementCounter.current()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("counts nothing without an open scope")
+        void ignoresStatementsOutsideScope() throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement(SELECT);
+            }
+            try (StatementCounter.Scope scope = StatementCounter.open("test")) {
+                assertThat(scope.count()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("unwraps to the proxy or the target connection")
+        void unwraps() throws SQLException {
+            when(target.unwrap(Connection.class)).thenReturn(target);
+            try (Connection connection = dataSource.getConnection()) {
+                assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("budgets")
+    class Budgets {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final StatementBudgetMonitor monitor = new StatementBudgetMonitor(
+                new StatementCountingProperties(true, 2, Map.of("login", 1), 3), meterRegistry);
+
+        private double counter(String metric, String name) {
+            return meterRegistry.get(metric).tag("name", name).counter().count();
+        }
+
+        @Test
+        @DisplayName("reports scopes over their budget and repeated statements")
+        void reportsOverBudgetAndRepetition() throws SQLException {
+            try (StatementCounter.Scope scope = StatementCounter.open("login");
+                    Connection connection = dataSource.getConnection()) {
+                for (int i = 0; i < 3; i++) {
+                    connection.prepareStatement(SELECT);
+                }
+                monitor.completed(StatementBudgetMonitor.KIND_USE_CASE, "login", scope);
+            }
+
+            assertThat(meterRegistry
+                            .get(StatementBudgetMonitor.STATEMENTS_METRIC)
+                            .tag("name", "login")
+                            .summary()
+                            .totalAmount())
+                    .isEqualTo(3.0);
+            assertThat(counter(StatementBudgetMonitor.OVER_BUDGET_METRIC, "login"))
+                    .isEqualTo(1.0);
+            assertThat(counter(StatementBudgetMonitor.REPEATED_METRIC, "login")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("fails a test that exceeds its declared budget")
+        void failsOverBudget() throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                StatementBudget.assertAtMost(1, () -> prepare(connection));
+
+                assertThatThrownBy(() -> StatementBudget.assertAtMost(1, () -> {
+                            prepare(connection);
+                            prepare(connection);
+                        }))
+                        .isInstanceOf(AssertionError.class)
+                        .hasMessageContaining("2x " + SELECT);
+            }
+        }
+
+        private static void prepare(Connection connection) {
+            try {
+                connection.prepareStatement(SELECT);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
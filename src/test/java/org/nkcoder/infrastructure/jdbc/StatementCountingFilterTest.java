@@ -0,0 +1,96 @@
+package org.nkcoder.infrastructure.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DisplayName("StatementCountingFilter")
+class StatementCountingFilterTest {
+
+    private static final String PATTERN = "/api/users/{userId}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatementCountingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StatementCountingProperties properties = new StatementCountingProperties(true, 1, Map.of(), 5);
+        filter = new StatementCountingFilter(new StatementBudgetMonitor(properties, meterRegistry), properties);
+    }
+
+    private static FilterChain issuing(int statements, RuntimeException failure) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+            for (int i = 0; i < statements; i++) {
+                StatementCounter.record("SELECT " + i);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        };
+    }
+
+    private DistributionSummary statements(String name) {
+        return meterRegistry
+                .get(StatementBudgetMonitor.STATEMENTS_METRIC)
+                .tag("kind", StatementBudgetMonitor.KIND_HTTP)
+                .tag("name", name)
+                .summary();
+    }
+
+    private double overBudget(String name) {
+        return meterRegistry
+                .get(StatementBudgetMonitor.OVER_BUDGET_METRIC)
+                .tag("name", name)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("reports the statements of a request under its URI pattern")
+    void reportsUnderPattern() throws Exception {
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/users/42"), new MockHttpServletResponse(), issuing(2, null));
+
+        assertThat(statements(PATTERN).count()).isEqualTo(1);
+        assertThat(statements(PATTERN).totalAmount()).isEqualTo(2);
+        assertThat(overBudget(PATTERN)).isEqualTo(1);
+        assertThat(StatementCounter.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reports a request that ends in an exception and checks it against its budget")
+    void reportsFailedRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/42");
+
+        assertThatThrownBy(() -> filter.doFilter(
+                        request, new MockHttpServletResponse(), issuing(3, new IllegalStateException("boom"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(statements(PATTERN).totalAmount()).isEqualTo(3);
+        assertThat(overBudget(PATTERN)).isEqualTo(1);
+        assertThat(StatementCounter.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reports requests that matched no handler as UNKNOWN")
+    void reportsUnmatchedAsUnknown() throws Exception {
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/nowhere"),
+                new MockHttpServletResponse(),
+                (request, response) -> StatementCounter.record("SELECT 1"));
+
+        assertThat(statements("UNKNOWN").totalAmount()).isEqualTo(1);
+    }
+}
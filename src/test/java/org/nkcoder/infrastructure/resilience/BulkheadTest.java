@@ -0,0 +1,190 @@
+package org.nkcoder.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Bulkhead")
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Bulkhead bulkhead(int maxConcurrent, int maxWaiting, Duration maxWait) {
+        return new Bulkhead("test", new BulkheadProperties.Limits(maxConcurrent, maxWaiting, maxWait), meterRegistry);
+    }
+
+    /** Occupies one permit until {@code release} is counted down. */
+    private Future<?> occupy(Bulkhead bulkhead, CountDownLatch acquired, CountDownLatch release) {
+        return executor.submit(() -> bulkhead.run(() -> {
+            acquired.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry
+                .get("bulkhead.rejected")
+                .tag("name", "test")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("admission")
+    class Admission {
+
+        @Test
+        @DisplayName("runs the call and releases the permit")
+        void runsAndReleases() {
+            Bulkhead bulkhead = bulkhead(1, 0, Duration.ZERO);
+
+            assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+            assertThat(bulkhead.execute(() -> "again")).isEqualTo("again");
+            assertThat(bulkhead.activeCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("releases the permit when the call throws")
+        void releasesOnException() {
+            Bulkhead bulkhead = bulkhead(1, 0, Duration.ZERO);
+
+            assertThatThrownBy(() -> bulkhead.run(() -> {
+                        throw new IllegalStateException("boom");
+                    }))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(bulkhead.activeCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("admits a waiting call once a permit is released")
+        void admitsWaitingCall() throws Exception {
+            Bulkhead bulkhead = bulkhead(1, 1, Duration.ofSeconds(5));
+            CountDownLatch acquired = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            occupy(bulkhead, acquired, release);
+            acquired.await(5, TimeUnit.SECONDS);
+
+            Future<String> waiter = executor.submit(() -> bulkhead.execute(() -> "admitted"));
+            while (bulkhead.waitingCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("admitted");
+        }
+    }
+
+    @Nested
+    @DisplayName("rejection")
+    class Rejection {
+
+        @Test
+        @DisplayName("rejects immediately when the wait queue is full")
+        void rejectsWhenQueueFull() throws Exception {
+            Bulkhead bulkhead = bulkhead(1, 0, Duration.ofSeconds(5));
+            CountDownLatch acquired = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            occupy(bulkhead, acquired, release);
+            acquired.await(5, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> bulkhead.execute(() -> "never"))
+                    .isInstanceOf(BulkheadFullException.class)
+                    .hasMessageContaining("test");
+            assertThat(rejected("queue_full")).isEqualTo(1.0);
+
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("rejects after the maximum wait and reports a retry delay")
+        void rejectsAfterMaxWait() throws Exception {
+            Bulkhead bulkhead = bulkhead(1, 1, Duration.ofMillis(20));
+            CountDownLatch acquired = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            occupy(bulkhead, acquired, release);
+            acquired.await(5, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> bulkhead.execute(() -> "never"))
+                    .isInstanceOfSatisfying(BulkheadFullException.class, ex -> assertThat(ex.getRetryAfter())
+                            .isEqualTo(Duration.ofMillis(20)));
+            assertThat(rejected("timeout")).isEqualTo(1.0);
+            assertThat(bulkhead.waitingCount()).isZero();
+
+            release.countDown();
+        }
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("reports active calls while a permit is held")
+        void reportsActiveCalls() throws Exception {
+            Bulkhead bulkhead = bulkhead(2, 0, Duration.ZERO);
+            CountDownLatch acquired = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            occupy(bulkhead, acquired, release);
+            acquired.await(5, TimeUnit.SECONDS);
+
+            assertThat(meterRegistry
+                            .get("bulkhead.active")
+                            .tag("name", "test")
+                            .gauge()
+                            .value())
+                    .isEqualTo(1.0);
+
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("attributes pinning to the bulkhead held by the thread")
+        void attributesPinning() {
+            BulkheadRegistry registry = new BulkheadRegistry(new BulkheadProperties(null, null), meterRegistry);
+            Bulkhead bulkhead = registry.get("test");
+
+            boolean attributed = bulkhead.execute(
+                    () -> registry.recordPinned(Thread.currentThread().threadId(), Duration.ofMillis(30)));
+
+            assertThat(attributed).isTrue();
+            assertThat(registry.recordPinned(Thread.currentThread().threadId(), Duration.ofMillis(30)))
+                    .isFalse();
+            assertThat(meterRegistry
+                            .get("bulkhead.pinned")
+                            .tag("name", "test")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
+    }
+}
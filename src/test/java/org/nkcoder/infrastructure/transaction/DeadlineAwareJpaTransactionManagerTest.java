@@ -0,0 +1,64 @@
+package org.nkcoder.infrastructure.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+@DisplayName("DeadlineAwareJpaTransactionManager")
+class DeadlineAwareJpaTransactionManagerTest {
+
+    private final DeadlineAwareJpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager();
+
+    private static TransactionDefinition timeout(int seconds) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(seconds);
+        return definition;
+    }
+
+    @Test
+    @DisplayName("keeps the configured timeout when no deadline is set")
+    void keepsConfiguredTimeout() {
+        assertThat(transactionManager.determineTimeout(TransactionDefinition.withDefaults()))
+                .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+        assertThat(transactionManager.determineTimeout(timeout(30))).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("caps the timeout at the remaining time, rounded up to whole seconds")
+    void capsAtDeadline() {
+        try (RequestDeadline.Scope scope = RequestDeadline.open(Duration.ofMillis(1500))) {
+            assertThat(transactionManager.determineTimeout(TransactionDefinition.withDefaults()))
+                    .isEqualTo(2);
+            assertThat(transactionManager.determineTimeout(timeout(1))).isEqualTo(1);
+        }
+        assertThat(RequestDeadline.remaining()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("refuses to start a transaction once the deadline has passed")
+    void rejectsExpiredDeadline() {
+        try (RequestDeadline.Scope scope = RequestDeadline.open(Duration.ofMillis(-1))) {
+            assertThatThrownBy(() -> transactionManager.determineTimeout(TransactionDefinition.withDefaults()))
+                    .isInstanceOf(TransactionTimedOutException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("restores the outer deadline when a nested scope closes")
+    void restoresOuterDeadline() {
+        try (RequestDeadline.Scope outer = RequestDeadline.open(Duration.ofSeconds(10))) {
+            try (RequestDeadline.Scope inner = RequestDeadline.open(Duration.ofSeconds(1))) {
+                assertThat(RequestDeadline.remaining()).hasValueSatisfying(remaining -> assertThat(remaining)
+                        .isLessThanOrEqualTo(Duration.ofSeconds(1)));
+            }
+            assertThat(RequestDeadline.remaining())
+                    .hasValueSatisfying(remaining -> assertThat(remaining).isGreaterThan(Duration.ofSeconds(1)));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.nkcoder.infrastructure.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nkcoder.infrastructure.jdbc.StatementBudgetMonitor;
+import org.nkcoder.infrastructure.jdbc.StatementCountingProperties;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionRunner")
+class TransactionRunnerTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new TransactionRunner(
+                transactionManager,
+                meterRegistry,
+                new TransactionRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                new StatementBudgetMonitor(new StatementCountingProperties(null, 0, null, 0), meterRegistry));
+    }
+
+    private static RuntimeException failure(String sqlState) {
+        return new CannotAcquireLockException("conflict", new SQLException("conflict", sqlState));
+    }
+
+    private double counter(String name, String reason) {
+        return meterRegistry
+                .get(name)
+                .tag("use_case", "test")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class Execute {
+
+        @Test
+        @DisplayName("commits and records the connection hold time")
+        void commitsAndRecordsHoldTime() {
+            String result = runner.execute("test", () -> "done");
+
+            assertThat(result).isEqualTo("done");
+            verify(transactionManager).commit(any());
+            assertThat(meterRegistry
+                            .get(TransactionRunner.HOLD_TIME_METRIC)
+                            .tag("use_case", "test")
+                            .tag("outcome", "success")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("rolls back and rethrows non-retryable failures without retrying")
+        void doesNotRetryOtherFailures() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            assertThatThrownBy(() -> runner.execute("test", () -> {
+                        attempts.incrementAndGet();
+                        throw new IllegalStateException("boom");
+                    }))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(attempts).hasValue(1);
+            verify(transactionManager).rollback(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("retry")
+    class Retry {
+
+        @Test
+        @DisplayName("re-executes after a serialization failure")
+        void retriesSerializationFailure() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            String result = runner.execute("test", Isolation.SERIALIZABLE, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw failure(RetryableTransactionFailures.SERIALIZATION_FAILURE);
+                }
+                return "done";
+            });
+
+            assertThat(result).isEqualTo("done");
+            assertThat(attempts).hasValue(2);
+            verify(transactionManager).rollback(any());
+            verify(transactionManager).commit(any());
+            assertThat(counter(TransactionRunner.RETRY_METRIC, "serialization_failure"))
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("re-executes after a deadlock")
+        void retriesDeadlock() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            runner.run("test", () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw failure(RetryableTransactionFailures.DEADLOCK_DETECTED);
+                }
+            });
+
+            assertThat(attempts).hasValue(2);
+            assertThat(counter(TransactionRunner.RETRY_METRIC, "deadlock")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("gives up after the maximum number of attempts")
+        void givesUpAfterMaxAttempts() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            assertThatThrownBy(() -> runner.execute("test", () -> {
+                        attempts.incrementAndGet();
+                        throw failure(RetryableTransactionFailures.SERIALIZATION_FAILURE);
+                    }))
+                    .isInstanceOf(CannotAcquireLockException.class);
+
+            assertThat(attempts).hasValue(3);
+            verify(transactionManager, times(3)).rollback(any());
+            assertThat(counter(TransactionRunner.RETRY_METRIC, "serialization_failure"))
+                    .isEqualTo(2.0);
+            assertThat(counter(TransactionRunner.EXHAUSTED_METRIC, "serialization_failure"))
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("RetryableTransactionFailures")
+    class Failures {
+
+        @Test
+        @DisplayName("finds the SQLSTATE anywhere in the cause chain")
+        void findsSqlStateInCauseChain() {
+            RuntimeException wrapped = new RuntimeException(new IllegalStateException(failure("40001")));
+
+            assertThat(RetryableTransactionFailures.isRetryable(wrapped)).isTrue();
+        }
+
+        @Test
+        @DisplayName("ignores other SQL errors")
+        void ignoresOtherSqlErrors() {
+            assertThat(RetryableTransactionFailures.isRetryable(failure("23505")))
+                    .isFalse();
+            assertThat(RetryableTransactionFailures.isRetryable(new IllegalStateException()))
+                    .isFalse();
+        }
+    }
+}
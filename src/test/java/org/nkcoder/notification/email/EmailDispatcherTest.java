@@ -0,0 +1,178 @@
+package org.nkcoder.notification.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@DisplayName("EmailDispatcher")
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    private static EmailProperties properties(int queueCapacity, int maxAttempts) {
+        return new EmailProperties(
+                true,
+                "no-reply@example.com",
+                queueCapacity,
+                2,
+                10,
+                maxAttempts,
+                Duration.ZERO,
+                Duration.ZERO,
+                Duration.ofSeconds(5));
+    }
+
+    private static JavaMailSenderImpl greenMailSender() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(greenMail.getSmtp().getPort());
+        return sender;
+    }
+
+    private static EmailMessage email(int i) {
+        return new EmailMessage("user" + i + "@example.com", "Subject " + i, "Body " + i);
+    }
+
+    private double messages(String result) {
+        return meterRegistry
+                .get("notification.email.messages")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("delivery")
+    class Delivery {
+
+        @Test
+        @DisplayName("delivers queued emails over SMTP")
+        void deliversQueuedEmails() throws Exception {
+            dispatcher = new EmailDispatcher(greenMailSender(), properties(100, 3), meterRegistry);
+            dispatcher.start();
+
+            for (int i = 0; i < 25; i++) {
+                dispatcher.enqueue(email(i));
+            }
+
+            assertThat(greenMail.waitForIncomingEmail(5000, 25)).isTrue();
+            MimeMessage received = greenMail.getReceivedMessagesForDomain("user7@example.com")[0];
+            assertThat(received.getSubject()).isEqualTo("Subject 7");
+            assertThat(received.getFrom()[0].toString()).isEqualTo("no-reply@example.com");
+            while (messages("sent") < 25) {
+                Thread.onSpinWait();
+            }
+            assertThat(meterRegistry.get("notification.email.delivery").timer().count())
+                    .isEqualTo(25);
+        }
+
+        @Test
+        @DisplayName("retries emails whose delivery failed")
+        void retriesFailedEmails() throws Exception {
+            JavaMailSender sender = mock(JavaMailSender.class);
+            Session session = Session.getInstance(new Properties());
+            when(sender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+            AtomicInteger attempts = new AtomicInteger();
+            doAnswer(invocation -> {
+                        if (attempts.incrementAndGet() == 1) {
+                            throw new MailSendException("connection refused");
+                        }
+                        return null;
+                    })
+                    .when(sender)
+                    .send(any(MimeMessage[].class));
+            dispatcher = new EmailDispatcher(sender, properties(100, 3), meterRegistry);
+            dispatcher.start();
+
+            dispatcher.enqueue(email(1));
+
+            while (messages("sent") < 1) {
+                Thread.onSpinWait();
+            }
+            assertThat(attempts).hasValue(2);
+            assertThat(messages("failed")).isZero();
+        }
+
+        @Test
+        @DisplayName("gives up after the maximum number of attempts")
+        void givesUpAfterMaxAttempts() {
+            JavaMailSender sender = mock(JavaMailSender.class);
+            Session session = Session.getInstance(new Properties());
+            when(sender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+            doAnswer(invocation -> {
+                        throw new MailSendException("connection refused", null, Map.of());
+                    })
+                    .when(sender)
+                    .send(any(MimeMessage[].class));
+            dispatcher = new EmailDispatcher(sender, properties(100, 2), meterRegistry);
+            dispatcher.start();
+
+            dispatcher.enqueue(email(1));
+
+            while (messages("failed") < 1) {
+                Thread.onSpinWait();
+            }
+            assertThat(messages("sent")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("admission")
+    class Admission {
+
+        @Test
+        @DisplayName("rejects emails when the queue is full")
+        void rejectsWhenQueueFull() {
+            // Not started, so nothing drains the queue
+            dispatcher = new EmailDispatcher(greenMailSender(), properties(1, 3), meterRegistry);
+
+            dispatcher.enqueue(email(1));
+
+            assertThatThrownBy(() -> dispatcher.enqueue(email(2))).isInstanceOf(EmailQueueFullException.class);
+            assertThat(messages("rejected")).isEqualTo(1.0);
+            assertThat(meterRegistry
+                            .get("notification.email.queue.size")
+                            .gauge()
+                            .value())
+                    .isEqualTo(1.0);
+        }
+    }
+}
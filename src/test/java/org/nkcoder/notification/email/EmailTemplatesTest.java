@@ -0,0 +1,40 @@
+package org.nkcoder.notification.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EmailTemplates")
+class EmailTemplatesTest {
+
+    private final EmailTemplates templates = new EmailTemplates();
+
+    @Test
+    @DisplayName("renders subject and body with the given variables")
+    void rendersTemplate() {
+        EmailMessage message = templates.render("welcome", "user@example.com", Map.of("userName", "Alex"));
+
+        assertThat(message.to()).isEqualTo("user@example.com");
+        assertThat(message.subject()).isEqualTo("Welcome, Alex!");
+        assertThat(message.body()).startsWith("Hi Alex,").doesNotContain("{{");
+    }
+
+    @Test
+    @DisplayName("fails when a variable is missing")
+    void failsOnMissingVariable() {
+        assertThatThrownBy(() -> templates.render("welcome", "user@example.com", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("userName");
+    }
+
+    @Test
+    @DisplayName("fails for an unknown template")
+    void failsOnUnknownTemplate() {
+        assertThatThrownBy(() -> templates.render("missing", "user@example.com", Map.of()))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package org.nkcoder.user.application.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("AuthFlightEvents")
+class AuthFlightEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<RecordedEvent> record(Runnable work) throws Exception {
+        Configuration profile;
+        try (var settings = AuthFlightEventsTest.class.getResourceAsStream("/jfr/auth.jfc")) {
+            profile = Configuration.create(new InputStreamReader(settings, StandardCharsets.UTF_8));
+        }
+        Path file = tempDir.resolve("auth.jfr");
+        try (Recording recording = new Recording(profile)) {
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("org.nkcoder.auth."))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("records events with their outcome when the shipped profile is enabled")
+    void recordsWithProfile() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            AuthFlightEvents.record(new AuthFlightEvents.JwtSign(), () -> "token");
+            AuthFlightEvents.PasswordVerify verify = new AuthFlightEvents.PasswordVerify(12);
+            AuthFlightEvents.record(verify, () -> verify.outcome = "mismatch");
+            assertThatThrownBy(() -> AuthFlightEvents.record(new AuthFlightEvents.TokenRotation(), () -> {
+                        throw new IllegalStateException("boom");
+                    }))
+                    .isInstanceOf(IllegalStateException.class);
+        });
+
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName(), event -> event.getString("outcome"))
+                .containsExactly(
+                        tuple("org.nkcoder.auth.JwtSign", "success"),
+                        tuple("org.nkcoder.auth.PasswordVerify", "mismatch"),
+                        tuple("org.nkcoder.auth.TokenRotation", "IllegalStateException"));
+        assertThat(events.get(1).getInt("cost")).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("records nothing when no recording enables the events")
+    void disabledByDefault() throws Exception {
+        Path file = tempDir.resolve("default.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            AuthFlightEvents.record(new AuthFlightEvents.JwtSign(), () -> "token");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(Files.exists(file)).isTrue();
+        assertThat(RecordingFile.readAllEvents(file))
+                .noneMatch(event -> event.getEventType().getName().startsWith("org.nkcoder.auth."));
+    }
+
+    @Test
+    @DisplayName("reports the events enabled only while a recording enables them")
+    void enabledFlagsFollowRecording() throws Exception {
+        assertThat(enabledFlags()).containsOnly(false);
+
+        boolean[][] enabled = new boolean[1][];
+        record(() -> enabled[0] = enabledFlags());
+
+        assertThat(enabled[0]).containsOnly(true);
+        assertThat(enabledFlags()).containsOnly(false);
+    }
+
+    private static boolean[] enabledFlags() {
+        return new boolean[] {
+            AuthFlightEvents.passwordHashEnabled(),
+            AuthFlightEvents.passwordVerifyEnabled(),
+            AuthFlightEvents.jwtSignEnabled(),
+            AuthFlightEvents.jwtVerifyEnabled(),
+            AuthFlightEvents.repositoryCallEnabled(),
+            AuthFlightEvents.tokenRotationEnabled()
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package org.nkcoder.user.application.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.user.application.metrics.AuthMetrics.Operation;
+import org.nkcoder.user.application.metrics.AuthMetrics.Outcome;
+import org.nkcoder.user.application.metrics.AuthMetrics.Stage;
+
+@DisplayName("AuthMetrics")
+class AuthMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new AuthMetrics(meterRegistry);
+    }
+
+    private double outcomes(String operation, String outcome) {
+        return meterRegistry
+                .get(AuthMetrics.OUTCOME_METRIC)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private long stages(String operation, String stage) {
+        return meterRegistry
+                .get(AuthMetrics.STAGE_METRIC)
+                .tag("operation", operation)
+                .tag("stage", stage)
+                .timer()
+                .count();
+    }
+
+    @Test
+    @DisplayName("tags stages with the enclosing operation")
+    void tagsStagesWithOperation() {
+        metrics.operation(Operation.LOGIN, () -> {
+            metrics.stage(Stage.USER_LOOKUP, () -> {});
+            return metrics.stage(Stage.PASSWORD_VERIFY, () -> true);
+        });
+        metrics.stage(Stage.TOKEN_SIGN, () -> {});
+
+        assertThat(stages("login", "user_lookup")).isEqualTo(1);
+        assertThat(stages("login", "password_verify")).isEqualTo(1);
+        assertThat(stages("other", "token_sign")).isEqualTo(1);
+        assertThat(outcomes("login", "success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("keeps the first outcome reported during an operation")
+    void keepsFirstOutcome() {
+        assertThatThrownBy(() -> metrics.operation(Operation.REFRESH, () -> {
+                    metrics.outcome(Outcome.EXPIRED_TOKEN);
+                    metrics.outcome(Outcome.INVALID_TOKEN);
+                    throw new IllegalStateException("expired");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(outcomes("refresh", "expired_token")).isEqualTo(1.0);
+        assertThat(meterRegistry
+                        .find(AuthMetrics.OUTCOME_METRIC)
+                        .tag("outcome", "invalid_token")
+                        .counter())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("counts an operation that fails without an outcome as an error")
+    void countsUnexplainedFailureAsError() {
+        assertThatThrownBy(() -> metrics.operation(Operation.REGISTER, () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(outcomes("register", "error")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("restores the outer operation after a nested one")
+    void restoresOuterOperation() {
+        metrics.operation(Operation.REFRESH, () -> {
+            metrics.operation(Operation.VALIDATE, () -> metrics.stage(Stage.TOKEN_VERIFY, () -> "claims"));
+            metrics.stage(Stage.PERSIST, () -> {});
+            return null;
+        });
+
+        assertThat(stages("validate", "token_verify")).isEqualTo(1);
+        assertThat(stages("refresh", "persist")).isEqualTo(1);
+    }
+}
@@ -5,9 +5,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,15 +20,25 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.nkcoder.infrastructure.concurrency.SingleFlightProperties;
+import org.nkcoder.infrastructure.concurrency.SingleFlightRegistry;
+import org.nkcoder.infrastructure.jdbc.StatementBudgetMonitor;
+import org.nkcoder.infrastructure.jdbc.StatementCountingProperties;
+import org.nkcoder.infrastructure.transaction.TransactionRetryProperties;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
 import org.nkcoder.shared.kernel.domain.event.DomainEventPublisher;
+import org.nkcoder.shared.kernel.domain.event.LoginFailedEvent;
+import org.nkcoder.shared.kernel.domain.event.UserLoggedInEvent;
 import org.nkcoder.shared.kernel.exception.AuthenticationException;
 import org.nkcoder.shared.kernel.exception.ValidationException;
 import org.nkcoder.user.application.dto.command.LoginCommand;
 import org.nkcoder.user.application.dto.command.RefreshTokenCommand;
 import org.nkcoder.user.application.dto.command.RegisterCommand;
 import org.nkcoder.user.application.dto.response.AuthResult;
+import org.nkcoder.user.application.metrics.AuthMetrics;
 import org.nkcoder.user.domain.model.Email;
 import org.nkcoder.user.domain.model.HashedPassword;
 import org.nkcoder.user.domain.model.RefreshToken;
@@ -40,6 +54,7 @@ import org.nkcoder.user.domain.service.AuthenticationService;
 import org.nkcoder.user.domain.service.PasswordEncoder;
 import org.nkcoder.user.domain.service.TokenGenerator;
 import org.nkcoder.user.domain.service.TokenRotationService;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthApplicationService")
@@ -66,10 +81,15 @@ class AuthApplicationServiceTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
     private AuthApplicationService authApplicationService;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         authApplicationService = new AuthApplicationService(
                 userRepository,
                 refreshTokenRepository,
@@ -77,7 +97,15 @@ class AuthApplicationServiceTest {
                 tokenGenerator,
                 authenticationService,
                 tokenRotationService,
-                eventPublisher);
+                eventPublisher,
+                new TransactionRunner(
+                        transactionManager,
+                        new SimpleMeterRegistry(),
+                        new TransactionRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new StatementBudgetMonitor(
+                                new StatementCountingProperties(null, 0, null, 0), new SimpleMeterRegistry())),
+                new SingleFlightRegistry(new SingleFlightProperties(null, null), new SimpleMeterRegistry()),
+                new AuthMetrics(meterRegistry));
     }
 
     @Nested
@@ -91,9 +119,8 @@ class AuthApplicationServiceTest {
                     new RegisterCommand("new@example.com", "Password123", "New User", UserRole.MEMBER);
             TokenPair tokenPair = new TokenPair("access-token", "refresh-token");
 
-            given(userRepository.existsByEmail(any(Email.class))).willReturn(false);
             given(passwordEncoder.encode(any())).willReturn(HashedPassword.of("hashed"));
-            given(userRepository.save(any(User.class))).willAnswer(inv -> inv.getArgument(0));
+            given(userRepository.insertIfEmailAbsent(any(User.class))).willReturn(true);
             given(tokenRotationService.generateTokens(any(User.class), any(TokenFamily.class)))
                     .willReturn(tokenPair);
             given(tokenGenerator.getRefreshTokenExpiry())
@@ -104,7 +131,8 @@ class AuthApplicationServiceTest {
             assertThat(result.email()).isEqualTo("new@example.com");
             assertThat(result.accessToken()).isEqualTo("access-token");
             assertThat(result.refreshToken()).isEqualTo("refresh-token");
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).insertIfEmailAbsent(any(User.class));
+            verify(userRepository, never()).save(any(User.class));
             verify(refreshTokenRepository).save(any(RefreshToken.class));
         }
 
@@ -114,13 +142,40 @@ class AuthApplicationServiceTest {
             RegisterCommand command =
                     new RegisterCommand("existing@example.com", "Password123", "User", UserRole.MEMBER);
 
-            given(userRepository.existsByEmail(any(Email.class))).willReturn(true);
+            given(passwordEncoder.encode(any())).willReturn(HashedPassword.of("hashed"));
+            given(userRepository.insertIfEmailAbsent(any(User.class))).willReturn(false);
 
             assertThatThrownBy(() -> authApplicationService.register(command))
                     .isInstanceOf(ValidationException.class)
                     .hasMessage(AuthApplicationService.USER_ALREADY_EXISTS);
 
-            verify(userRepository, never()).save(any(User.class));
+            verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+            verify(eventPublisher, never()).publish(any());
+            verify(transactionManager).rollback(any());
+        }
+
+        @Test
+        @DisplayName("hashes the password and signs tokens before opening the write transaction")
+        void hashesAndSignsBeforeOpeningTransaction() {
+            RegisterCommand command =
+                    new RegisterCommand("new@example.com", "Password123", "New User", UserRole.MEMBER);
+
+            given(passwordEncoder.encode(any())).willReturn(HashedPassword.of("hashed"));
+            given(userRepository.insertIfEmailAbsent(any(User.class))).willReturn(true);
+            given(tokenRotationService.generateTokens(any(), any())).willReturn(new TokenPair("access", "refresh"));
+            given(tokenGenerator.getRefreshTokenExpiry())
+                    .willReturn(LocalDateTime.now().plusDays(7));
+
+            authApplicationService.register(command);
+
+            InOrder inOrder =
+                    inOrder(passwordEncoder, tokenRotationService, transactionManager, userRepository, eventPublisher);
+            inOrder.verify(passwordEncoder).encode("Password123");
+            inOrder.verify(tokenRotationService).generateTokens(any(), any());
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(userRepository).insertIfEmailAbsent(any(User.class));
+            inOrder.verify(eventPublisher).publish(any());
+            inOrder.verify(transactionManager).commit(any());
         }
 
         @Test
@@ -130,9 +185,8 @@ class AuthApplicationServiceTest {
                     new RegisterCommand("new@example.com", "Password123", "New User", UserRole.MEMBER);
             TokenPair tokenPair = new TokenPair("access", "refresh-token-value");
 
-            given(userRepository.existsByEmail(any(Email.class))).willReturn(false);
             given(passwordEncoder.encode(any())).willReturn(HashedPassword.of("hashed"));
-            given(userRepository.save(any(User.class))).willAnswer(inv -> inv.getArgument(0));
+            given(userRepository.insertIfEmailAbsent(any(User.class))).willReturn(true);
             given(tokenRotationService.generateTokens(any(), any())).willReturn(tokenPair);
             given(tokenGenerator.getRefreshTokenExpiry())
                     .willReturn(LocalDateTime.now().plusDays(7));
@@ -170,6 +224,48 @@ class AuthApplicationServiceTest {
             verify(userRepository).updateLastLoginAt(any(UserId.class), any(LocalDateTime.class));
         }
 
+        @Test
+        @DisplayName("authenticates and signs tokens before opening the write transaction")
+        void authenticatesBeforeOpeningTransaction() {
+            LoginCommand command = new LoginCommand("user@example.com", "Password123");
+            User user = createTestUser();
+
+            given(authenticationService.authenticate(any(Email.class), eq("Password123")))
+                    .willReturn(user);
+            given(tokenRotationService.generateTokens(any(User.class), any(TokenFamily.class)))
+                    .willReturn(new TokenPair("access-token", "refresh-token"));
+            given(tokenGenerator.getRefreshTokenExpiry())
+                    .willReturn(LocalDateTime.now().plusDays(7));
+
+            authApplicationService.login(command);
+
+            InOrder inOrder = inOrder(
+                    authenticationService,
+                    tokenRotationService,
+                    transactionManager,
+                    userRepository,
+                    refreshTokenRepository);
+            inOrder.verify(authenticationService).authenticate(any(Email.class), eq("Password123"));
+            inOrder.verify(tokenRotationService).generateTokens(any(User.class), any(TokenFamily.class));
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(userRepository).updateLastLoginAt(any(UserId.class), any(LocalDateTime.class));
+            inOrder.verify(refreshTokenRepository).save(any(RefreshToken.class));
+            inOrder.verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("does not open a transaction when credentials are invalid")
+        void doesNotOpenTransactionWhenCredentialsAreInvalid() {
+            LoginCommand command = new LoginCommand("user@example.com", "wrong-password");
+
+            given(authenticationService.authenticate(any(Email.class), any()))
+                    .willThrow(new AuthenticationException("Invalid email or password"));
+
+            assertThatThrownBy(() -> authApplicationService.login(command)).isInstanceOf(AuthenticationException.class);
+
+            verify(transactionManager, never()).getTransaction(any());
+        }
+
         @Test
         @DisplayName("throws AuthenticationException when credentials are invalid")
         void throwsWhenCredentialsAreInvalid() {
@@ -180,6 +276,69 @@ class AuthApplicationServiceTest {
 
             assertThatThrownBy(() -> authApplicationService.login(command)).isInstanceOf(AuthenticationException.class);
         }
+
+        @Test
+        @DisplayName("publishes UserLoggedInEvent with the client info after a successful login")
+        void publishesLoggedInEvent() {
+            LoginCommand command = new LoginCommand("user@example.com", "Password123", "10.0.0.1", "curl/8.0");
+            User user = createTestUser();
+
+            given(authenticationService.authenticate(any(Email.class), eq("Password123")))
+                    .willReturn(user);
+            given(tokenRotationService.generateTokens(any(User.class), any(TokenFamily.class)))
+                    .willReturn(new TokenPair("access-token", "refresh-token"));
+            given(tokenGenerator.getRefreshTokenExpiry())
+                    .willReturn(LocalDateTime.now().plusDays(7));
+
+            authApplicationService.login(command);
+
+            ArgumentCaptor<UserLoggedInEvent> event = ArgumentCaptor.forClass(UserLoggedInEvent.class);
+            verify(eventPublisher).publish(event.capture());
+            assertThat(event.getValue().userId()).isEqualTo(user.getId().value());
+            assertThat(event.getValue().ipAddress()).isEqualTo("10.0.0.1");
+            assertThat(event.getValue().userAgent()).isEqualTo("curl/8.0");
+        }
+
+        @Test
+        @DisplayName("publishes LoginFailedEvent when credentials are invalid")
+        void publishesLoginFailedEvent() {
+            LoginCommand command = new LoginCommand("user@example.com", "wrong-password", "10.0.0.1", null);
+
+            given(authenticationService.authenticate(any(Email.class), any()))
+                    .willThrow(new AuthenticationException("Invalid email or password"));
+
+            assertThatThrownBy(() -> authApplicationService.login(command)).isInstanceOf(AuthenticationException.class);
+
+            ArgumentCaptor<LoginFailedEvent> event = ArgumentCaptor.forClass(LoginFailedEvent.class);
+            verify(eventPublisher).publish(event.capture());
+            assertThat(event.getValue().email()).isEqualTo("user@example.com");
+            assertThat(event.getValue().ipAddress()).isEqualTo("10.0.0.1");
+        }
+
+        @Test
+        @DisplayName("counts invalid credentials as the login outcome")
+        void countsInvalidCredentials() {
+            LoginCommand command = new LoginCommand("user@example.com", "wrong-password");
+
+            given(authenticationService.authenticate(any(Email.class), any()))
+                    .willThrow(new AuthenticationException("Invalid email or password"));
+
+            assertThatThrownBy(() -> authApplicationService.login(command)).isInstanceOf(AuthenticationException.class);
+
+            assertThat(meterRegistry
+                            .get(AuthMetrics.OUTCOME_METRIC)
+                            .tag("operation", "login")
+                            .tag("outcome", "invalid_credentials")
+                            .counter()
+                            .count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry
+                            .get(AuthMetrics.OPERATION_METRIC)
+                            .tag("operation", "login")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
     }
 
     @Nested
@@ -305,6 +464,65 @@ class AuthApplicationServiceTest {
 
             verify(refreshTokenRepository, never()).deleteByTokenFamily(any());
         }
+
+        @Test
+        @DisplayName("replays the rotation result to a duplicate refresh of the same token")
+        void replaysResultToDuplicateRefresh() {
+            RefreshTokenCommand command = new RefreshTokenCommand("valid-refresh-token");
+            User user = createTestUser();
+            TokenFamily family = TokenFamily.generate();
+            RefreshToken storedToken = RefreshToken.create(
+                    "valid-refresh-token",
+                    family,
+                    user.getId(),
+                    LocalDateTime.now().plusDays(7));
+            TokenGenerator.RefreshTokenClaims claims = new TokenGenerator.RefreshTokenClaims(user.getId(), family);
+
+            given(tokenGenerator.validateRefreshToken("valid-refresh-token")).willReturn(claims);
+            given(refreshTokenRepository.findByTokenExclusively("valid-refresh-token"))
+                    .willReturn(Optional.of(storedToken));
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+            given(tokenRotationService.rotate(any(RefreshToken.class), any(User.class)))
+                    .willReturn(new TokenPair("new-access", "new-refresh"));
+            given(tokenGenerator.getRefreshTokenExpiry())
+                    .willReturn(LocalDateTime.now().plusDays(7));
+
+            AuthResult first = authApplicationService.refreshTokens(command);
+            AuthResult duplicate = authApplicationService.refreshTokens(command);
+
+            assertThat(duplicate).isSameAs(first);
+            verify(tokenRotationService).rotate(any(RefreshToken.class), any(User.class));
+            verify(refreshTokenRepository).deleteByToken("valid-refresh-token");
+        }
+
+        @Test
+        @DisplayName("retries a serialization failure instead of revoking the token family")
+        void retriesSerializationFailure() {
+            RefreshTokenCommand command = new RefreshTokenCommand("contended-token");
+            User user = createTestUser();
+            TokenFamily family = TokenFamily.generate();
+            RefreshToken storedToken = RefreshToken.create(
+                    "contended-token", family, user.getId(), LocalDateTime.now().plusDays(7));
+            TokenGenerator.RefreshTokenClaims claims = new TokenGenerator.RefreshTokenClaims(user.getId(), family);
+            RuntimeException serializationFailure = new RuntimeException(
+                    "could not serialize access", new SQLException("serialization failure", "40001"));
+
+            given(tokenGenerator.validateRefreshToken("contended-token")).willReturn(claims);
+            given(refreshTokenRepository.findByTokenExclusively("contended-token"))
+                    .willThrow(serializationFailure)
+                    .willReturn(Optional.of(storedToken));
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+            given(tokenRotationService.rotate(any(RefreshToken.class), any(User.class)))
+                    .willReturn(new TokenPair("new-access", "new-refresh"));
+            given(tokenGenerator.getRefreshTokenExpiry())
+                    .willReturn(LocalDateTime.now().plusDays(7));
+
+            AuthResult result = authApplicationService.refreshTokens(command);
+
+            assertThat(result.refreshToken()).isEqualTo("new-refresh");
+            verify(transactionManager).rollback(any());
+            verify(refreshTokenRepository, never()).deleteByTokenFamily(any());
+        }
     }
 
     @Nested
@@ -3,21 +3,32 @@ package org.nkcoder.user.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.nkcoder.infrastructure.config.UserLookupProperties;
+import org.nkcoder.infrastructure.jdbc.StatementBudgetMonitor;
+import org.nkcoder.infrastructure.jdbc.StatementCountingProperties;
+import org.nkcoder.infrastructure.transaction.TransactionRetryProperties;
+import org.nkcoder.infrastructure.transaction.TransactionRunner;
 import org.nkcoder.shared.kernel.domain.event.DomainEvent;
 import org.nkcoder.shared.kernel.domain.event.DomainEventPublisher;
 import org.nkcoder.shared.kernel.exception.ResourceNotFoundException;
@@ -26,7 +37,9 @@ import org.nkcoder.user.application.dto.command.AdminResetPasswordCommand;
 import org.nkcoder.user.application.dto.command.AdminUpdateUserCommand;
 import org.nkcoder.user.application.dto.command.ChangePasswordCommand;
 import org.nkcoder.user.application.dto.command.UpdateProfileCommand;
+import org.nkcoder.user.application.dto.response.UserBatchDto;
 import org.nkcoder.user.application.dto.response.UserDto;
+import org.nkcoder.user.application.port.UserQueryRepository;
 import org.nkcoder.user.domain.model.Email;
 import org.nkcoder.user.domain.model.HashedPassword;
 import org.nkcoder.user.domain.model.User;
@@ -36,6 +49,7 @@ import org.nkcoder.user.domain.model.UserRole;
 import org.nkcoder.user.domain.repository.UserRepository;
 import org.nkcoder.user.domain.service.AuthenticationService;
 import org.nkcoder.user.domain.service.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserApplicationService")
@@ -44,6 +58,9 @@ class UserApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserQueryRepository userQueryRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -53,12 +70,26 @@ class UserApplicationServiceTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private UserApplicationService userApplicationService;
 
     @BeforeEach
     void setUp() {
-        userApplicationService =
-                new UserApplicationService(userRepository, passwordEncoder, authenticationService, eventPublisher);
+        userApplicationService = new UserApplicationService(
+                userRepository,
+                userQueryRepository,
+                passwordEncoder,
+                authenticationService,
+                eventPublisher,
+                new TransactionRunner(
+                        transactionManager,
+                        new SimpleMeterRegistry(),
+                        new TransactionRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new StatementBudgetMonitor(
+                                new StatementCountingProperties(null, 0, null, 0), new SimpleMeterRegistry())),
+                new UserLookupProperties(3));
     }
 
     private User createTestUser(UUID userId, String email, String name) {
@@ -82,9 +113,9 @@ class UserApplicationServiceTest {
         @DisplayName("returns user when found")
         void returnsUserWhenFound() {
             UUID userId = UUID.randomUUID();
-            User user = createTestUser(userId, "test@example.com", "Test User");
+            UserDto user = UserDto.from(createTestUser(userId, "test@example.com", "Test User"));
 
-            given(userRepository.findById(any(UserId.class))).willReturn(Optional.of(user));
+            given(userQueryRepository.findById(userId)).willReturn(Optional.of(user));
 
             UserDto result = userApplicationService.getUserById(userId);
 
@@ -99,12 +130,85 @@ class UserApplicationServiceTest {
         void throwsWhenUserNotFound() {
             UUID userId = UUID.randomUUID();
 
-            given(userRepository.findById(any(UserId.class))).willReturn(Optional.empty());
+            given(userQueryRepository.findById(userId)).willReturn(Optional.empty());
 
             assertThatThrownBy(() -> userApplicationService.getUserById(userId))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("User not found");
         }
+
+        @Test
+        @DisplayName("never loads the User aggregate")
+        void neverLoadsTheUserAggregate() {
+            UUID userId = UUID.randomUUID();
+            UserDto user = UserDto.from(createTestUser(userId, "test@example.com", "Test User"));
+
+            given(userQueryRepository.findById(userId)).willReturn(Optional.of(user));
+
+            userApplicationService.getUserById(userId);
+
+            verify(userRepository, never()).findById(any(UserId.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getUsersByIds")
+    class GetUsersByIds {
+
+        @Test
+        @DisplayName("returns found users in request order and reports missing IDs")
+        void preservesOrderAndReportsMissing() {
+            UUID first = UUID.randomUUID();
+            UUID missing = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UserDto firstUser = UserDto.from(createTestUser(first, "first@example.com", "First User"));
+            UserDto secondUser = UserDto.from(createTestUser(second, "second@example.com", "Second User"));
+
+            given(userQueryRepository.findAllByIds(any())).willReturn(List.of(secondUser, firstUser));
+
+            UserBatchDto result = userApplicationService.getUsersByIds(List.of(first, missing, second));
+
+            assertThat(result.users()).extracting(UserDto::id).containsExactly(first, second);
+            assertThat(result.missingIds()).containsExactly(missing);
+        }
+
+        @Test
+        @DisplayName("queries each ID once when duplicates are requested")
+        void collapsesDuplicates() {
+            UUID id = UUID.randomUUID();
+            UserDto user = UserDto.from(createTestUser(id, "user@example.com", "Test User"));
+
+            given(userQueryRepository.findAllByIds(any())).willReturn(List.of(user));
+
+            UserBatchDto result = userApplicationService.getUsersByIds(List.of(id, id, id));
+
+            assertThat(result.users()).hasSize(1);
+            verify(userQueryRepository).findAllByIds(Set.of(id));
+        }
+
+        @Test
+        @DisplayName("throws ValidationException when the batch is too large")
+        void throwsWhenBatchTooLarge() {
+            List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+            assertThatThrownBy(() -> userApplicationService.getUsersByIds(ids))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("At most 3");
+
+            verify(userQueryRepository, never()).findAllByIds(any());
+        }
+
+        @Test
+        @DisplayName("counts duplicates towards the batch size")
+        void countsDuplicates() {
+            UUID id = UUID.randomUUID();
+
+            assertThatThrownBy(() -> userApplicationService.getUsersByIds(List.of(id, id, id, id)))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("At most 3");
+
+            verify(userQueryRepository, never()).findAllByIds(any());
+        }
     }
 
     @Nested
@@ -114,10 +218,10 @@ class UserApplicationServiceTest {
         @Test
         @DisplayName("returns all users")
         void returnsAllUsers() {
-            User user1 = createTestUser(UUID.randomUUID(), "user1@example.com", "User One");
-            User user2 = createTestUser(UUID.randomUUID(), "user2@example.com", "User Two");
+            UserDto user1 = UserDto.from(createTestUser(UUID.randomUUID(), "user1@example.com", "User One"));
+            UserDto user2 = UserDto.from(createTestUser(UUID.randomUUID(), "user2@example.com", "User Two"));
 
-            given(userRepository.findAll()).willReturn(List.of(user1, user2));
+            given(userQueryRepository.findAll()).willReturn(List.of(user1, user2));
 
             List<UserDto> result = userApplicationService.getAllUsers();
 
@@ -128,7 +232,7 @@ class UserApplicationServiceTest {
         @Test
         @DisplayName("returns empty list when no users")
         void returnsEmptyListWhenNoUsers() {
-            given(userRepository.findAll()).willReturn(List.of());
+            given(userQueryRepository.findAll()).willReturn(List.of());
 
             List<UserDto> result = userApplicationService.getAllUsers();
 
@@ -184,11 +288,32 @@ class UserApplicationServiceTest {
             given(userRepository.findById(any(UserId.class))).willReturn(Optional.of(user));
             given(authenticationService.verifyPassword(any(User.class), any())).willReturn(true);
             given(passwordEncoder.encode(any())).willReturn(HashedPassword.of("new-hashed"));
-            given(userRepository.save(any(User.class))).willReturn(user);
 
             userApplicationService.changePassword(command);
 
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).updatePassword(eq(UserId.of(userId)), eq(HashedPassword.of("new-hashed")), any());
+            verify(userRepository, never()).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("hashes the new password before opening the write transaction")
+        void hashesBeforeOpeningTransaction() {
+            UUID userId = UUID.randomUUID();
+            User user = createTestUser(userId, "test@example.com", "Test User");
+            ChangePasswordCommand command = new ChangePasswordCommand(userId, "oldPass", "newPass");
+
+            given(userRepository.findById(any(UserId.class))).willReturn(Optional.of(user));
+            given(authenticationService.verifyPassword(any(User.class), any())).willReturn(true);
+            given(passwordEncoder.encode(any())).willReturn(HashedPassword.of("new-hashed"));
+
+            userApplicationService.changePassword(command);
+
+            InOrder inOrder = inOrder(authenticationService, passwordEncoder, transactionManager, userRepository);
+            inOrder.verify(authenticationService).verifyPassword(any(User.class), eq("oldPass"));
+            inOrder.verify(passwordEncoder).encode("newPass");
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(userRepository).updatePassword(any(), any(), any());
+            inOrder.verify(transactionManager).commit(any());
         }
 
         @Test
@@ -218,7 +343,8 @@ class UserApplicationServiceTest {
                     .isInstanceOf(ValidationException.class)
                     .hasMessageContaining("Current password is incorrect");
 
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).updatePassword(any(), any(), any());
+            verify(transactionManager, never()).getTransaction(any());
         }
     }
 
@@ -301,11 +427,11 @@ class UserApplicationServiceTest {
 
             given(userRepository.findById(any(UserId.class))).willReturn(Optional.of(user));
             given(passwordEncoder.encode(any())).willReturn(HashedPassword.of("new-hashed"));
-            given(userRepository.save(any(User.class))).willReturn(user);
 
             userApplicationService.adminResetPassword(command);
 
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).updatePassword(eq(UserId.of(userId)), eq(HashedPassword.of("new-hashed")), any());
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
@@ -0,0 +1,29 @@
+package org.nkcoder.user.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("BcryptPasswordEncoderAdapter")
+class BcryptPasswordEncoderAdapterTest {
+
+    @Test
+    @DisplayName("reads the cost factor of the stored hash rather than the configured strength")
+    void costOfStoredHash() {
+        String hash = new BCryptPasswordEncoder(4).encode("password");
+
+        assertThat(BcryptPasswordEncoderAdapter.costOf(hash)).isEqualTo(4);
+        assertThat(BcryptPasswordEncoderAdapter.costOf("$2b$10$" + "x".repeat(53)))
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("reports cost 0 for a value that is not a bcrypt hash")
+    void costOfMalformedHash() {
+        assertThat(BcryptPasswordEncoderAdapter.costOf(null)).isZero();
+        assertThat(BcryptPasswordEncoderAdapter.costOf("plain")).isZero();
+        assertThat(BcryptPasswordEncoderAdapter.costOf("$2a$xx$abc")).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package org.nkcoder.user.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.user.infrastructure.security.JwtAuthenticator.Rejection;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("JwtAuthenticationEntryPoint")
+class JwtAuthenticationEntryPointTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationEntryPoint entryPoint;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        entryPoint = new JwtAuthenticationEntryPoint(jsonMapper, meterRegistry);
+    }
+
+    private MockHttpServletResponse commence(Rejection stored) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        if (stored != null) {
+            request.setAttribute(JwtAuthenticationEntryPoint.REJECTION_ATTRIBUTE, stored);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        entryPoint.commence(request, response, new InsufficientAuthenticationException("Full authentication"));
+        return response;
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry
+                .get(JwtAuthenticationEntryPoint.REJECTED_METRIC)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("writes the pre-serialized body with the current timestamp")
+    void writesBodyWithTimestamp() throws Exception {
+        LocalDateTime before = LocalDateTime.now();
+
+        MockHttpServletResponse response = commence(Rejection.EXPIRED);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        JsonNode body = jsonMapper.readTree(response.getContentAsString());
+        assertThat(body.get("message").asString()).isEqualTo("Token has expired");
+        assertThat(body.get("data").isNull()).isTrue();
+        assertThat(LocalDateTime.parse(body.get("timestamp").asString())).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("answers requests without a recorded reason as missing authentication")
+    void defaultsToMissing() throws Exception {
+        MockHttpServletResponse response = commence(null);
+
+        assertThat(jsonMapper
+                        .readTree(response.getContentAsString())
+                        .get("message")
+                        .asString())
+                .isEqualTo("Authentication required");
+        assertThat(rejected("missing")).isEqualTo(1);
+        assertThat(rejected("invalid")).isZero();
+    }
+
+    @Test
+    @DisplayName("counts rejections by reason")
+    void countsByReason() throws Exception {
+        commence(Rejection.INVALID);
+        commence(Rejection.INVALID);
+        commence(Rejection.MALFORMED);
+
+        assertThat(rejected("invalid")).isEqualTo(2);
+        assertThat(rejected("malformed")).isEqualTo(1);
+        assertThat(rejected("missing")).isZero();
+    }
+}
@@ -0,0 +1,169 @@
+package org.nkcoder.user.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nkcoder.infrastructure.config.FastRejectProperties;
+import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.domain.model.Email;
+import org.nkcoder.user.domain.model.UserId;
+import org.nkcoder.user.domain.model.UserRole;
+import org.nkcoder.user.domain.service.TokenGenerator;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+import org.nkcoder.user.infrastructure.security.JwtAuthenticator.Rejection;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private TokenGenerator tokenGenerator;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+    private final AtomicReference<Authentication> seen = new AtomicReference<>();
+    private final FilterChain chain =
+            (request, response) -> seen.set(SecurityContextHolder.getContext().getAuthentication());
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(new JwtAuthenticator(
+                tokenGenerator, new AuthMetrics(meterRegistry), new FastRejectProperties(0, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        return request("GET", "/api/users/me", authorization);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("authenticates a valid token with the claims as principal and the role as authority")
+    void authenticatesValidToken() throws Exception {
+        AccessTokenClaims claims =
+                new AccessTokenClaims(UserId.generate(), Email.of("admin@example.com"), UserRole.ADMIN);
+        given(tokenGenerator.validateAccessToken("header.payload.signature")).willReturn(claims);
+        MockHttpServletRequest request = request("Bearer header.payload.signature");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(seen.get()).isInstanceOf(JwtAuthentication.class);
+        assertThat(seen.get().isAuthenticated()).isTrue();
+        assertThat(seen.get().getName()).isEqualTo("admin@example.com");
+        assertThat(seen.get().getPrincipal()).isEqualTo(claims);
+        assertThat(seen.get().getCredentials()).isNull();
+        assertThat(seen.get().getDetails()).isNull();
+        assertThat(seen.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+        assertThat(request.getAttribute("userId")).isEqualTo(claims.userId().value());
+    }
+
+    @Test
+    @DisplayName("shares the authorities of a role between requests")
+    void sharesAuthoritiesPerRole() {
+        JwtAuthentication first = new JwtAuthentication(
+                new AccessTokenClaims(UserId.generate(), Email.of("a@example.com"), UserRole.MEMBER));
+        JwtAuthentication second = new JwtAuthentication(
+                new AccessTokenClaims(UserId.generate(), Email.of("b@example.com"), UserRole.MEMBER));
+
+        assertThat(first.getAuthorities()).isSameAs(second.getAuthorities());
+        assertThatThrownBy(() -> first.setAuthenticated(false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("leaves requests with an invalid token anonymous and records the reason")
+    void ignoresInvalidToken() throws Exception {
+        given(tokenGenerator.validateAccessToken("bad.token.here"))
+                .willThrow(new AuthenticationException("Invalid access token"));
+        MockHttpServletRequest request = request("Bearer bad.token.here");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(seen.get()).isNull();
+        assertThat(request.getAttribute("userId")).isNull();
+        assertThat(request.getAttribute(JwtAuthenticationEntryPoint.REJECTION_ATTRIBUTE))
+                .isEqualTo(Rejection.INVALID);
+    }
+
+    @Test
+    @DisplayName("tells an expired token from an invalid one")
+    void recordsExpiredToken() throws Exception {
+        given(tokenGenerator.validateAccessToken("old.token.here"))
+                .willThrow(new AuthenticationException(
+                        "Invalid access token", new ExpiredJwtException(null, null, "JWT expired")));
+        MockHttpServletRequest request = request("Bearer old.token.here");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(request.getAttribute(JwtAuthenticationEntryPoint.REJECTION_ATTRIBUTE))
+                .isEqualTo(Rejection.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("records a malformed token without parsing it")
+    void recordsMalformedToken() throws Exception {
+        MockHttpServletRequest request = request("Bearer undefined");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(seen.get()).isNull();
+        assertThat(request.getAttribute(JwtAuthenticationEntryPoint.REJECTION_ATTRIBUTE))
+                .isEqualTo(Rejection.MALFORMED);
+        verifyNoInteractions(tokenGenerator);
+    }
+
+    @Test
+    @DisplayName("lets a public endpoint serve a request with a malformed token")
+    void passesMalformedTokenToPublicEndpoint() throws Exception {
+        MockHttpServletRequest request = request("POST", "/api/auth/login", "Bearer undefined");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        filter.doFilter(request, response, (req, res) -> chained.set(true));
+
+        assertThat(chained.get()).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(meterRegistry
+                        .find(JwtAuthenticationEntryPoint.REJECTED_METRIC)
+                        .counters())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("leaves requests without a bearer token anonymous")
+    void ignoresMissingToken() throws Exception {
+        filter.doFilter(request(null), new MockHttpServletResponse(), chain);
+
+        assertThat(seen.get()).isNull();
+    }
+}
@@ -0,0 +1,132 @@
+package org.nkcoder.user.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nkcoder.generated.grpc.AuthServiceGrpc;
+import org.nkcoder.generated.grpc.UserServiceGrpc;
+import org.nkcoder.infrastructure.config.FastRejectProperties;
+import org.nkcoder.infrastructure.grpc.GrpcInterceptorProperties;
+import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.user.application.metrics.AuthMetrics;
+import org.nkcoder.user.domain.model.Email;
+import org.nkcoder.user.domain.model.UserId;
+import org.nkcoder.user.domain.model.UserRole;
+import org.nkcoder.user.domain.service.TokenGenerator;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtGrpcAuthenticationInterceptor")
+class JwtGrpcAuthenticationInterceptorTest {
+
+    @Mock
+    private TokenGenerator tokenGenerator;
+
+    @Mock
+    private ServerCall<Object, Object> call;
+
+    private JwtGrpcAuthenticationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new JwtGrpcAuthenticationInterceptor(
+                new JwtAuthenticator(
+                        tokenGenerator, new AuthMetrics(new SimpleMeterRegistry()), new FastRejectProperties(0, null)),
+                new GrpcInterceptorProperties(List.of("org.nkcoder.grpc.AuthService/*"), Map.of(), null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void callTo(MethodDescriptor<?, ?> method) {
+        given(call.getMethodDescriptor()).willReturn((MethodDescriptor<Object, Object>) method);
+    }
+
+    private static Metadata bearer(String token) {
+        Metadata headers = new Metadata();
+        headers.put(JwtGrpcAuthenticationInterceptor.AUTHORIZATION, "Bearer " + token);
+        return headers;
+    }
+
+    @Test
+    @DisplayName("lets anonymous calls through to public methods")
+    void allowsPublicMethods() {
+        callTo(AuthServiceGrpc.getLoginMethod());
+        AtomicReference<Boolean> started = new AtomicReference<>(false);
+
+        interceptor.interceptCall(call, new Metadata(), handler(started, new AtomicReference<>()));
+
+        assertThat(started.get()).isTrue();
+        verify(call, never()).close(any(), any());
+    }
+
+    @Test
+    @DisplayName("closes calls to protected methods without a valid token as UNAUTHENTICATED")
+    void rejectsInvalidToken() {
+        callTo(UserServiceGrpc.getGetUsersMethod());
+        given(tokenGenerator.validateAccessToken("bad.token.here"))
+                .willThrow(new AuthenticationException("Invalid access token"));
+        AtomicReference<Boolean> started = new AtomicReference<>(false);
+
+        interceptor.interceptCall(call, bearer("bad.token.here"), handler(started, new AtomicReference<>()));
+
+        assertThat(started.get()).isFalse();
+        verify(call).close(argThat(status -> status.getCode() == Status.Code.UNAUTHENTICATED), any());
+    }
+
+    @Test
+    @DisplayName("exposes the authentication to the handler while it runs")
+    void setsSecurityContextAroundCallbacks() {
+        callTo(UserServiceGrpc.getGetUsersMethod());
+        given(tokenGenerator.validateAccessToken("header.payload.signature"))
+                .willReturn(new AccessTokenClaims(UserId.generate(), Email.of("admin@example.com"), UserRole.ADMIN));
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        ServerCall.Listener<Object> listener = interceptor.interceptCall(
+                call, bearer("header.payload.signature"), handler(new AtomicReference<>(false), seen));
+        listener.onHalfClose();
+
+        assertThat(seen.get()).isNotNull();
+        assertThat(seen.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    /** Handler that records whether it was started and which authentication its half-close callback saw. */
+    private static ServerCallHandler<Object, Object> handler(
+            AtomicReference<Boolean> started, AtomicReference<Authentication> seenOnHalfClose) {
+        return (call, headers) -> {
+            started.set(true);
+            return new ServerCall.Listener<>() {
+                @Override
+                public void onHalfClose() {
+                    seenOnHalfClose.set(SecurityContextHolder.getContext().getAuthentication());
+                }
+            };
+        };
+    }
+}
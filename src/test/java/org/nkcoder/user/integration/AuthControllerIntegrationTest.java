@@ -2,6 +2,7 @@ package org.nkcoder.user.integration;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -15,8 +16,11 @@ import org.nkcoder.infrastructure.config.IntegrationTest;
 import org.nkcoder.user.application.dto.response.AuthResult;
 import org.nkcoder.user.application.service.AuthApplicationService;
 import org.nkcoder.user.application.service.UserApplicationService;
+import org.nkcoder.user.domain.model.Email;
+import org.nkcoder.user.domain.model.UserId;
 import org.nkcoder.user.domain.model.UserRole;
 import org.nkcoder.user.domain.service.TokenGenerator;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
@@ -84,6 +88,24 @@ public class AuthControllerIntegrationTest {
                     .andExpect(status().isOk());
         }
 
+        @Test
+        @DisplayName("login endpoint is accessible with a malformed bearer token")
+        void loginIgnoresMalformedToken() throws Exception {
+            AuthResult authResult = createAuthResult();
+            given(authService.login(any())).willReturn(authResult);
+
+            mockMvc.perform(post("/api/auth/login")
+                            .header("Authorization", "Bearer undefined")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                  "email": "test@example.com",
+                                  "password": "Password123"
+                                }
+                                """))
+                    .andExpect(status().isOk());
+        }
+
         @Test
         @DisplayName("refresh endpoint is accessible without authentication")
         void refreshIsPublic() throws Exception {
@@ -160,6 +182,39 @@ public class AuthControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Contention Endpoint")
+    class ContentionEndpoint {
+
+        private String tokenFor(UserRole role) {
+            String token = "header.payload-" + role.name() + ".signature";
+            given(tokenGenerator.validateAccessToken(token))
+                    .willReturn(new AccessTokenClaims(UserId.generate(), Email.of("test@example.com"), role));
+            return "Bearer " + token;
+        }
+
+        @Test
+        @DisplayName("GET /actuator/contention returns 403 for MEMBER")
+        void readRequiresAdmin() throws Exception {
+            mockMvc.perform(get("/actuator/contention").header("Authorization", tokenFor(UserRole.MEMBER)))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("DELETE /actuator/contention returns 403 for MEMBER")
+        void resetRequiresAdmin() throws Exception {
+            mockMvc.perform(delete("/actuator/contention").header("Authorization", tokenFor(UserRole.MEMBER)))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("GET /actuator/contention is served for ADMIN")
+        void readableByAdmin() throws Exception {
+            mockMvc.perform(get("/actuator/contention").header("Authorization", tokenFor(UserRole.ADMIN)))
+                    .andExpect(status().isOk());
+        }
+    }
+
     private AuthResult createAuthResult() {
         return new AuthResult(UUID.randomUUID(), "test@example.com", UserRole.MEMBER, "access-token", "refresh-token");
     }
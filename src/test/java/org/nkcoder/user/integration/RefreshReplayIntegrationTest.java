@@ -0,0 +1,109 @@
+package org.nkcoder.user.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.infrastructure.config.TestContainersConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Refresh with the replay window enabled, as shipped. The test profile turns replay off so that the other flows see a
+ * rotated token rejected right away; this class turns it back on.
+ */
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = "single-flight.instances.refresh.replay-window=30s")
+@AutoConfigureWebTestClient
+@Import(TestContainersConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Refresh replay")
+class RefreshReplayIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String register() {
+        AtomicReference<String> refreshToken = new AtomicReference<>();
+        webTestClient
+                .post()
+                .uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                    {
+                      "email": "replay@example.com",
+                      "password": "Password123",
+                      "name": "Replay Test User",
+                      "role": "MEMBER"
+                    }
+                    """)
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.data.tokens.refreshToken")
+                .value(String.class, refreshToken::set);
+        return refreshToken.get();
+    }
+
+    private String[] refresh(String refreshToken) {
+        AtomicReference<String> accessToken = new AtomicReference<>();
+        AtomicReference<String> newRefreshToken = new AtomicReference<>();
+        webTestClient
+                .post()
+                .uri("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                    {
+                      "refreshToken": "%s"
+                    }
+                    """.formatted(refreshToken))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.tokens.accessToken")
+                .value(String.class, accessToken::set)
+                .jsonPath("$.data.tokens.refreshToken")
+                .value(String.class, newRefreshToken::set);
+        return new String[] {accessToken.get(), newRefreshToken.get()};
+    }
+
+    private double replayed() {
+        return meterRegistry
+                .get("single_flight.calls")
+                .tag("name", "refresh")
+                .tag("result", "replayed")
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("answers a repeated refresh within the window with the same token pair")
+    void replaysRotation() {
+        String refreshToken = register();
+        double replayedBefore = replayed();
+
+        String[] first = refresh(refreshToken);
+        String[] repeated = refresh(refreshToken);
+
+        assertThat(repeated).containsExactly(first);
+        assertThat(replayed()).isEqualTo(replayedBefore + 1);
+
+        // The replayed refresh token is the one stored by the single rotation, so it rotates normally
+        String[] next = refresh(repeated[1]);
+        assertThat(next[1]).isNotEqualTo(first[1]);
+    }
+}
@@ -0,0 +1,106 @@
+package org.nkcoder.user.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.nkcoder.infrastructure.jdbc.StatementBudget.assertAtMost;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nkcoder.infrastructure.config.TestContainersConfiguration;
+import org.nkcoder.user.application.dto.command.LoginCommand;
+import org.nkcoder.user.application.dto.command.RefreshTokenCommand;
+import org.nkcoder.user.application.dto.command.RegisterCommand;
+import org.nkcoder.user.application.dto.command.UpdateProfileCommand;
+import org.nkcoder.user.application.dto.response.AuthResult;
+import org.nkcoder.user.application.service.AuthApplicationService;
+import org.nkcoder.user.application.service.UserApplicationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Query budgets of the hot use cases. Each budget is the number of statements the use case issues today; a change that
+ * adds a query has to raise the budget here, on purpose.
+ *
+ * <p>Not {@code @Transactional}: with a test-managed transaction Hibernate would flush after the assertion and the
+ * writes would not be counted.
+ */
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("SQL statement budgets")
+class StatementBudgetIntegrationTest {
+
+    // insert-if-absent, event publication, refresh token exists check and insert
+    private static final int REGISTER_BUDGET = 4;
+    // user by email, last login update, refresh token exists check and insert
+    private static final int LOGIN_BUDGET = 4;
+    // locked token, user, token delete, new token exists check and insert
+    private static final int REFRESH_BUDGET = 5;
+    // one projection query
+    private static final int GET_USER_BUDGET = 1;
+    // user, exists check, merge select, update, event publication
+    private static final int UPDATE_PROFILE_BUDGET = 5;
+
+    @Autowired
+    private AuthApplicationService authService;
+
+    @Autowired
+    private UserApplicationService userService;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "budget-" + UUID.randomUUID() + "@example.com";
+    }
+
+    private AuthResult register() {
+        return authService.register(new RegisterCommand(email, "Password123", "Budget User"));
+    }
+
+    @Test
+    @DisplayName("register")
+    void registerStaysWithinBudget() {
+        AuthResult result = assertAtMost(REGISTER_BUDGET, this::register);
+
+        assertThat(result.email()).isEqualTo(email);
+    }
+
+    @Test
+    @DisplayName("login")
+    void loginStaysWithinBudget() {
+        register();
+
+        assertAtMost(LOGIN_BUDGET, () -> authService.login(new LoginCommand(email, "Password123")));
+    }
+
+    @Test
+    @DisplayName("refreshTokens")
+    void refreshTokensStaysWithinBudget() {
+        AuthResult registered = register();
+
+        assertAtMost(
+                REFRESH_BUDGET, () -> authService.refreshTokens(new RefreshTokenCommand(registered.refreshToken())));
+    }
+
+    @Test
+    @DisplayName("getUserById")
+    void getUserByIdStaysWithinBudget() {
+        AuthResult registered = register();
+
+        assertAtMost(GET_USER_BUDGET, () -> userService.getUserById(registered.userId()));
+    }
+
+    @Test
+    @DisplayName("updateProfile")
+    void updateProfileStaysWithinBudget() {
+        AuthResult registered = register();
+
+        assertAtMost(
+                UPDATE_PROFILE_BUDGET,
+                () -> userService.updateProfile(new UpdateProfileCommand(registered.userId(), "Renamed User")));
+    }
+}
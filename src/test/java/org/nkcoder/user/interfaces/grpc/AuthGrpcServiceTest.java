@@ -0,0 +1,264 @@
+package org.nkcoder.user.interfaces.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nkcoder.generated.grpc.AuthProto;
+import org.nkcoder.shared.kernel.exception.AuthenticationException;
+import org.nkcoder.shared.kernel.exception.ValidationException;
+import org.nkcoder.user.application.dto.command.RegisterCommand;
+import org.nkcoder.user.application.dto.response.AuthResult;
+import org.nkcoder.user.application.service.AuthApplicationService;
+import org.nkcoder.user.domain.model.Email;
+import org.nkcoder.user.domain.model.UserId;
+import org.nkcoder.user.domain.model.UserRole;
+import org.nkcoder.user.domain.service.TokenGenerator.AccessTokenClaims;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthGrpcService")
+class AuthGrpcServiceTest {
+
+    @Mock
+    private AuthApplicationService authService;
+
+    @Mock
+    private StreamObserver<AuthProto.ApiResponse> apiResponseObserver;
+
+    private AuthGrpcService grpcService;
+
+    @BeforeEach
+    void setUp() {
+        grpcService = new AuthGrpcService(authService, new GrpcAuthMapper());
+    }
+
+    private static AuthResult authResult() {
+        return new AuthResult(UUID.randomUUID(), "user@example.com", UserRole.MEMBER, "access", "refresh");
+    }
+
+    private AuthProto.ApiResponse capturedResponse() {
+        ArgumentCaptor<AuthProto.ApiResponse> captor = ArgumentCaptor.forClass(AuthProto.ApiResponse.class);
+        verify(apiResponseObserver).onNext(captor.capture());
+        verify(apiResponseObserver).onCompleted();
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("register")
+    class Register {
+
+        @Test
+        @DisplayName("registers the user and returns tokens")
+        void registersUser() {
+            AuthResult result = authResult();
+            given(authService.register(any(RegisterCommand.class))).willReturn(result);
+
+            grpcService.register(
+                    AuthProto.RegisterRequest.newBuilder()
+                            .setEmail(" User@Example.com ")
+                            .setPassword("Password123")
+                            .setName("New User")
+                            .build(),
+                    apiResponseObserver);
+
+            AuthProto.ApiResponse response = capturedResponse();
+            assertThat(response.getData().getUser().getId())
+                    .isEqualTo(result.userId().toString());
+            assertThat(response.getData().getUser().getRole()).isEqualTo("MEMBER");
+            assertThat(response.getData().getAuthToken().getRefreshToken()).isEqualTo("refresh");
+
+            ArgumentCaptor<RegisterCommand> command = ArgumentCaptor.forClass(RegisterCommand.class);
+            verify(authService).register(command.capture());
+            assertThat(command.getValue().email()).isEqualTo("user@example.com");
+            assertThat(command.getValue().role()).isEqualTo(UserRole.MEMBER);
+        }
+
+        @Test
+        @DisplayName("rejects a weak password before calling the application service")
+        void rejectsWeakPassword() {
+            AuthProto.RegisterRequest request = AuthProto.RegisterRequest.newBuilder()
+                    .setEmail("user@example.com")
+                    .setPassword("password")
+                    .setName("New User")
+                    .build();
+
+            assertThatThrownBy(() -> grpcService.register(request, apiResponseObserver))
+                    .isInstanceOf(ValidationException.class);
+
+            verify(authService, never()).register(any());
+            verify(apiResponseObserver, never()).onNext(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("logout")
+    class Logout {
+
+        @Mock
+        private StreamObserver<AuthProto.LogoutResponse> logoutObserver;
+
+        @Test
+        @DisplayName("revokes the token family when all devices is requested")
+        void logsOutAllDevices() {
+            grpcService.logout(
+                    AuthProto.LogoutRequest.newBuilder()
+                            .setRefreshToken("token")
+                            .setAllDevices(true)
+                            .build(),
+                    logoutObserver);
+
+            verify(authService).logout("token");
+            verify(authService, never()).logoutSingle(any());
+            verify(logoutObserver).onCompleted();
+        }
+
+        @Test
+        @DisplayName("revokes only the given token otherwise")
+        void logsOutSingleDevice() {
+            grpcService.logout(
+                    AuthProto.LogoutRequest.newBuilder()
+                            .setRefreshToken("token")
+                            .build(),
+                    logoutObserver);
+
+            verify(authService).logoutSingle("token");
+            verify(authService, never()).logout(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("validateToken")
+    class ValidateToken {
+
+        @Mock
+        private StreamObserver<AuthProto.ValidateTokenResponse> validateObserver;
+
+        @Test
+        @DisplayName("returns the claims of a valid access token")
+        void returnsClaims() {
+            UserId userId = UserId.generate();
+            given(authService.validateAccessToken("access"))
+                    .willReturn(new AccessTokenClaims(userId, Email.of("user@example.com"), UserRole.ADMIN));
+
+            grpcService.validateToken(
+                    AuthProto.ValidateTokenRequest.newBuilder()
+                            .setAccessToken("access")
+                            .build(),
+                    validateObserver);
+
+            ArgumentCaptor<AuthProto.ValidateTokenResponse> captor =
+                    ArgumentCaptor.forClass(AuthProto.ValidateTokenResponse.class);
+            verify(validateObserver).onNext(captor.capture());
+            assertThat(captor.getValue().getUserId()).isEqualTo(userId.value().toString());
+            assertThat(captor.getValue().getRole()).isEqualTo("ADMIN");
+        }
+
+        @Test
+        @DisplayName("propagates an invalid token as AuthenticationException")
+        void propagatesInvalidToken() {
+            given(authService.validateAccessToken("bad"))
+                    .willThrow(new AuthenticationException("Invalid access token"));
+
+            assertThatThrownBy(() -> grpcService.validateToken(
+                            AuthProto.ValidateTokenRequest.newBuilder()
+                                    .setAccessToken("bad")
+                                    .build(),
+                            validateObserver))
+                    .isInstanceOf(AuthenticationException.class);
+            verify(validateObserver, never()).onNext(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("validateTokens")
+    class ValidateTokens {
+
+        @Mock
+        private ServerCallStreamObserver<AuthProto.ValidateTokensResponse> streamObserver;
+
+        private StreamObserver<AuthProto.ValidateTokensRequest> openStream() {
+            StreamObserver<AuthProto.ValidateTokensRequest> requests = grpcService.validateTokens(streamObserver);
+            verify(streamObserver).disableAutoRequest();
+            return requests;
+        }
+
+        private Runnable onReadyHandler() {
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(streamObserver).setOnReadyHandler(captor.capture());
+            return captor.getValue();
+        }
+
+        private static AuthProto.ValidateTokensRequest request(String correlationId, String token) {
+            return AuthProto.ValidateTokensRequest.newBuilder()
+                    .setCorrelationId(correlationId)
+                    .setAccessToken(token)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("answers each token on the stream, reporting invalid ones as error results")
+        void answersEachToken() {
+            UserId userId = UserId.generate();
+            given(streamObserver.isReady()).willReturn(true);
+            given(authService.validateAccessToken("access"))
+                    .willReturn(new AccessTokenClaims(userId, Email.of("user@example.com"), UserRole.MEMBER));
+            given(authService.validateAccessToken("bad"))
+                    .willThrow(new AuthenticationException("Invalid access token"));
+            StreamObserver<AuthProto.ValidateTokensRequest> requests = openStream();
+
+            requests.onNext(request("1", "access"));
+            requests.onNext(request("2", "bad"));
+            requests.onNext(request("3", " "));
+            requests.onCompleted();
+
+            ArgumentCaptor<AuthProto.ValidateTokensResponse> captor =
+                    ArgumentCaptor.forClass(AuthProto.ValidateTokensResponse.class);
+            verify(streamObserver, times(3)).onNext(captor.capture());
+            verify(streamObserver).onCompleted();
+            List<AuthProto.ValidateTokensResponse> responses = captor.getAllValues();
+            assertThat(responses.get(0).getCorrelationId()).isEqualTo("1");
+            assertThat(responses.get(0).getClaims().getUserId())
+                    .isEqualTo(userId.value().toString());
+            assertThat(responses.get(1).getError().getCode()).isEqualTo("UNAUTHENTICATED");
+            assertThat(responses.get(2).getError().getCode()).isEqualTo("INVALID_ARGUMENT");
+        }
+
+        @Test
+        @DisplayName("requests the next token only while the client keeps up")
+        void respectsBackpressure() {
+            given(authService.validateAccessToken(any()))
+                    .willReturn(
+                            new AccessTokenClaims(UserId.generate(), Email.of("user@example.com"), UserRole.MEMBER));
+            StreamObserver<AuthProto.ValidateTokensRequest> requests = openStream();
+            Runnable onReady = onReadyHandler();
+
+            given(streamObserver.isReady()).willReturn(true);
+            onReady.run();
+            verify(streamObserver, times(1)).request(1);
+
+            given(streamObserver.isReady()).willReturn(false);
+            requests.onNext(request("1", "access"));
+            verify(streamObserver, times(1)).request(1);
+
+            given(streamObserver.isReady()).willReturn(true);
+            onReady.run();
+            verify(streamObserver, times(2)).request(1);
+        }
+    }
+}
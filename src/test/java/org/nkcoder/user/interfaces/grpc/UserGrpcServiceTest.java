@@ -0,0 +1,157 @@
+package org.nkcoder.user.interfaces.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.grpc.stub.StreamObserver;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nkcoder.generated.grpc.UserProto;
+import org.nkcoder.shared.kernel.exception.ValidationException;
+import org.nkcoder.user.application.dto.response.UserBatchDto;
+import org.nkcoder.user.application.dto.response.UserDto;
+import org.nkcoder.user.application.service.UserApplicationService;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserGrpcService")
+class UserGrpcServiceTest {
+
+    @Mock
+    private UserApplicationService userService;
+
+    @Mock
+    private StreamObserver<UserProto.GetUsersResponse> responseObserver;
+
+    private UserGrpcService grpcService;
+
+    @BeforeEach
+    void setUp() {
+        grpcService = new UserGrpcService(userService);
+    }
+
+    @Test
+    @DisplayName("returns found users and missing IDs")
+    void returnsUsersAndMissingIds() {
+        UUID found = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        UserDto user = new UserDto(found, "user@example.com", "Test User", "MEMBER", false, now, now, now);
+        given(userService.getUsersByIds(List.of(found, missing)))
+                .willReturn(new UserBatchDto(List.of(user), List.of(missing)));
+
+        grpcService.getUsers(
+                UserProto.GetUsersRequest.newBuilder()
+                        .addIds(found.toString())
+                        .addIds(missing.toString())
+                        .build(),
+                responseObserver);
+
+        ArgumentCaptor<UserProto.GetUsersResponse> captor = ArgumentCaptor.forClass(UserProto.GetUsersResponse.class);
+        verify(responseObserver).onNext(captor.capture());
+        verify(responseObserver).onCompleted();
+        UserProto.GetUsersResponse response = captor.getValue();
+        assertThat(response.getUsersList()).singleElement().satisfies(message -> {
+            assertThat(message.getId()).isEqualTo(found.toString());
+            assertThat(message.getName()).isEqualTo("Test User");
+            assertThat(message.hasLastLoginAt()).isTrue();
+        });
+        assertThat(response.getMissingIdsList()).containsExactly(missing.toString());
+    }
+
+    @Test
+    @DisplayName("rejects malformed IDs before querying")
+    void rejectsMalformedIds() {
+        UserProto.GetUsersRequest request =
+                UserProto.GetUsersRequest.newBuilder().addIds("not-a-uuid").build();
+
+        assertThatThrownBy(() -> grpcService.getUsers(request, responseObserver))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("not-a-uuid");
+
+        verifyNoInteractions(userService);
+    }
+
+    @Nested
+    @DisplayName("method security")
+    class MethodSecurity {
+
+        private UserGrpcService secured;
+
+        @BeforeEach
+        void setUp() {
+            // Same advice @EnableMethodSecurity applies to the bean
+            ProxyFactory factory = new ProxyFactory(grpcService);
+            factory.setProxyTargetClass(true);
+            factory.addAdvisor(AuthorizationManagerBeforeMethodInterceptor.preAuthorize());
+            secured = (UserGrpcService) factory.getProxy();
+        }
+
+        @AfterEach
+        void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+
+        private void authenticateAs(String role) {
+            SecurityContextHolder.getContext()
+                    .setAuthentication(new TestingAuthenticationToken("user", null, "ROLE_" + role));
+        }
+
+        private UserProto.GetUsersRequest request() {
+            return UserProto.GetUsersRequest.newBuilder()
+                    .addIds(UUID.randomUUID().toString())
+                    .build();
+        }
+
+        @Test
+        @DisplayName("rejects anonymous calls without reading users")
+        void rejectsAnonymous() {
+            assertThatThrownBy(() -> secured.getUsers(request(), responseObserver))
+                    .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+
+            verifyNoInteractions(userService, responseObserver);
+        }
+
+        @Test
+        @DisplayName("rejects non-admin callers without reading users")
+        void rejectsMembers() {
+            authenticateAs("MEMBER");
+
+            assertThatThrownBy(() -> secured.getUsers(request(), responseObserver))
+                    .isInstanceOf(AccessDeniedException.class);
+
+            verifyNoInteractions(userService, responseObserver);
+        }
+
+        @Test
+        @DisplayName("serves admins")
+        void servesAdmins() {
+            authenticateAs("ADMIN");
+            UserProto.GetUsersRequest request = request();
+            UUID id = UUID.fromString(request.getIds(0));
+            given(userService.getUsersByIds(List.of(id))).willReturn(new UserBatchDto(List.of(), List.of(id)));
+
+            secured.getUsers(request, responseObserver);
+
+            verify(responseObserver).onCompleted();
+        }
+    }
+}